@@ -349,6 +349,19 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 	 */
 	protected double[] vals;
 
+	/**
+	 * This is the position of this number's values within vals. It is zero unless
+	 * the number is a view of a larger array owned by something else. A Scale
+	 * lends out its weights that way.
+	 */
+	protected int offset;
+
+	/**
+	 * This is told about every write made through a view whose owner needs to
+	 * know. It is null for numbers that own their values.
+	 */
+	protected Runnable onWrite;
+
 	/**
 	 * Basic Constructor with no values to initialize.
 	 */
@@ -438,6 +451,39 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 		setImg(pI);
 	}
 
+	/**
+	 * View Constructor that shares the offered array instead of allocating one.
+	 * The real and imaginary values of this number are read from and written to
+	 * pVals starting at pOffset, so changes made through this number show up in
+	 * the array and the reverse. It is how a Scale lends out the weights it
+	 * keeps in one primitive array.
+	 * <p>
+	 * @param pT      Cardinal
+	 * @param pVals   double[] array that holds the values
+	 * @param pOffset int position of the real value in pVals
+	 */
+	public ComplexD(Cardinal pT, double[] pVals, int pOffset) {
+		super(pT);
+		vals = pVals;
+		offset = pOffset;
+	}
+
+	/**
+	 * View Constructor that also tells its owner about writes. It is the same as
+	 * the one above except that pOnWrite runs after every write made through
+	 * this number. A Scale uses it to learn that its weights changed behind its
+	 * back.
+	 * <p>
+	 * @param pT       Cardinal
+	 * @param pVals    double[] array that holds the values
+	 * @param pOffset  int position of the real value in pVals
+	 * @param pOnWrite Runnable to be run after each write or null
+	 */
+	public ComplexD(Cardinal pT, double[] pVals, int pOffset, Runnable pOnWrite) {
+		this(pT, pVals, pOffset);
+		onWrite = pOnWrite;
+	}
+
 	/**
 	 * This method adds real numbers together and changes this object to be the
 	 * result.
@@ -512,7 +558,7 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 	 * @return double
 	 */
 	public double getImg() {
-		return vals[1];
+		return vals[offset + 1];
 	}
 
 	/**
@@ -532,7 +578,7 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 	 * @return double
 	 */
 	public double getReal() {
-		return vals[0];
+		return vals[offset];
 	}
 
 	/**
@@ -545,8 +591,8 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 	@Override
 	public Double sqModulus() {
 		double tR = 0d;
-		for (double point : vals)
-			tR += point * point;
+		tR += getReal() * getReal();
+		tR += getImg() * getImg();
 		return Double.valueOf(tR);
 	}
 
@@ -607,7 +653,9 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 	 * @param pimg double
 	 */
 	public void setImg(double pimg) {
-		vals[1] = pimg;
+		vals[offset + 1] = pimg;
+		if (onWrite != null)
+			onWrite.run();
 	}
 
 	/**
@@ -616,7 +664,9 @@ public class ComplexD extends UnitAbstract implements Field, Normalizable {
 	 * @param preal double
 	 */
 	public void setReal(double preal) {
-		vals[0] = preal;
+		vals[offset] = preal;
+		if (onWrite != null)
+			onWrite.run();
 	}
 
 	/**
@@ -350,6 +350,19 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 	 */
 	protected float[] vals;
 
+	/**
+	 * This is the position of this number's values within vals. It is zero unless
+	 * the number is a view of a larger array owned by something else. A Scale
+	 * lends out its weights that way.
+	 */
+	protected int offset;
+
+	/**
+	 * This is told about every write made through a view whose owner needs to
+	 * know. It is null for numbers that own their values.
+	 */
+	protected Runnable onWrite;
+
 	/**
 	 * Basic Constructor with no values to initialize.
 	 */
@@ -440,6 +453,39 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 		setImg(pI);
 	}
 
+	/**
+	 * View Constructor that shares the offered array instead of allocating one.
+	 * The real and imaginary values of this number are read from and written to
+	 * pVals starting at pOffset, so changes made through this number show up in
+	 * the array and the reverse. It is how a Scale lends out the weights it
+	 * keeps in one primitive array.
+	 * <p>
+	 * @param pT      Cardinal
+	 * @param pVals   float[] array that holds the values
+	 * @param pOffset int position of the real value in pVals
+	 */
+	public ComplexF(Cardinal pT, float[] pVals, int pOffset) {
+		super(pT);
+		vals = pVals;
+		offset = pOffset;
+	}
+
+	/**
+	 * View Constructor that also tells its owner about writes. It is the same as
+	 * the one above except that pOnWrite runs after every write made through
+	 * this number. A Scale uses it to learn that its weights changed behind its
+	 * back.
+	 * <p>
+	 * @param pT       Cardinal
+	 * @param pVals    float[] array that holds the values
+	 * @param pOffset  int position of the real value in pVals
+	 * @param pOnWrite Runnable to be run after each write or null
+	 */
+	public ComplexF(Cardinal pT, float[] pVals, int pOffset, Runnable pOnWrite) {
+		this(pT, pVals, pOffset);
+		onWrite = pOnWrite;
+	}
+
 	/**
 	 * This method adds real numbers together and changes this object to be the
 	 * result.
@@ -514,7 +560,7 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 	 * @return float
 	 */
 	public float getImg() {
-		return vals[1];
+		return vals[offset + 1];
 	}
 
 	/**
@@ -534,7 +580,7 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 	 * @return float
 	 */
 	public float getReal() {
-		return vals[0];
+		return vals[offset];
 	}
 
 	/**
@@ -547,8 +593,8 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 	@Override
 	public Float sqModulus() {
 		float tR = 0f;
-		for (float point : vals)
-			tR += point * point;
+		tR += getReal() * getReal();
+		tR += getImg() * getImg();
 		return Float.valueOf(tR);
 	}
 
@@ -609,7 +655,9 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 	 * @param pimg float
 	 */
 	public void setImg(float pimg) {
-		vals[1] = pimg;
+		vals[offset + 1] = pimg;
+		if (onWrite != null)
+			onWrite.run();
 	}
 
 	/**
@@ -618,7 +666,9 @@ public class ComplexF extends UnitAbstract implements Field, Normalizable {
 	 * @param preal float
 	 */
 	public void setReal(float preal) {
-		vals[0] = preal;
+		vals[offset] = preal;
+		if (onWrite != null)
+			onWrite.run();
 	}
 
 	/**
@@ -78,8 +78,8 @@ public enum FBuilder {
 	public final static Cardinal createCardinal(String pName) {
 		Optional<Cardinal> test = FCache.INSTANCE.findCardinal(pName);
 		if (test.isEmpty()) {
-			test = Optional.ofNullable(Cardinal.generate(pName));
-			FCache.INSTANCE.appendCardinal(test.get());
+			FCache.INSTANCE.appendCardinal(Cardinal.generate(pName));
+			test = FCache.INSTANCE.findCardinal(pName); // Another thread's may have won
 		}
 		return test.get();
 	}
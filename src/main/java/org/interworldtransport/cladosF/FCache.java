@@ -24,15 +24,16 @@
  */
 package org.interworldtransport.cladosF;
 
-import java.util.ArrayList;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Any classes within CladosF which would benefit from a supporting cache make
  * use of this singleton enumeration as a 'builder'. Nothing fancy here
  * otherwise. Just simple create, append, find, and remove capabilities backed
- * by ArrayLists of cached objects.
+ * by a concurrent map of cached objects.
  * <p>
  * At present, the only thing in CladosF being cached is Cardinals. cladosG.Algebra
  * has its protonumber which is little more than a Cardinal. cladosG.Foot has its
@@ -42,6 +43,11 @@ import java.util.Set;
  * accomplished by setting the protonumber's Cardinal to one in this list BY REFERENCE
  * instead of by string.
  * <p>
+ * Cardinals are found by unit name through a concurrent map, so lookups are
+ * quick and safe from any thread. Changes to the cache are serialized so two
+ * threads appending the same name can't both succeed. A list in insertion order
+ * is kept alongside the map for getCardinal(int).
+ * <p>
  * Be aware that the list of cached objects is inheriently mutable. Alteration of an
  * object here alters it everywhere it is referenced. ALSO... because of this cache, 
  * it is unlikely that removal of object references elsewhere (set to null) will 
@@ -62,11 +68,16 @@ public enum FCache {
 	INSTANCE;
 
 	/**
-	 * Heads Up! This ArrayList ensures this 'enumeration' is mutable. It's a cache,
-	 * so this should surprise no one. It is supposed to be instantiated once and
-	 * then used to keep track of Cardinals in use.
+	 * Heads Up! This map ensures this 'enumeration' is mutable. It's a cache, so
+	 * this should surprise no one. It is supposed to be instantiated once and
+	 * then used to keep track of Cardinals in use. Keys are unit names.
+	 */
+	private final ConcurrentHashMap<String, Cardinal> mapOfCardinals = new ConcurrentHashMap<>();
+
+	/**
+	 * The same Cardinals as mapOfCardinals in the order they were appended.
 	 */
-	private ArrayList<Cardinal> listOfCardinals = new ArrayList<Cardinal>(1);
+	private final CopyOnWriteArrayList<Cardinal> listOfCardinals = new CopyOnWriteArrayList<>();
 
 	/**
 	 * Method appends offered Cardinal to cache IF one by that name is not already
@@ -74,9 +85,8 @@ public enum FCache {
 	 * <p>
 	 * @param pIn Cardinal to be appended to the cache IF it isn't already present.
 	 */
-	public void appendCardinal(Cardinal pIn) {
-		Optional<Cardinal> test = findCardinal(pIn.getUnit());
-		if (test.isEmpty())
+	public synchronized void appendCardinal(Cardinal pIn) {
+		if (mapOfCardinals.putIfAbsent(pIn.getUnit(), pIn) == null)
 			listOfCardinals.add(pIn);
 	}
 
@@ -87,31 +97,27 @@ public enum FCache {
 	 * <p>
 	 * @param pIn Cardinal Set to be appended to the cache IF they aren't already present.
 	 */
-	public void appendCardinal(Set<Cardinal> pIn) {
-		pIn.stream().forEach(pC -> {
-			Optional<Cardinal> test = findCardinal(pC.getUnit());
-			if (test.isEmpty())
-				listOfCardinals.add(pC);
-		});
+	public synchronized void appendCardinal(Set<Cardinal> pIn) {
+		pIn.stream().forEach(pC -> appendCardinal(pC));
 	}
 
 	/**
 	 * This method returns an Optional of Cardinal using the string name offered for
 	 * the search. If found, the optional will be engaged. If not, it will be
-	 * disengaged. IF by some chance there are two cardinals in the cache by the
-	 * same name (which should NOT happen) the first one found will be returned.
+	 * disengaged. Only one cardinal per name can be in the cache.
 	 * <p>
 	 * @param pName String name of a Cardinal to be found in the cache
 	 * @return Optional of Cardinal matching the name offered.
 	 */
 	public Optional<Cardinal> findCardinal(String pName) {
-		return listOfCardinals.stream().filter(x -> x.getUnit().equals(pName)).findFirst();
+		return (pName == null) ? Optional.empty() : Optional.ofNullable(mapOfCardinals.get(pName));
 	}
 
 	/**
 	 * This method clears the Cardinal cache.
 	 */
-	public void clearCardinals() {
+	public synchronized void clearCardinals() {
+		mapOfCardinals.clear();
 		listOfCardinals.clear();
 	}
 
@@ -123,9 +129,10 @@ public enum FCache {
 	 * @return Cardinal at pLoc index will be returned.
 	 */
 	public Cardinal getCardinal(int pLoc) {
-		if (listOfCardinals.size() < 1 | listOfCardinals.size() < pLoc+1)
+		Object[] tSnap = listOfCardinals.toArray(); // Size and entry from one moment
+		if (pLoc < 0 | tSnap.length < pLoc + 1)
 			return null;
-		return listOfCardinals.get(pLoc);
+		return (Cardinal) tSnap[pLoc];
 	}
 
 	/**
@@ -134,7 +141,7 @@ public enum FCache {
 	 * @return int size of the Cardinal cache.
 	 */
 	public int getCardinalListSize() {
-		return listOfCardinals.size();
+		return mapOfCardinals.size();
 	}
 
 	/**
@@ -144,17 +151,22 @@ public enum FCache {
 	 * @return boolean True if the cache of Cardinals is empty. False otherwise.
 	 */
 	public boolean isEmpty() {
-		return listOfCardinals.isEmpty();
+		return mapOfCardinals.isEmpty();
 	}
 
 	/**
-	 * This method supports the removal of a Cardinal from the cache.
+	 * This method supports the removal of a Cardinal from the cache. Whatever
+	 * Cardinal is cached under the same unit name is removed.
 	 * <p>
 	 * @param pCard Cardinal to be removed
 	 * @return boolean True if Cardinal found and removed. False if not found or
 	 *         removal fails.
 	 */
-	public boolean removeCardinal(Cardinal pCard) {
-		return listOfCardinals.remove(pCard);
+	public synchronized boolean removeCardinal(Cardinal pCard) {
+		Cardinal tGone = mapOfCardinals.remove(pCard.getUnit());
+		if (tGone == null)
+			return false;
+		listOfCardinals.remove(tGone);
+		return true;
 	}
 }
@@ -318,6 +318,19 @@ public class RealD extends UnitAbstract implements Field, Normalizable {
 	 */
 	protected double[] vals;
 
+	/**
+	 * This is the position of this number's values within vals. It is zero unless
+	 * the number is a view of a larger array owned by something else. A Scale
+	 * lends out its weights that way.
+	 */
+	protected int offset;
+
+	/**
+	 * This is told about every write made through a view whose owner needs to
+	 * know. It is null for numbers that own their values.
+	 */
+	protected Runnable onWrite;
+
 	/**
 	 * Basic Constructor with no values to initialize.
 	 */
@@ -391,6 +404,39 @@ public class RealD extends UnitAbstract implements Field, Normalizable {
 
 	}
 
+	/**
+	 * View Constructor that shares the offered array instead of allocating one.
+	 * The real value of this number is read from and written to
+	 * pVals at pOffset, so changes made through this number show up in the
+	 * array and the reverse. It is how a Scale lends out the weights it
+	 * keeps in one primitive array.
+	 * <p>
+	 * @param pT      Cardinal
+	 * @param pVals   double[] array that holds the value
+	 * @param pOffset int position of the value in pVals
+	 */
+	public RealD(Cardinal pT, double[] pVals, int pOffset) {
+		super(pT);
+		vals = pVals;
+		offset = pOffset;
+	}
+
+	/**
+	 * View Constructor that also tells its owner about writes. It is the same as
+	 * the one above except that pOnWrite runs after every write made through
+	 * this number. A Scale uses it to learn that its weights changed behind its
+	 * back.
+	 * <p>
+	 * @param pT       Cardinal
+	 * @param pVals    double[] array that holds the value
+	 * @param pOffset  int position of the value in pVals
+	 * @param pOnWrite Runnable to be run after each write or null
+	 */
+	public RealD(Cardinal pT, double[] pVals, int pOffset, Runnable pOnWrite) {
+		this(pT, pVals, pOffset);
+		onWrite = pOnWrite;
+	}
+
 	/**
 	 * This method adds real numbers together and changes this object to be the
 	 * result.
@@ -459,7 +505,7 @@ public class RealD extends UnitAbstract implements Field, Normalizable {
 	 * @return double
 	 */
 	public double getReal() {
-		return vals[0];
+		return vals[offset];
 	}
 
 	/**
@@ -472,8 +518,7 @@ public class RealD extends UnitAbstract implements Field, Normalizable {
 	@Override
 	public Double sqModulus() {
 		double tR = 0d;
-		for (double point : vals)
-			tR += point * point;
+		tR += getReal() * getReal();
 		return Double.valueOf(tR);
 	}
 
@@ -530,7 +575,9 @@ public class RealD extends UnitAbstract implements Field, Normalizable {
 	 * @param preal double
 	 */
 	public void setReal(double preal) {
-		vals[0] = preal;
+		vals[offset] = preal;
+		if (onWrite != null)
+			onWrite.run();
 	}
 
 	/**
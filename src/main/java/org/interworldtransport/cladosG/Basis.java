@@ -25,12 +25,8 @@
 package org.interworldtransport.cladosG;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -90,24 +86,26 @@ import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
  * More can be used, but one must change the 'magic numbers' in the
  * CladosConstant class and recompile.
  * <p>
- * There IS a sort buried in the constructor for a Basis. After Blades are
- * generated using the private powerSet method, they are sorted on the 'natural
- * order'. Blades implement Comparable and use their keys for compareTo(). THAT
- * is why blade keys are now buried in Blade objects. Doing so enables one line
- * of code here to use Java's Collections class to decide what sorting algorithm
- * to use. That means this class no longer implements its own sort algorithm. It
- * is likely the developer community is much better at writing sort algorithms,
- * so this is recognition of that reality.
+ * There is NO sort buried in the constructor for a Basis. Blades are listed in
+ * the 'natural order' of their keys, which is grade first and then
+ * lexicographic order of generators within a grade. The constructor writes
+ * them directly into that order. Within a grade it steps through bit masks of
+ * equal population with Gosper's hack. The masks are bit-reversed so that
+ * ascending masks walk the grade in reverse lexicographic order, which puts
+ * each blade at a position known before it is made. Grades are independent of
+ * each other, so larger bases build them on separate threads.
+ * <p>
+ * The blades themselves are the immutable ones Blade.interned() delivers, so
+ * every basis of one size lists the same instances.
  * <p>
  * This class probably should be implemented as a Java enumeration. It might be
- * some day. The problem with that is construction time scales as O(N^2).
- * Pre-construction of small basis objects makes good sense, but larger ones
- * become problematic especially for users who never intend to use them. If
- * one's primary interest involves Euclidian 3-space, what need is there of a
- * basis with 14 geometric directions and 16384 linear dimensions that takes a
- * sizeable fraction of a minute to construct? So it is suggested that Best
- * Practice among those who build physical models is to prebuild what you need
- * and load it all to the cache. Use CladosGBuilder to do it for you. 
+ * some day. Construction is linear in the number of blades, but pre-construction
+ * of large bases still makes little sense for users who never intend to use
+ * them. If one's primary interest involves Euclidian 3-space, what need is
+ * there of a basis with 14 geometric directions and 16384 linear dimensions?
+ * So it is suggested that Best Practice among those who build physical models
+ * is to prebuild what you need and load it all to the cache. Use
+ * CladosGBuilder to do it for you. 
  * That said, it is obvious why the copy constructor was removed.
  * <p>
  * @version 2.0
@@ -146,28 +144,69 @@ public final class Basis implements CanonicalBasis {
 	}
 
 	/*
-	 * Deliver the powerset of generators present in the pscalar of a basis. Members
-	 * of this set ARE the other blades.
-	 * <p>
-	 * This is O(n^2), so improvements here matter.
+	 * Deliver the bitKeys of every blade in canonical order. Grade k fills the
+	 * range starting at pStarts[k]. Gosper's hack steps a mask of k bits upward,
+	 * and a mask read with generator N in the lowest bit ascends as the blades
+	 * descend in lexicographic order. The ranges are filled from the top down.
+	 */
+	private final static int[] canonicalBitKeys(byte pGens, int[] pStarts) {
+		int[] tKeys = new int[1 << pGens];
+		ExecutionPolicy.INSTANCE.forEach(ExecutionPolicy.Work.BASIS, pGens, pGens + 1, k -> {
+			int tEnd = ((k == pGens) ? tKeys.length : pStarts[k + 1]) - 1;
+			int tMask = (1 << k) - 1;
+			for (int j = tEnd; j >= pStarts[k]; j--) {
+				tKeys[j] = Integer.reverse(tMask) >>> (Integer.SIZE - pGens);
+				if (j > pStarts[k]) {
+					int tLow = tMask & -tMask;
+					int tRipple = tMask + tLow;
+					tMask = (((tRipple ^ tMask) >>> 2) / tLow) | tRipple;
+				}
+			}
+		});
+		return tKeys;
+	}
+
+	/*
+	 * Deliver the blades named by the offered bitKeys in the same order. They are
+	 * the shared blades every basis of this size lists.
 	 */
-	private final static Set<EnumSet<Generator>> powerSet(Set<Generator> inSet) {
-		Set<EnumSet<Generator>> sets = new HashSet<EnumSet<Generator>>(inSet.size(), 0.75f);
-		if (inSet.isEmpty()) {
-			sets.add(EnumSet.noneOf(Generator.class));
-			return sets;
+	private final static ArrayList<Blade> canonicalBlades(byte pGens, int[] pKeys) {
+		Blade[] tShared;
+		try {
+			tShared = Blade.interned(pGens);
+		} catch (GeneratorRangeException e) { // Constructors check sizes before this
+			throw new IllegalArgumentException("Unsupported Size for Basis " + pGens);
 		}
-		List<Generator> list = new ArrayList<Generator>(inSet);
-		Generator head = list.get(0);
-		Set<Generator> tailset = new HashSet<Generator>(list.subList(1, list.size()));
-		for (EnumSet<Generator> set : powerSet(tailset)) {
-			EnumSet<Generator> newSet = EnumSet.noneOf(Generator.class);
-			newSet.add(head);
-			newSet.addAll(set);
-			sets.add(newSet);
-			sets.add(set);
+		ArrayList<Blade> tBlades = new ArrayList<Blade>(pKeys.length);
+		for (int tKey : pKeys)
+			tBlades.add(tShared[tKey]);
+		return tBlades;
+	}
+
+	/*
+	 * Deliver a sign for each blade of an involution that flips grades by their
+	 * residue modulo 4. Bit r of pFlips is set when grades with residue r change
+	 * sign.
+	 */
+	private final static byte[] gradeSigns(int[] pKeys, int pFlips) {
+		byte[] tSigns = new byte[pKeys.length];
+		for (int k = 0; k < pKeys.length; k++)
+			tSigns[k] = (((pFlips >>> (Integer.bitCount(pKeys[k]) & 3)) & 1) == 1) ? (byte) -1 : (byte) 1;
+		return tSigns;
+	}
+
+	/*
+	 * Deliver the position where each grade starts. Grade k holds
+	 * binomial(N, k) blades, and each binomial follows from the one before it.
+	 */
+	private final static int[] gradeStarts(byte pGens) {
+		int[] tStarts = new int[pGens + 1];
+		int tWidth = 1;
+		for (int k = 1; k <= pGens; k++) {
+			tStarts[k] = tStarts[k - 1] + tWidth;
+			tWidth = tWidth * (pGens - k + 1) / k;
 		}
-		return sets;
+		return tStarts;
 	}
 
 	/**
@@ -191,6 +230,46 @@ public final class Basis implements CanonicalBasis {
 	 */
 	private final ArrayList<Blade> bladeList;
 
+	/**
+	 * This array holds the sign each blade picks up under Clifford conjugation,
+	 * the composition of reversion and the main involution. Grades 1 and 2
+	 * modulo 4 change sign.
+	 */
+	private final byte[] conjugateSigns;
+
+	/**
+	 * This array holds the sign each blade picks up under the main involution.
+	 * Odd grades change sign.
+	 */
+	private final byte[] involutionSigns;
+
+	/**
+	 * This array holds the sign each blade picks up under reversion. Grades 2
+	 * and 3 modulo 4 change sign.
+	 */
+	private final byte[] reverseSigns;
+
+	/**
+	 * This array connects a Blade's bitKey to its indexed location in the basis.
+	 * It is dense because every subset of the generators is a blade, so the bitKey
+	 * is itself a perfect index into an array of 2^N entries, so find() needs no
+	 * boxing, no hash and no tree walk. This is what allows us to put the indexed
+	 * position in the multiplicaton table instead of the blade's key which is
+	 * longer and would inflate the size of the Cayley table unnecessarily.
+	 * <p>
+	 * The indexed position "1" is always the scalar of the basis. That's why
+	 * a "1" in the Cayley table (called result[][] in GProduct) refers to a 
+	 * scalar... or the 'no generators' blade. The fact that a "0" is NOT used
+	 * is what will enable the introduction of degenerate generators.
+	 */
+	private final int[] bitKeyIndex;
+
+	/**
+	 * This array is the inverse of bitKeyIndex. Entry k is the bitKey of the blade
+	 * at (0-based) position k in the bladeList.
+	 */
+	private final int[] bitKeyList;
+
 	/**
 	 * This integer is the number of grades in the algebra. It is one more than the
 	 * number of generators and is used often enough to be worth keeping.
@@ -220,22 +299,16 @@ public final class Basis implements CanonicalBasis {
 	 * grade N: The last entry always points to the blade that represents the
 	 * pscalar in the basis.
 	 * <p>
-	 * All other entries in this list are calculated using a Blade's key.
+	 * All other entries in this list are running sums of binomial coefficients.
 	 */
 	private final ArrayList<Integer> gradeList;
 
 	/**
-	 * This map connects a Blade's internal key to its indexed location in the
-	 * basis. This map is what allows us to put the indexed position in the
-	 * multiplicaton table instead of the blade's key which is longer and would 
-	 * inflate the size of the Cayley table unnecessarily.
-	 * <p>
-	 * The indexed position "1" is always the scalar of the basis. That's why
-	 * a "1" in the Cayley table (called result[][] in GProduct) refers to a 
-	 * scalar... or the 'no generators' blade. The fact that a "0" is NOT used
-	 * is what will enable the introduction of degenerate generators.
+	 * This array holds the same grade starts as gradeList without boxing, plus
+	 * one more entry holding the blade count. Grade j occupies the positions from
+	 * gradeRange[j] up to but not including gradeRange[j+1].
 	 */
-	private final TreeMap<Long, Integer> keyIndexMap;
+	private final int[] gradeRange;
 
 	/**
 	 * This is the basic constructor. It takes the number of generators as its only
@@ -251,43 +324,24 @@ public final class Basis implements CanonicalBasis {
 	public Basis(byte pGens) throws GeneratorRangeException {
 		if (!CanonicalBasis.validateSize(pGens))
 			throw new GeneratorRangeException("Supported range is 0<->CladosConstant.MAXGRADE using 8 bit integers");
-		// ------Initialize
 		gradeCount = (byte) (pGens + 1);
+		// ------Build grade ranges and the bitKey permutation
+		int[] tStarts = gradeStarts(pGens);
 		gradeList = new ArrayList<Integer>(gradeCount);
-		bladeList = new ArrayList<Blade>(1 << pGens);
-		keyIndexMap = new TreeMap<>();
+		for (int tStart : tStarts)
+			gradeList.add(Integer.valueOf(tStart));
+		gradeRange = Arrays.copyOf(tStarts, tStarts.length + 1);
+		gradeRange[tStarts.length] = 1 << (gradeCount - 1);
+		bitKeyList = canonicalBitKeys(pGens, tStarts);
+		bitKeyIndex = new int[bitKeyList.length];
+		for (int k = 0; k < bitKeyList.length; k++)
+			bitKeyIndex[bitKeyList[k]] = k + 1;
 		// ------Build bladeList
-		if (pGens == 0) {
-			bladeList.add(Blade.createBlade(pGens));
-			gradeList.add(Integer.valueOf(0));
-			keyIndexMap.put(0L, 1);
-		} else if (pGens == 1) {
-			bladeList.add(Blade.createScalarBlade(Generator.E1));
-			gradeList.add(Integer.valueOf(0));
-			keyIndexMap.put(0L, 1);
-			bladeList.add(Blade.createPScalarBlade(Generator.E1));
-			gradeList.add(Integer.valueOf(1));
-			keyIndexMap.put(1L, 2);
-		} else {
-			EnumSet<Generator> offer = EnumSet.range(CladosConstant.GENERATOR_MIN, Generator.get(pGens));
-			TreeSet<Blade> sorted = new TreeSet<>(); // Expects things that have a natural order
-			for (EnumSet<Generator> pG : powerSet(offer))
-				sorted.add(new Blade(pGens, pG)); // Adds in SORTED ORDER because... TreeSet
-				
-			sorted.iterator().forEachRemaining(blade -> { // Iterator works in ascending order
-				bladeList.add(blade); // causing bladeList to be in ascending (by key) order
-				keyIndexMap.put(blade.key(), Integer.valueOf(bladeList.indexOf(blade) + 1));
-			});
-
-			// ------Build gradeList
-			gradeList.add(Integer.valueOf(0)); // First entry in gradeList is for scalar grade
-			gradeList.add(Integer.valueOf(1)); // Second entry in gradeList is for vector grade
-			IntStream.range(2, gradeCount - 1).forEachOrdered(i -> {
-				gradeList
-						.add(keyIndexMap.ceilingEntry(Long.valueOf((long) Math.pow(gradeCount, i - 1))).getValue() - 1);
-				}); // keyIndexMap uses bladeKey (known to blade) to get bladeIndex for products.
-			gradeList.add(getBladeCount() - 1); // Last entry in gradeList is for pscalar grade
-		}
+		bladeList = canonicalBlades(pGens, bitKeyList);
+		// ------Build involution signs
+		reverseSigns = gradeSigns(bitKeyList, 0b1100);
+		involutionSigns = gradeSigns(bitKeyList, 0b1010);
+		conjugateSigns = gradeSigns(bitKeyList, 0b0110);
 	}
 
 	/**
@@ -298,49 +352,24 @@ public final class Basis implements CanonicalBasis {
 	 * @param pGen Generator This is the pscalar to factor to make up the basis
 	 */
 	public Basis(Generator pGen) {
-		// ------Initialize
 		gradeCount = (byte) (pGen.ord + 1);
+		// ------Build grade ranges and the bitKey permutation
+		int[] tStarts = gradeStarts(pGen.ord);
 		gradeList = new ArrayList<Integer>(gradeCount);
-		bladeList = new ArrayList<Blade>(1 << pGen.ord);
-		keyIndexMap = new TreeMap<>();
+		for (int tStart : tStarts)
+			gradeList.add(Integer.valueOf(tStart));
+		gradeRange = Arrays.copyOf(tStarts, tStarts.length + 1);
+		gradeRange[tStarts.length] = 1 << (gradeCount - 1);
+		bitKeyList = canonicalBitKeys(pGen.ord, tStarts);
+		bitKeyIndex = new int[bitKeyList.length];
+		for (int k = 0; k < bitKeyList.length; k++)
+			bitKeyIndex[bitKeyList[k]] = k + 1;
 		// ------Build bladeList
-		switch (pGen.ord) {
-			case 0 -> {
-				bladeList.add(Blade.createBlade(pGen.ord));
-				gradeList.add(Integer.valueOf(0));
-				keyIndexMap.put(0L, 1);
-				break;
-			}
-			case 1 -> {
-				bladeList.add(Blade.createScalarBlade(Generator.E1));
-				gradeList.add(Integer.valueOf(0));
-				keyIndexMap.put(0L, 1);
-				bladeList.add(Blade.createPScalarBlade(Generator.E1));
-				gradeList.add(Integer.valueOf(1));
-				keyIndexMap.put(1L, 2);
-				break;
-			}
-			default -> {
-				EnumSet<Generator> offer = EnumSet.range(CladosConstant.GENERATOR_MIN, pGen);
-				TreeSet<Blade> sorted = new TreeSet<>(); // Expects things that have a natural order
-				for (EnumSet<Generator> pG : powerSet(offer))
-					sorted.add(new Blade(pGen, pG)); // Adds in SORTED ORDER because... TreeSet
-				
-				sorted.iterator().forEachRemaining(blade -> { // Iterator works in ascending order
-					bladeList.add(blade); // causing bladeList to be in ascending (by key) order
-					keyIndexMap.put(blade.key(), Integer.valueOf(bladeList.indexOf(blade) + 1));
-				});
-
-				// ------Build gradeList
-				gradeList.add(Integer.valueOf(0)); // First entry in gradeList is for scalar grade
-				gradeList.add(Integer.valueOf(1)); // Second entry in gradeList is for vector grade
-				IntStream.range(2, gradeCount - 1).forEachOrdered(i -> {
-					gradeList
-						.add(keyIndexMap.ceilingEntry(Long.valueOf((long) Math.pow(gradeCount, i - 1))).getValue() - 1);
-					}); // keyIndexMap uses bladeKey (known to blade) to get bladeIndex for products.
-				gradeList.add(getBladeCount() - 1); // Last entry in gradeList is for pscalar grade
-			}
-		}
+		bladeList = canonicalBlades(pGen.ord, bitKeyList);
+		// ------Build involution signs
+		reverseSigns = gradeSigns(bitKeyList, 0b1100);
+		involutionSigns = gradeSigns(bitKeyList, 0b1010);
+		conjugateSigns = gradeSigns(bitKeyList, 0b0110);
 	}
 
 	/**
@@ -351,12 +380,14 @@ public final class Basis implements CanonicalBasis {
 	 * outside the range expected in the basis, the returned stream will be empty.
 	 * This happens for negative grades and grades larger than the pscalar.
 	 * <p>
-	 * Otherwise, this method works simply filters what bladeStream() would produce
-	 * on blade.rank().
+	 * Otherwise, this method streams the slice of the blade list that holds the
+	 * requested grade.
 	 */
 	@Override
 	public Stream<Blade> bladeOfGradeStream(byte pIn) {
-		return bladeList.stream().filter(blade -> blade.rank() == pIn);
+		if (this.validateGradeIndex(pIn))
+			return bladeList.subList(gradeRange[pIn], gradeRange[pIn + 1]).stream();
+		return Stream.empty();
 	}
 
 	@Override
@@ -388,11 +419,41 @@ public final class Basis implements CanonicalBasis {
 	 */
 	@Override
 	public int find(Blade pIn) {
-		if (!(pIn == null)) {
-			Integer loc = keyIndexMap.get(pIn.key());
-			if (!(loc == null))
-				return loc.intValue();
-		}
+		if (!(pIn == null))
+			return findBitKey(pIn.bitKey());
+		return -1;
+	}
+
+	/**
+	 * Primitive 'find' method that reports index location in the basis where the
+	 * blade with the offered bitKey is found OR -1 if it wasn't found.
+	 * <p>
+	 * Bit k-1 of a bitKey is set when generator k is in the blade, so every
+	 * integer from 0 to 2^N-1 names exactly one blade of the basis. The lookup is
+	 * a single array read.
+	 * <p>
+	 * @param pBitKey int bitKey of the blade to be found
+	 * @return integer index pointing to element of a list containing the Blade OR
+	 *         -1 if the bitKey is outside the basis.
+	 */
+	@Override
+	public int findBitKey(int pBitKey) {
+		if (pBitKey >= 0 & pBitKey < bitKeyIndex.length)
+			return bitKeyIndex[pBitKey];
+		return -1;
+	}
+
+	/**
+	 * Return the bitKey for the blade at p1 in the bladeList. This is the inverse
+	 * of findBitKey() apart from the shift between 0-based and 1-based positions.
+	 * <p>
+	 * @param p1 int This is the (0-based) position of the blade.
+	 * @return int bitKey of the blade OR -1 if the position is outside the basis.
+	 */
+	@Override
+	public int getBitKey(int p1) {
+		if (this.validateBladeIndex(p1))
+			return bitKeyList[p1];
 		return -1;
 	}
 
@@ -429,6 +490,17 @@ public final class Basis implements CanonicalBasis {
 		return EnumSet.noneOf(Generator.class);
 	}
 
+	/**
+	 * Return the sign each blade picks up under Clifford conjugation. The array
+	 * is shared, so callers must not change it.
+	 * <p>
+	 * @return byte[] +1 or -1 for each blade in basis order.
+	 */
+	@Override
+	public byte[] getConjugateSigns() {
+		return conjugateSigns;
+	}
+
 	/**
 	 * Return the number of grades in the basis. Since there is no geometry in the
 	 * basis this is a measure of the number of distinct generator subset types that
@@ -454,6 +526,34 @@ public final class Basis implements CanonicalBasis {
 		return gradeList;
 	}
 
+	/**
+	 * Get an index just past the last blade of the grade specified by the
+	 * parameter.
+	 * <p>
+	 * @param p1 byte This is for choosing which grade index range to return.
+	 * @return int Index within the basis where the requested grade ends.
+	 */
+	@Override
+	public int getGradeEnd(byte p1) {
+		if (this.validateGradeIndex(p1))
+			return gradeRange[p1 + 1];
+		return -1;
+	}
+
+	/**
+	 * Get the grade of the blade at the indexed position in the basis. It is the
+	 * number of generators in the blade's bitKey.
+	 * <p>
+	 * @param p1 int (0-based) position of the blade.
+	 * @return byte grade of the blade OR -1 if the position is outside the basis.
+	 */
+	@Override
+	public byte getGradeOf(int p1) {
+		if (this.validateBladeIndex(p1))
+			return (byte) Integer.bitCount(bitKeyList[p1]);
+		return -1;
+	}
+
 	/**
 	 * Get an index to the first blade of grade specified by the parameter.
 	 * <p>
@@ -463,12 +563,23 @@ public final class Basis implements CanonicalBasis {
 	@Override
 	public int getGradeStart(byte p1) {
 		if (this.validateGradeIndex(p1))
-			return gradeList.get(p1).intValue();
+			return gradeRange[p1];
 		return -1;
 	}
 
 	/**
-	 * Return the long key for the blade at p1 in keyIndexMap.
+	 * Return the sign each blade picks up under the main involution. The array
+	 * is shared, so callers must not change it.
+	 * <p>
+	 * @return byte[] +1 or -1 for each blade in basis order.
+	 */
+	@Override
+	public byte[] getInvolutionSigns() {
+		return involutionSigns;
+	}
+
+	/**
+	 * Return the long key for the blade at p1 in bladeList.
 	 * <p>
 	 * There is no telling what blade is at the indexed location.
 	 * This just returns the key for it assuming it is there.
@@ -498,6 +609,17 @@ public final class Basis implements CanonicalBasis {
 		return gradeList.get(gradeCount - 1);
 	}
 
+	/**
+	 * Return the sign each blade picks up under reversion. The array is shared,
+	 * so callers must not change it.
+	 * <p>
+	 * @return byte[] +1 or -1 for each blade in basis order.
+	 */
+	@Override
+	public byte[] getReverseSigns() {
+		return reverseSigns;
+	}
+
 	@Override
 	public Blade getScalarBlade() {
 		return bladeList.get(0);
@@ -529,6 +651,17 @@ public final class Basis implements CanonicalBasis {
 		return (int) getGradeCount();
 	}
 
+	/**
+	 * The stream returned contains the positions of the blades that match the
+	 * grade requested in the parameter. It is empty for grades outside the basis.
+	 */
+	@Override
+	public IntStream indexOfGradeStream(byte pIn) {
+		if (this.validateGradeIndex(pIn))
+			return IntStream.range(gradeRange[pIn], gradeRange[pIn + 1]);
+		return IntStream.empty();
+	}
+
 	@Override
 	public LongStream keyStream() {
 		return bladeList.stream().mapToLong(blade -> blade.key());
@@ -25,8 +25,8 @@
 package org.interworldtransport.cladosG;
 
 import java.util.EnumSet;
-import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
@@ -41,22 +41,26 @@ import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
  * directions might ever be added to this blade.
  * <p>
  * The directions are simply Generators from an enumeration class. They are kept
- * in an EnumSet which uses as its sense of order the same order generators are
- * enumerated in their class. At present, the supported number of 'directions'
- * is 0 to 15, so the enumeration class lists 15 possible generators.
+ * as bits in a single integer mask called the bitKey. Bit k-1 is set when
+ * generator Ek is present, so the mask uses as its sense of order the same
+ * order generators are enumerated in their class. At present, the supported
+ * number of 'directions' is 0 to 15, so the enumeration class lists 15 possible
+ * generators.
  * <p>
- * The EnumSet keeps Generators in their natural order. If a new direction is
- * added, the EnumSet will handle it 'late' in the computational sense. In other
- * words, it doesn't matter where the new generator gets added. It matters ONLY
- * when generators are iterated later when establishing a product table or
- * generating a blade key. Iterators will always deliver directions in the same
- * order.
+ * Everything else a blade reports is derived from the mask. Rank is a bit
+ * count. The long key is the mask read as base (maxGen+1) digits and costs a
+ * few multiplies. An EnumSet of generators is only built when one is asked
+ * for. A blade is three small fields, so a basis of 32768 of them is cheap.
  * <p>
  * For example, if a sub-manifold has six possible directions from a point, a
  * Blade will contain zero to six of them represented as generators E1 through
  * E6. If only 3 are in the Blade (making it a 3-blade) then ANY three will be
- * in the EnumSet. Perhaps E2, E3, E5. If the EnumSet is empty, zero directions
- * are contained and the blade represents a scalar.
+ * in the mask. Perhaps E2, E3, E5. If the mask is empty, zero directions are
+ * contained and the blade represents a scalar.
+ * <p>
+ * Blades delivered by interned() are shared flyweights. Every Basis of the
+ * same size lists the same instances, so they can never change. Mutators
+ * called on one deliver a changed copy instead of altering it.
  * <p>
  * @version 2.0
  * @author Dr Alfred W Differ
@@ -164,6 +168,57 @@ public class Blade implements Comparable<Blade> {
 		return new Blade(pGen);
 	}
 
+	/**
+	 * Deliver the shared blades for a space whose largest generator has the
+	 * offered ordinal. Entry k of the array is the blade whose bitKey is k, so the
+	 * array holds every blade of the space indexed by bitKey.
+	 * <p>
+	 * The blades are built once per size and kept for the life of the
+	 * application. They are immutable, so callers may hand them out freely.
+	 * <p>
+	 * @param pMaxGen byte ordinal of the largest generator in the space.
+	 * @return Blade[] shared blades indexed by bitKey.
+	 * @throws GeneratorRangeException This happens when the size is outside the
+	 *                                 supported range.
+	 */
+	public final static Blade[] interned(byte pMaxGen) throws GeneratorRangeException {
+		if (!CanonicalBasis.validateSize(pMaxGen))
+			throw new GeneratorRangeException("Unsupported Size for Blade " + pMaxGen);
+		return internedTable(pMaxGen);
+	}
+
+	/**
+	 * Deliver one shared blade by its bitKey. Nothing is validated, so this is
+	 * for internal callers that got the size and mask from blades that already
+	 * exist.
+	 * <p>
+	 * @param pMaxGen byte ordinal of the largest generator in the space.
+	 * @param pBitKey int bitKey of the blade requested.
+	 * @return Blade shared blade with the offered bitKey.
+	 */
+	protected final static Blade interned(byte pMaxGen, int pBitKey) {
+		return internedTable(pMaxGen)[pBitKey];
+	}
+
+	/*
+	 * Deliver the shared blades for one size, building them the first time.
+	 */
+	private final static Blade[] internedTable(byte pMaxGen) {
+		Blade[] tBlades = INTERNED.get(pMaxGen);
+		if (tBlades == null) {
+			synchronized (INTERNED) {
+				tBlades = INTERNED.get(pMaxGen);
+				if (tBlades == null) {
+					tBlades = new Blade[1 << pMaxGen];
+					for (int k = 0; k < tBlades.length; k++)
+						tBlades[k] = new Blade(pMaxGen, k, true);
+					INTERNED.set(pMaxGen, tBlades); // Publishes the finished blades
+				}
+			}
+		}
+		return tBlades;
+	}
+
 	/**
 	 * Simple grade tester. Does the Blade contain 'n' generators?
 	 * <p>
@@ -201,7 +256,7 @@ public class Blade implements Comparable<Blade> {
 	 * @return TRUE if the blade has no generators. FALSE otherwise.
 	 */
 	public final static boolean isScalar(Blade blade) {
-		return blade.getGenerators().isEmpty();
+		return blade.bitKey() == 0;
 	}
 
 	/**
@@ -281,33 +336,34 @@ public class Blade implements Comparable<Blade> {
 	}
 
 	/**
-	 * bitKey is the base-2 representation of the blade's generators.
-	 * <p>
-	 * For example... a blade using E2 will have +2 added to the bitKey because the
-	 * ordinal for E2 is 2 and the key builder method adds (1<<(E2.ord -1)) for this
-	 * generator. For E5 (ord=5) bitKey picks up a contribution of 2^4.
+	 * These are the shared blades delivered by interned(). Entry n holds the
+	 * blades for spaces of n generators and is filled the first time it is asked
+	 * for.
 	 */
-	private int bitKey = 0;
+	private final static AtomicReferenceArray<Blade[]> INTERNED = new AtomicReferenceArray<>(
+			CladosConstant.MAXGRADE + 1);
 
 	/**
-	 * This is the internal representation of the generators involved in the blade.
-	 * If a generator is found in the EnumSet, it is part of the blade.
+	 * bitKey is the base-2 representation of the blade's generators. It is the
+	 * internal representation of the generators involved in the blade. If a bit
+	 * is set, the matching generator is part of the blade.
 	 * <p>
-	 * For example, a set holding E1, E4, and E9 implies this is the E1,E4,E9 blade.
+	 * For example... a blade using E2 will have +2 added to the bitKey because the
+	 * ordinal for E2 is 2 and the key builder method adds (1<<(E2.ord -1)) for this
+	 * generator. For E5 (ord=5) bitKey picks up a contribution of 2^4. A mask
+	 * holding E1, E4, and E9 implies this is the E1,E4,E9 blade.
 	 */
-	private EnumSet<Generator> blade;
+	private int bitKey = 0;
 
 	/**
-	 * This is the old key representing the blade that is sure to increase in a way
-	 * that ensures the correct sort order in comparisons between blades. This
-	 * sorting happens most often when constructing a basis.
+	 * This is true for the immutable blades delivered by interned(). Mutators
+	 * check it and deliver a changed copy instead of altering a shared blade.
 	 */
-	private long key = 0L;
+	private final boolean interned;
 
 	/**
-	 * This is the maximum expected size of the internal EnumSet for the blade. It
-	 * is also the ordinal of the largest generator one expects to find in the
-	 * EnumSet.
+	 * This is the maximum expected rank for the blade. It is also the ordinal of
+	 * the largest generator one expects to find in the mask.
 	 * <p>
 	 * Once set, this value should never change.
 	 */
@@ -317,14 +373,14 @@ public class Blade implements Comparable<Blade> {
 	 * This byte integer would be a single bit as it is never expected to be
 	 * anything other than +1 or -1. It represents whether the blade has been
 	 * inverted or not. Blades do NOT have a sense of magnitude, so this inversion
-	 * is ONLY about the order of the generators in the EnumSet.
+	 * is ONLY about the order of the generators in the mask.
 	 * <p>
-	 * When this is +1, the blade is assumed to be in a state where the EnumSet
+	 * When this is +1, the blade is assumed to be in a state where the mask
 	 * represents the natural order of generators OR in a state where an even number
 	 * of transpositions have occurred (after all pairs of transpostions that would
 	 * cancel each other are removed) away from the natural order.
 	 * <p>
-	 * When this is -1, the blade is assumed to be in a state where the EnumSet
+	 * When this is -1, the blade is assumed to be in a state where the mask
 	 * represents an odd number of transpositions (after canceling pairs are
 	 * removed) away from the natural order of the generators in the set.
 	 */
@@ -336,12 +392,8 @@ public class Blade implements Comparable<Blade> {
 	 * @param pB The Blade to copy
 	 */
 	public Blade(Blade pB) {
-		maxGen = pB.maxGenerator();
-		blade = EnumSet.noneOf(Generator.class);
-		blade.addAll(pB.getGenerators());
+		this(pB.maxGenerator(), pB.bitKey(), false);
 		sign = pB.sign();
-		key = pB.key();
-		bitKey = pB.bitKey();
 	}
 
 /**
@@ -356,15 +408,13 @@ public class Blade implements Comparable<Blade> {
 	 * @param pGen The Generator to add to the list.
 	 */
 	public Blade(Blade pB, Generator pGen) {
-		blade = EnumSet.noneOf(Generator.class);
-		blade.addAll(pB.getGenerators());
+		bitKey = pB.bitKey();
 		if (pGen.ord <= pB.maxGenerator() + 1 && pB.maxGenerator() < CladosConstant.GENERATOR_MAX.ord) {
 			maxGen = (byte) (pB.maxGenerator() + 1);
-			blade.add(pGen);
+			bitKey |= bitOf(pGen);
 		} else maxGen = (byte) (pB.maxGenerator());
+		interned = false;
 		sign = pB.sign();
-		key = pB.key();
-		bitKey = pB.bitKey();
 	}
 
 	/**
@@ -382,8 +432,8 @@ public class Blade implements Comparable<Blade> {
 	public Blade(byte pMaxGen) throws GeneratorRangeException {
 		if (!CanonicalBasis.validateSize(pMaxGen))
 			throw new GeneratorRangeException("Unsupported Size for Blade " + pMaxGen);
-		blade = EnumSet.noneOf(Generator.class);
 		maxGen = pMaxGen;
+		interned = false;
 	}
 
 	/**
@@ -396,8 +446,7 @@ public class Blade implements Comparable<Blade> {
 	 */
 	public Blade(Generator pGen, EnumSet<Generator> pDirs) {
 		this(pGen);
-		pDirs.forEach(g -> blade.add(g));
-		makeKey();
+		pDirs.forEach(g -> bitKey |= bitOf(g));
 	}
 
 	/**
@@ -414,8 +463,7 @@ public class Blade implements Comparable<Blade> {
 	 */
 	public Blade(byte pMaxGen, EnumSet<Generator> pDirs) throws GeneratorRangeException {
 		this(pMaxGen);
-		pDirs.forEach(g -> blade.add(g));
-		makeKey();
+		pDirs.forEach(g -> bitKey |= bitOf(g));
 	}
 
 	/**
@@ -432,8 +480,7 @@ public class Blade implements Comparable<Blade> {
 	 */
 	public Blade(byte pMaxGen, Generator[] pDirs) throws GeneratorRangeException {
 		this(pMaxGen);
-		Stream.of(pDirs).forEach(g -> blade.add(g));
-		makeKey();
+		Stream.of(pDirs).forEach(g -> bitKey |= bitOf(g));
 	}
 
 	/**
@@ -446,8 +493,22 @@ public class Blade implements Comparable<Blade> {
 	 *                might appear in this blade.
 	 */
 	public Blade(Generator pMaxGen) {
-		blade = EnumSet.noneOf(Generator.class);
 		maxGen = pMaxGen.ord;
+		interned = false;
+	}
+
+	/**
+	 * This is the flyweight constructor. It takes the mask as it is with no
+	 * validation, so it is only used where the mask is known to fit.
+	 * <p>
+	 * @param pMaxGen   byte ordinal of the largest generator in the space.
+	 * @param pBitKey   int mask of the generators in the blade.
+	 * @param pInterned boolean True if the blade will be shared and never changed.
+	 */
+	private Blade(byte pMaxGen, int pBitKey, boolean pInterned) {
+		maxGen = pMaxGen;
+		bitKey = pBitKey;
+		interned = pInterned;
 	}
 
 	/**
@@ -467,9 +528,9 @@ public class Blade implements Comparable<Blade> {
 		if (isPScalar(this))
 			return this;
 		else {
-			blade.addAll(pS);
-			makeKey();
-			return this;
+			Blade tB = mutable();
+			pS.forEach(g -> tB.bitKey |= bitOf(g));
+			return tB;
 		}
 	}
 
@@ -483,12 +544,12 @@ public class Blade implements Comparable<Blade> {
 	 * @return Blade The blade itself is returned to support stream calls.
 	 */
 	public Blade add(Generator pS) {
-		if (isPScalar(this) | pS.ord > maxGen)
+		if (isPScalar(this) | pS.ord > maxGen | (bitKey & bitOf(pS)) != 0)
 			return this;
 		else {
-			blade.add(pS);
-			makeKey();
-			return this;
+			Blade tB = mutable();
+			tB.bitKey |= bitOf(pS);
+			return tB;
 		}
 	}
 
@@ -505,9 +566,9 @@ public class Blade implements Comparable<Blade> {
 		if (isPScalar(this))
 			return this;
 		else {
-			Stream.of(pS).filter(g -> g.ord <= maxGen).forEach(g -> blade.add(g));
-			makeKey();
-			return this;
+			Blade tB = mutable();
+			Stream.of(pS).filter(g -> g.ord <= maxGen).forEach(g -> tB.bitKey |= bitOf(g));
+			return tB;
 		}
 	}
 
@@ -542,7 +603,7 @@ public class Blade implements Comparable<Blade> {
 		if (getClass() != obj.getClass())
 			return false;
 		Blade other = (Blade) obj;
-		if (key != other.key)
+		if (bitKey != other.bitKey)
 			return false;
 		if (maxGen != other.maxGen)
 			return false;
@@ -555,7 +616,7 @@ public class Blade implements Comparable<Blade> {
 	 * This method is very similar to the base object's equality test. The
 	 * difference is the sign of the blade is not checked. As long as blades are
 	 * being tested, all that is needed to pass this test is for them to have the
-	 * same key and maxGen values.
+	 * same bitKey and maxGen values.
 	 * <p>
 	 * @param obj The object to test
 	 * @return boolean True implies two blades are equal to within a sign while
@@ -568,7 +629,7 @@ public class Blade implements Comparable<Blade> {
 			return false;
 		if (getClass() != obj.getClass())
 			return false;
-		if (key != ((Blade) obj).key)
+		if (bitKey != ((Blade) obj).bitKey)
 			return false;
 		if (maxGen != ((Blade) obj).maxGen)
 			return false;
@@ -585,23 +646,29 @@ public class Blade implements Comparable<Blade> {
 	 * @return an Optional of the Generator requested.
 	 */
 	public Optional<Generator> get(Generator pG) {
-		return Optional.ofNullable(blade.contains(pG) ? pG : null);
+		return Optional.ofNullable((bitKey & bitOf(pG)) != 0 ? pG : null);
 	}
 
 	/**
 	 * This is just a getter method named to support calls from within streams.
+	 * The set is built from the mask on each call, so changing it does not change
+	 * the blade.
 	 * <p>
-	 * @return key Returns the blade's ArrayList of boxed bytes.
+	 * @return EnumSet Returns the blade's generators in their natural order.
 	 */
 	protected EnumSet<Generator> getGenerators() {
-		return blade;
+		EnumSet<Generator> tGens = EnumSet.noneOf(Generator.class);
+		for (int tLeft = bitKey; tLeft != 0; tLeft &= tLeft - 1)
+			tGens.add(Generator.get((byte) (Integer.numberOfTrailingZeros(tLeft) + 1)));
+		return tGens;
 	}
 
 	@Override
 	public int hashCode() {
 		final int prime = 67;
 		int result = 1;
-		result = prime * result + (int) (key ^ (key >>> 32));
+		long tKey = key();
+		result = prime * result + (int) (tKey ^ (tKey >>> 32));
 		result = prime * result + sign;
 		return result;
 	}
@@ -610,10 +677,25 @@ public class Blade implements Comparable<Blade> {
 	 * This is just a getter method named to support consumers at the end of streams
 	 * of blades. This is how one gets a stream of blade keys.
 	 * <p>
+	 * This is the old key representing the blade that is sure to increase in a way
+	 * that ensures the correct sort order in comparisons between blades. It is the
+	 * base (maxGen+1) representation of the Eddington Number.
+	 * <p>
+	 * Ex: 3 generators implies Base-4 keys stuffed into Base-10 number.
+	 * <p>
+	 * Last generator in the list is the one's digit, the next to last is the 4's
+	 * digit and the one before that is the 16's digit. Reading generators from the
+	 * lowest up, each one shifts the digits already found up one place.
+	 * <p>
+	 * Ex: 8 generators implies Base-9 keys stuffed into a Base-10 number.
+	 * <p>
 	 * @return key Returns the blade's long integer key.
 	 */
 	public long key() {
-		return key;
+		long tKey = 0L;
+		for (int tLeft = bitKey; tLeft != 0; tLeft &= tLeft - 1)
+			tKey = tKey * (maxGen + 1) + Integer.numberOfTrailingZeros(tLeft) + 1;
+		return tKey;
 	}
 
 	/**
@@ -627,13 +709,13 @@ public class Blade implements Comparable<Blade> {
 	}
 
 	/**
-	 * This method reports the size of the EnumSet of generators that represents
+	 * This method reports the number of generators in the mask that represents
 	 * this blade. This is the 'rank' of the blade.
 	 * <p>
 	 * @return byte integer number of generators involved in this blade.
 	 */
 	public byte rank() {
-		return (byte) blade.size();
+		return (byte) Integer.bitCount(bitKey);
 	}
 
 	/**
@@ -644,7 +726,7 @@ public class Blade implements Comparable<Blade> {
 	 * A check is performed first to see if the blade is already a scalar. If it is,
 	 * it silently returns and does nothing. If it isn't, the method tries to remove
 	 * all set elements even if doing so might make the blade a scalar along the
-	 * way. Because the blade's internal representation relies on an EnumSet, it
+	 * way. Because the blade's internal representation relies on a mask, it
 	 * won't object to attempts to remove set elements not present in the set.
 	 * Trying is inefficient, but does no harm.
 	 * <p>
@@ -655,9 +737,9 @@ public class Blade implements Comparable<Blade> {
 		if (isScalar(this))
 			return this;
 		else {
-			blade.removeAll(pS);
-			makeKey(); // Removing anything changes the key.
-			return this;
+			Blade tB = mutable();
+			pS.forEach(g -> tB.bitKey &= ~bitOf(g));
+			return tB;
 		}
 	}
 
@@ -669,14 +751,16 @@ public class Blade implements Comparable<Blade> {
 	 * @return Blade The blade itself is returned to support stream calls.
 	 */
 	public Blade remove(Generator pS) {
-		if (blade.remove(pS))
-			makeKey();
-		return this;
+		if ((bitKey & bitOf(pS)) == 0)
+			return this;
+		Blade tB = mutable();
+		tB.bitKey &= ~bitOf(pS);
+		return tB;
 	}
 
 	/**
 	 * Flip the order of multiplication of the generators. This doesn't actually
-	 * alter the EnumSet containing generators, though. It computes the effect of a
+	 * alter the mask containing generators, though. It computes the effect of a
 	 * reversal as a sign flip since the effect is to scale the blade by +1 or -1.
 	 * <p>
 	 * No Sign flip for blade size = 0, 1, 4, 5, 8, 9, Sign flip for blade.size = 2,
@@ -690,8 +774,11 @@ public class Blade implements Comparable<Blade> {
 	 * @return Blade This one after the action is complete. Supporting streams.
 	 */
 	public Blade reverse() {
-		if ((blade.size() / 2) % 2 == 1)
-			sign *= FLIP;
+		if ((rank() / 2) % 2 == 1) {
+			Blade tB = mutable();
+			tB.sign *= FLIP;
+			return tB;
+		}
 		return this;
 	}
 
@@ -705,30 +792,19 @@ public class Blade implements Comparable<Blade> {
 	}
 
 	/*
-	 * Base (maxGen+1) representation of Eddington Number
-	 * <p>
-	 * Ex: 3 generators implies Base-4 keys stuffed into Base-10 number.
-	 * <p>
-	 * Last generator in the list is the one's digit, the next to last is the 4's
-	 * digit and the one before that is the 16's digit. The actual byte stored in
-	 * the list is multiplied by that power
-	 * <p>
-	 * Ex: 8 generators implies Base-9 keys stuffed into a Base-10 number.
+	 * The bit a generator occupies in a bitKey.
 	 */
-	private void makeKey() {
-		key = 0L;
-		bitKey = 0;
-		int counter = 0;
-		Iterator<Generator> cursor = blade.iterator();
-		Generator g;
-		while (cursor.hasNext()) {
-			g = cursor.next();
-			key += (long) g.ord * (long) Math.pow((maxGen + 1), (blade.size() - 1 - counter));
-			bitKey += (1 << (g.ord - 1));
-			counter++;
-		}
+	private static int bitOf(Generator pG) {
+		return 1 << (pG.ord - 1);
 	}
-	
+
+	/*
+	 * Deliver this blade if it may be changed or a copy of it if it is shared.
+	 */
+	private Blade mutable() {
+		return interned ? new Blade(this) : this;
+	}
+
 	/**
 	 * Simple settor for the sign of this blade.
 	 * <p>
@@ -736,8 +812,9 @@ public class Blade implements Comparable<Blade> {
 	 * @return this blade
 	 */
 	protected Blade setSign(byte pSign) {
-		sign = (pSign == (byte) 1) ? (byte) 1 : ((pSign == (byte) -1) ? (byte) -1 : (byte) 0);
-		return this;
+		Blade tB = mutable();
+		tB.sign = (pSign == (byte) 1) ? (byte) 1 : ((pSign == (byte) -1) ? (byte) -1 : (byte) 0);
+		return tB;
 	}
 
 }
\ No newline at end of file
@@ -24,17 +24,18 @@
  */
 package org.interworldtransport.cladosG;
 
-import java.util.ArrayList;
-import java.util.Collections;
-
 /**
  * This class just acts as a bucket two blades when they are combined and
  * reduced in product result discovery. In Clados v1 the methods were all buried
  * in the Basis and GProduct classes. They are surfaced here in BladeDuet in
  * order to support parallelization of product table generation.
  * <p>
- * BladeDuet makes use of streams, but intentionally avoids parallelizing
- * computations internally. Most of what each one does must be done in sequence.
+ * The real work is done by the static sign() method on bitKeys. The product of
+ * two blades is the blade named by the exclusive-or of their bitKeys because
+ * shared generators pair up and reduce to their squares. The sign comes from
+ * the transpositions needed to reach canonical order and from the squares of
+ * the shared generators. Both are bit counts, so nothing is allocated and
+ * nothing is sorted.
  * <p>
  * @version 2.0
  * @author Dr Alfred W Differ
@@ -42,13 +43,78 @@ import java.util.Collections;
 public final class BladeDuet {
 
 	/**
-	 * This method reduces pairs of directions in what is ALMOST a sorted bladeDuet
-	 * list. It's actually two buckets of sorted generators that upon duplication
-	 * removal MIGHT be sorted. If not, we can jump straight to the sorted order
-	 * simply by inserting the generators in an EnumSet which happens to be their
-	 * destination in a Blade anyway. What we don't know immeidately is how many
-	 * transpositions are necessary to reach that sort order. That's what this
-	 * method does after removing generator duplicates.
+	 * Report whether two blades named by their bitKeys commute. Swapping them
+	 * costs one transposition for every pair of generators that differ, which is
+	 * the product of their grades less their shared generators. The metric plays
+	 * no part, so degenerate pairs are reported too even though they vanish.
+	 * <p>
+	 * @param pLeft  int bitKey of one blade
+	 * @param pRight int bitKey of the other blade
+	 * @return boolean TRUE if the blades commute and FALSE if they anticommute
+	 */
+	public static final boolean commutes(int pLeft, int pRight) {
+		return ((Integer.bitCount(pLeft) * Integer.bitCount(pRight) + Integer.bitCount(pLeft & pRight)) & 1) == 0;
+	}
+
+	/**
+	 * Gather the generators with negative squares from a numeric signature into
+	 * a mask with bit positions that match those used in a Blade's bitKey.
+	 * <p>
+	 * @param pSig signature array with +1, -1 or 0 for each generator
+	 * @return int mask of the generators with negative squares
+	 */
+	public static final int negativeMask(byte[] pSig) {
+		int tMask = 0;
+		for (int m = 0; m < pSig.length; m++)
+			if (pSig[m] < 0)
+				tMask |= (1 << m);
+		return tMask;
+	}
+
+	/**
+	 * Count the transpositions needed to bring the generators of two juxtaposed
+	 * blades into canonical order. Each generator in the left blade has to move
+	 * past every generator in the right blade that has a lower ordinal.
+	 * <p>
+	 * @param pLeft  int bitKey of the blade on the left
+	 * @param pRight int bitKey of the blade on the right
+	 * @return int Number of transpositions. Only the parity matters.
+	 */
+	public static final int reorderCount(int pLeft, int pRight) {
+		int tSwaps = 0;
+		int tLeft = pLeft >>> 1;
+		while (tLeft != 0) {
+			tSwaps += Integer.bitCount(tLeft & pRight);
+			tLeft >>>= 1;
+		}
+		return tSwaps;
+	}
+
+	/**
+	 * Find the sign of the product of two blades named by their bitKeys. The
+	 * product blade itself is named by (pLeft ^ pRight).
+	 * <p>
+	 * 1. Reordering | An odd number of transpositions flips the sign.
+	 * <p>
+	 * 2. Metric | Each shared generator contributes its square. Shared generators
+	 * with negative squares flip the sign. A shared degenerate generator makes the
+	 * whole result vanish.
+	 * <p>
+	 * @param pLeft     int bitKey of the blade on the left
+	 * @param pRight    int bitKey of the blade on the right
+	 * @param pNegative int mask of generators with negative squares
+	 * @param pZero     int mask of generators with zero squares
+	 * @return int +1 or -1 for the sign of the product OR 0 if it vanishes.
+	 */
+	public static final int sign(int pLeft, int pRight, int pNegative, int pZero) {
+		int tShared = pLeft & pRight;
+		if ((tShared & pZero) != 0)
+			return 0;
+		return (((reorderCount(pLeft, pRight) + Integer.bitCount(tShared & pNegative)) & 1) == 0) ? 1 : -1;
+	}
+
+	/**
+	 * This method reduces the product of two blades to a single signed blade.
 	 * <p>
 	 * The offered numeric signature is used for the reduction to handle sign flips.
 	 * Generators with a positive square appear as a one (1) while those with
@@ -72,26 +138,32 @@ public final class BladeDuet {
 		BladeDuet tBD = new BladeDuet(pB1, pB2);
 		return tBD.simplify(sig);
 	}
+
+	/**
+	 * Gather the degenerate generators from a numeric signature into a mask with
+	 * bit positions that match those used in a Blade's bitKey.
+	 * <p>
+	 * @param pSig signature array with +1, -1 or 0 for each generator
+	 * @return int mask of the generators with zero squares
+	 */
+	public static final int zeroMask(byte[] pSig) {
+		int tMask = 0;
+		for (int m = 0; m < pSig.length; m++)
+			if (pSig[m] == 0)
+				tMask |= (1 << m);
+		return tMask;
+	}
+
 	/**
 	 * These are the bitKey's of the Blades inserted.
 	 * They get used to help with the simplify algorithm.
 	 */
 	private int bitKeyLeft, bitKeyRight = 0;
-	
-	/**
-	 * This holds the combined list of generators from each blade.
-	 * Left blade goes first, then right
-	 */
-	private ArrayList<Generator> bladeDuet;
 
 	/**
-	 * This byte holds the sign of the blade to which the list of 
-	 * generators simplifies in the end. A +1 sign means a blade that 
-	 * is an even permutation of the remaining generators. A -1 sign 
-	 * means an odd permutation.
-	 * <p>
-	 * Calculating the sign ALSO gets the algebra's signature involved,
-	 * so this DOES involve the metric.
+	 * This byte holds the product of the signs of the two blades offered. The
+	 * sign of the blade to which they simplify also depends on the ordering of
+	 * generators and the algebra's signature, so this is only the starting point.
 	 */
 	private byte sign = 1;
 
@@ -113,34 +185,22 @@ public final class BladeDuet {
 	public BladeDuet(Blade pB1, Blade pB2) {
 		assert (pB1.maxGenerator() == pB2.maxGenerator());
 		maxGen = pB1.maxGenerator();
-		// assert (maxGen > 0);
-		bladeDuet = new ArrayList<>(2 * maxGen);
-		pB1.getGenerators().stream().forEachOrdered(g -> bladeDuet.add(g));
 		sign = pB1.sign();
 		bitKeyLeft = pB1.bitKey();
-		pB2.getGenerators().stream().forEachOrdered(g -> bladeDuet.add(g));
 		sign *= pB2.sign();
 		bitKeyRight = pB2.bitKey();
 	}
 
 	/**
-	 * This method reduces pairs of directions in what is ALMOST a sorted bladeDuet
-	 * list. It's actually two buckets of sorted generators that upon duplication
-	 * removal MIGHT be sorted. If not, we can jump straight to the sorted order
-	 * simply by inserting the generators in an EnumSet which happens to be their
-	 * destination in a Blade anyway. What we don't know immediately is how many
-	 * transpositions are necessary to reach that sort order. That's what this
-	 * method does after removing generator duplicates.
+	 * This method reduces the juxtaposed blades to a single signed blade using
+	 * sign() on their bitKeys.
 	 * <p>
 	 * The offered numeric signature is used for the reduction to handle sign flips.
 	 * Generators with a positive square appear as a one (1) while those with
 	 * negative squares appear as negative one (-1).
 	 * <p>
-	 * NOTE that the numeric signature representation is a departure with prior use
-	 * in Clados where zero(0) implied no sign flip and one(1) implied sign flip for
-	 * negative squared generator. Prior practice used to add up the sign flips and
-	 * then look at what was left modulo 2. Ideally, what we want is a 'signed bit'
-	 * sized data element to track signs.
+	 * A positive result is the shared blade from Blade.interned() itself, so the
+	 * common case allocates nothing. Any other result is a copy with its sign set.
 	 * <p>
 	 * Exception cases NOT checked because this is for CladosG internal use.
 	 * <p>
@@ -149,42 +209,11 @@ public final class BladeDuet {
 	 * @return Blade [supporting stream approach]
 	 */
 	protected Blade simplify(byte[] pSig) {
-		int andKey = bitKeyLeft & bitKeyRight;
-		byte gen = 1;										//start with lowest generator
-		while (andKey > 0) {								//while any duplicate generators present
-			if (Integer.lowestOneBit(andKey) == 1) {		//andKey is odd => low bit points at duplicate generator
-				Generator eq = Generator.get(gen);			//find generator for that lowest bit
-				sign *= (Integer.lowestOneBit(bladeDuet.lastIndexOf(eq) ^ bladeDuet.indexOf(eq)) == 1) ? (byte) 1 : (byte) -1;
-															//lastIndexOf = right-most. indexOf = left-most.
-															//We won't be in this section unless there are exactly two.
-															//This permutes indexes getting both generators next to each other.
-				sign *= pSig[gen - 1];
-				bladeDuet.removeAll(Collections.singleton(eq));
-			}
-			gen++;											//move up to the next generator to test
-			andKey = andKey >>> 1;							//shift andKey right dropping lowest bit
-		}
-		Blade returnIt = Blade.createBlade(maxGen); 		//A scalar blade with room to expand.
-		if (sign == 0)							
-			return returnIt.setSign((byte) 0);				//In the degenerate case, we are done!
-		
-		bladeDuet.stream().forEach(g -> returnIt.add(g));	//Load remaining generators IF NO paired generator was degenerate
-															//returnIt has the correct generators, but might have the wrong sign
-		andKey = bitKeyLeft & bitKeyRight;
-		// if either residue key vanishes, the bladeDuet is already in SORT order.
-		if ((bitKeyLeft - andKey) != 0 & (bitKeyRight - andKey) != 0) {
-			ArrayList<Generator> pB = new ArrayList<>(returnIt.getGenerators());
-			for (Generator pG : pB) { // Exploiting the KNOWN correct order.
-				int found = bladeDuet.indexOf(pG);
-				int refer = pB.indexOf(pG);
-
-				if (found != refer) {
-					sign *= (byte) -1;
-					Collections.swap(bladeDuet, found, refer);
-				}
-			}
-		}
-		return returnIt.setSign(sign);
+		int tSign = sign * sign(bitKeyLeft, bitKeyRight, negativeMask(pSig), zeroMask(pSig));
+		if (tSign == 0)										//In the degenerate case, the scalar is zero.
+			return Blade.interned(maxGen, 0).setSign((byte) 0);
+		Blade returnIt = Blade.interned(maxGen, bitKeyLeft ^ bitKeyRight);
+		return (tSign == 1) ? returnIt : returnIt.setSign((byte) tSign);
 	}
 
 	/**
@@ -192,17 +221,20 @@ public final class BladeDuet {
 	 * BladeDuet in a human readable form. This is likely ONLY useful during debug
 	 * efforts.
 	 * <p>
-	 * This variation uses a Generator's name in the generator list.
+	 * This variation uses a Generator's name in the generator list. Generators of
+	 * the left blade are listed before those of the right one.
 	 * <p>
 	 * @return String The XML formated String representing the BladeDuet.
 	 */
 	public String toXMLString() {
 		StringBuilder rB = new StringBuilder();
 		rB.append("<BladeDuet sign=\"").append(sign).append("\" maxGrade=\"").append(maxGen).append("\" generators=\"");
-		bladeDuet.stream().forEachOrdered(g -> rB.append(g.toString() + ","));
-		if (bladeDuet.size() > 0)
+		for (int tKey : new int[] { bitKeyLeft, bitKeyRight })
+			for (int tLeft = tKey; tLeft != 0; tLeft &= tLeft - 1)
+				rB.append(Generator.get((byte) (Integer.numberOfTrailingZeros(tLeft) + 1)).toString() + ",");
+		if ((bitKeyLeft | bitKeyRight) != 0)
 			rB.deleteCharAt(rB.length() - 1);
 		rB.append("\" />\n");
 		return rB.toString();
 	}
-}
\ No newline at end of file
+}
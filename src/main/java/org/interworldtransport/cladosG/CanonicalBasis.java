@@ -104,6 +104,25 @@ public interface CanonicalBasis {
 	 */
 	public abstract int find(Blade pIn);
 
+	/**
+	 * Primitive 'find' method that reports index location in the basis where the
+	 * blade with the offered bitKey is found OR -1 if it wasn't found.
+	 * <p>
+	 * @param pBitKey int bitKey of the blade to be found
+	 * @return integer index pointing to element of a list containing the Blade OR
+	 *         -1 if the bitKey is outside the basis.
+	 */
+	public abstract int findBitKey(int pBitKey);
+
+	/**
+	 * Return the bitKey for the blade at p1 in the basis. This is the inverse of
+	 * findBitKey() apart from the shift between 0-based and 1-based positions.
+	 * <p>
+	 * @param p1 int This is the (0-based) position of the blade.
+	 * @return int bitKey of the blade OR -1 if the position is outside the basis.
+	 */
+	public abstract int getBitKey(int p1);
+
 	/**
 	 * Return the number of independent blades in the basis. This is the same as the
 	 * linear dimension of an algebra that uses this basis.
@@ -123,6 +142,15 @@ public interface CanonicalBasis {
 	 */
 	public abstract EnumSet<Generator> getBladeSet(int p1);
 
+	/**
+	 * Return the sign each blade picks up under Clifford conjugation, the
+	 * composition of reversion and the main involution. Blades of grades 1 and 2
+	 * modulo 4 change sign.
+	 * <p>
+	 * @return byte[] +1 or -1 for each blade in basis order. Do not change it.
+	 */
+	public abstract byte[] getConjugateSigns();
+
 	/**
 	 * Return the number of grades in the basis. Since there is no geometry in the
 	 * basis this is a measure of the number of distinct generator subset types that
@@ -150,6 +178,32 @@ public interface CanonicalBasis {
 	 */
 	public abstract int getGradeStart(byte p1);
 
+	/**
+	 * Get an index just past the last blade of the grade specified by the
+	 * parameter. Blades of grade p1 sit at getGradeStart(p1) up to but not
+	 * including this index.
+	 * <p>
+	 * @param p1 byte This is for choosing which grade index range to return.
+	 * @return int Index within the basis where the requested grade ends.
+	 */
+	public abstract int getGradeEnd(byte p1);
+
+	/**
+	 * Get the grade of the blade at the indexed position in the basis.
+	 * <p>
+	 * @param p1 int (0-based) position of the blade.
+	 * @return byte grade of the blade at that position.
+	 */
+	public abstract byte getGradeOf(int p1);
+
+	/**
+	 * Return the sign each blade picks up under the main involution. Blades of
+	 * odd grade change sign.
+	 * <p>
+	 * @return byte[] +1 or -1 for each blade in basis order. Do not change it.
+	 */
+	public abstract byte[] getInvolutionSigns();
+
 	/**
 	 * Return the long at p1 in the EddingtonKey array.
 	 * <p>
@@ -173,6 +227,14 @@ public interface CanonicalBasis {
 	 */
 	public abstract int getPScalarStart();
 	
+	/**
+	 * Return the sign each blade picks up under reversion. Blades of grades 2
+	 * and 3 modulo 4 change sign.
+	 * <p>
+	 * @return byte[] +1 or -1 for each blade in basis order. Do not change it.
+	 */
+	public abstract byte[] getReverseSigns();
+
 	/**
 	 * This is a short-hand method for getSingleBlade(0). It just returns the first
 	 * blade in the basis.
@@ -200,6 +262,16 @@ public interface CanonicalBasis {
 	 */
 	public abstract IntStream gradeStream();
 
+	/**
+	 * The stream returned contains the (0-based) positions of the blades that
+	 * match the grade requested in the parameter. It is a primitive range, so
+	 * nothing is boxed and no blade is touched.
+	 * <p>
+	 * @param pIn byte integer for the grade to be streamed
+	 * @return IntStream of positions of the blades of that grade
+	 */
+	public abstract IntStream indexOfGradeStream(byte pIn);
+
 	/**
 	 * Similar to bladestream(), this method returns a stream of boxed long integers
 	 * that represents blade keys.
@@ -55,6 +55,88 @@ public final class CladosConstant {
 	 * This is the largest grade supported by Clados
 	 */
 	public final static byte MAXGRADE = CladosConstant.GENERATOR_MAX.ord;
+	/**
+	 * This is the smallest generator count for which CladosGBuilder constructs a
+	 * table-free GBitProduct instead of a GProduct. A GProduct table for 13
+	 * generators already needs 256MB of heap and each generator beyond that
+	 * multiplies it by four.
+	 */
+	public final static byte BITPRODUCT_MIN = 13;
+	/**
+	 * This is the smallest generator count for which a Basis builds its grades on
+	 * separate threads. Smaller bases are done before a thread could be handed
+	 * the work. ExecutionPolicy starts with this and may be told otherwise.
+	 */
+	public final static byte BASIS_PARALLEL_MIN = 10;
+	/**
+	 * This is the smallest blade count for which a GProduct fills the rows of its
+	 * table on separate threads. That is eight generators. Smaller tables are
+	 * filled before a thread could be handed the work.
+	 */
+	public final static int TABLE_PARALLEL_MIN = 256;
+	/**
+	 * This is the fewest non-zero coefficients of one factor that get a partial
+	 * accumulator of their own during a parallel monad product. Products are
+	 * split into no more chunks than the pool has threads, so each chunk costs
+	 * one full-width partial Scale and this keeps tiny chunks from costing more
+	 * than they save.
+	 */
+	public final static int PRODUCT_CHUNK_MIN = 8;
+	/**
+	 * This is the smallest number of coefficient pairs in a monad product that
+	 * is worth spreading across threads. Below it, thread handoff costs more
+	 * than the arithmetic saved. ExecutionPolicy starts with this and may be told
+	 * otherwise.
+	 */
+	public final static int PRODUCT_PARALLEL_MIN = 4096;
+	/**
+	 * This is the smallest generator count for which a dense monad product may be
+	 * done through a matrix representation instead of the product table. Below
+	 * it the table is small enough that moving weights in and out of matrices
+	 * costs more than it saves. At or above it, dense products use the matrices
+	 * even when they have few enough pairs for PATTERN_PAIRS_MAX, but only once
+	 * GCache.setMatrixProducts(true) allows them.
+	 */
+	public final static byte MATRIX_PRODUCT_MIN = 8;
+	/**
+	 * This is the most product patterns GCache will hold. The least recently used
+	 * pattern is dropped when another would exceed it. Their bytes also count
+	 * against the GCache memory budget, so fewer large ones fit.
+	 */
+	public final static int PATTERN_CACHE_MAX = 256;
+	/**
+	 * This is the largest number of blade pairs a product pattern may cover.
+	 * Products of operands with more blades than this between them are done
+	 * without a pattern instead of caching one that eats the heap. When matrix
+	 * products are allowed, dense geometric products of MATRIX_PRODUCT_MIN or
+	 * more generators don't get this far since the matrices beat a pattern of any
+	 * size there.
+	 */
+	public final static int PATTERN_PAIRS_MAX = 1 << 16;
+	/**
+	 * This is the share of the maximum heap GCache starts with as its memory
+	 * budget. A value of 4 allows cached bases and products a quarter of the heap
+	 * before the least recently used products are evicted.
+	 */
+	public final static int CACHE_BUDGET_SHARE = 4;
+	/**
+	 * This is the largest share of a sandwich that may leak out of the grade it
+	 * started in before a monad is rejected as a versor. It is relative to the
+	 * largest entry of the map, so it allows for float weights rounding an exact
+	 * versor.
+	 */
+	public final static double VERSOR_TOLERANCE = 1.0E-6d;
+	/**
+	 * This is the number of targets one task handles when a versor is applied to
+	 * a batch. Batches larger than this are split across threads in chunks of
+	 * this size.
+	 */
+	public final static int BATCH_CHUNK = 256;
+	/**
+	 * This is the smallest batch that is worth spreading across threads. It is
+	 * one target more than a chunk, so there are always at least two chunks.
+	 */
+	public final static int BATCH_PARALLEL_MIN = BATCH_CHUNK + 1;
 	/**
 	 * This is just a list of the special cases for Monad construction. Rather than
 	 * have a copy of them in each monad class, we keep them here.
@@ -83,7 +83,9 @@ public interface CliffordProduct {
 	 * @param pCol int
 	 * @return int
 	 */
-	public abstract int getACommuteSign(int pRow, int pCol);
+	public default int getACommuteSign(int pRow, int pCol) {
+		return (getResult(pRow, pCol) == getResult(pCol, pRow)) ? 0 : 1;
+	}
 
 	/**
 	 * Basic Get method for the Basis generated by the signature of this GProduct.
@@ -107,7 +109,9 @@ public interface CliffordProduct {
 	 * @param pCol int
 	 * @return int
 	 */
-	public abstract int getCommuteSign(int pRow, int pCol);
+	public default int getCommuteSign(int pRow, int pCol) {
+		return (getResult(pRow, pCol) == getResult(pCol, pRow)) ? 1 : 0;
+	}
 
 	/**
 	 * Get the grade count of the algebra that uses this GProduct.
@@ -119,10 +123,21 @@ public interface CliffordProduct {
 	/**
 	 * Get start and end index from the GradeRange array for grade pGrade.
 	 * <p>
-	 * @param pGrade short primitive = grade for which the range is needed
+	 * There is currently no protection on this method. If someone asks for a grade
+	 * that isn't in range, they WILL get -1 in the cells.
+	 * <p>
+	 * @param pGrade byte primitive = grade for which the range is needed
 	 * @return int[] start and end indexes returned for particular grade
 	 */
-	public abstract int[] getGradeRange(byte pGrade);
+	public default int[] getGradeRange(byte pGrade) {
+		CanonicalBasis tB = getBasis();
+		int[] tR = new int[2];
+		tR[0] = tB.getGradeStart(pGrade);
+		tR[1] = (pGrade == tB.getGradeCount() - 1) // is this MaxGrade? If so, top=bottom
+				? tR[0]
+				: tB.getGradeStart((byte) (pGrade + 1)) - 1;
+		return tR;
+	}
 
 	/**
 	 * Get start and end index from the GradeRange array for the highest grade. Both
@@ -130,7 +145,12 @@ public interface CliffordProduct {
 	 * <p>
 	 * @return int[] start and end indexes returned highest grade
 	 */
-	public abstract int[] getPScalarRange();
+	public default int[] getPScalarRange() {
+		int[] tR = new int[2];
+		tR[0] = getBasis().getPScalarStart();
+		tR[1] = tR[0];
+		return tR;
+	}
 
 	/**
 	 * Return an element in the geometric multiplication result table. The value
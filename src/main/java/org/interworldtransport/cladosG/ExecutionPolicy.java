@@ -0,0 +1,247 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.ExecutionPolicy<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.ExecutionPolicy<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Every place in CladosG that might spread work across threads asks this
+ * singleton first. Each kind of work has a size threshold. Work smaller than
+ * its threshold runs on the calling thread because handing it to a pool costs
+ * more than the work does. Work at or above it is split into tasks on a
+ * fork-join pool.
+ * <p>
+ * The pool is the common pool unless another is offered. Applications that
+ * keep the common pool busy with their own work can give Clados a pool of its
+ * own so the two don't compete. Offering null goes back to the common pool.
+ * <p>
+ * Tasks are numbered and results come back in task order, so a result never
+ * depends on the thresholds, the pool or how many threads ran. Only the time
+ * it takes does.
+ * <p>
+ * Thresholds start at the defaults in CladosConstant. Setting one to zero
+ * makes that work always parallel. Setting it to Long.MAX_VALUE makes it never
+ * parallel.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public enum ExecutionPolicy {
+	/**
+	 * There is an implicit private constructor for this, but we won't override it.
+	 */
+	INSTANCE;
+
+	/**
+	 * These are the kinds of work that may be split across threads. Each names
+	 * what its size is measured in.
+	 */
+	public enum Work {
+		/**
+		 * Building the bitKeys of a basis. Size is the number of generators.
+		 */
+		BASIS(CladosConstant.BASIS_PARALLEL_MIN),
+		/**
+		 * Building the table of a GProduct. Size is the number of blades.
+		 */
+		TABLE(CladosConstant.TABLE_PARALLEL_MIN),
+		/**
+		 * Multiplying two monads without a pattern. Size is the number of pairs of
+		 * non-zero coefficients.
+		 */
+		PRODUCT(CladosConstant.PRODUCT_PARALLEL_MIN),
+		/**
+		 * Applying one map to many monads or tuples. Size is the number of targets.
+		 */
+		BATCH(CladosConstant.BATCH_PARALLEL_MIN);
+
+		/**
+		 * Threshold used when none has been set.
+		 */
+		private final long defaultMin;
+
+		/**
+		 * Simple constructor for the kinds of work.
+		 * <p>
+		 * @param pMin long default threshold
+		 */
+		private Work(long pMin) {
+			defaultMin = pMin;
+		}
+
+		/**
+		 * Simple gettor for the default threshold.
+		 * <p>
+		 * @return long smallest size that runs in parallel by default
+		 */
+		public long getDefaultMin() {
+			return defaultMin;
+		}
+	}
+
+	/**
+	 * Pool offered by the application. Null means the common pool.
+	 */
+	private volatile ForkJoinPool pool;
+
+	/**
+	 * Thresholds currently in force indexed by Work.ordinal(). Every product,
+	 * basis and batch reads one, so they are kept where reading takes no lock.
+	 */
+	private final AtomicLongArray thresholds = defaultThresholds();
+
+	/**
+	 * Run numbered tasks on the calling thread or on the pool depending on the
+	 * size of the work. Tasks must not depend on each other.
+	 * <p>
+	 * @param pWork  Work kind whose threshold applies
+	 * @param pSize  long size of the work in the units of its kind
+	 * @param pTasks int number of tasks numbered from zero
+	 * @param pTask  IntConsumer to run once per task number
+	 */
+	public void forEach(Work pWork, long pSize, int pTasks, IntConsumer pTask) {
+		if (!isParallel(pWork, pSize) || pTasks < 2) {
+			for (int k = 0; k < pTasks; k++)
+				pTask.accept(k);
+			return;
+		}
+		runIn(() -> {
+			IntStream.range(0, pTasks).parallel().forEach(pTask);
+			return null;
+		});
+	}
+
+	/**
+	 * Simple gettor for the pool parallel work runs on.
+	 * <p>
+	 * @return ForkJoinPool offered by the application or the common pool
+	 */
+	public ForkJoinPool getPool() {
+		ForkJoinPool tPool = pool;
+		return (tPool == null) ? ForkJoinPool.commonPool() : tPool;
+	}
+
+	/**
+	 * Simple gettor for a threshold.
+	 * <p>
+	 * @param pWork Work kind whose threshold is wanted
+	 * @return long smallest size of that work that runs in parallel
+	 */
+	public long getThreshold(Work pWork) {
+		return thresholds.get(pWork.ordinal());
+	}
+
+	/**
+	 * Report whether work of this kind and size would be split across threads.
+	 * <p>
+	 * @param pWork Work kind whose threshold applies
+	 * @param pSize long size of the work in the units of its kind
+	 * @return boolean TRUE if the size reaches the threshold
+	 */
+	public boolean isParallel(Work pWork, long pSize) {
+		return pSize >= getThreshold(pWork);
+	}
+
+	/**
+	 * Run numbered tasks and collect their results in task order. Tasks run on
+	 * the calling thread or on the pool depending on the size of the work.
+	 * <p>
+	 * @param pWork  Work kind whose threshold applies
+	 * @param pSize  long size of the work in the units of its kind
+	 * @param pTasks int number of tasks numbered from zero
+	 * @param pTask  IntFunction producing the result of each task
+	 * @param <R>    type of the results
+	 * @return List of results where entry k came from task k
+	 */
+	public <R> List<R> map(Work pWork, long pSize, int pTasks, IntFunction<R> pTask) {
+		if (!isParallel(pWork, pSize) || pTasks < 2)
+			return IntStream.range(0, pTasks).mapToObj(pTask).toList();
+		return runIn(() -> IntStream.range(0, pTasks).parallel().mapToObj(pTask).toList());
+	}
+
+	/**
+	 * Put every threshold back to its default.
+	 */
+	public void resetThresholds() {
+		for (Work tWork : Work.values())
+			thresholds.set(tWork.ordinal(), tWork.getDefaultMin());
+	}
+
+	/**
+	 * Simple setter for the pool parallel work runs on. Work already running
+	 * finishes where it started.
+	 * <p>
+	 * @param pPool ForkJoinPool to use or null for the common pool
+	 */
+	public void setPool(ForkJoinPool pPool) {
+		pool = pPool;
+	}
+
+	/**
+	 * Simple setter for a threshold.
+	 * <p>
+	 * @param pWork Work kind whose threshold is to change
+	 * @param pMin  long smallest size that should run in parallel
+	 * @throws IllegalArgumentException This happens if the threshold is negative.
+	 */
+	public void setThreshold(Work pWork, long pMin) {
+		if (pMin < 0)
+			throw new IllegalArgumentException("Parallel threshold can't be negative.");
+		thresholds.set(pWork.ordinal(), pMin);
+	}
+
+	/*
+	 * Build the array of thresholds holding every default.
+	 */
+	private final static AtomicLongArray defaultThresholds() {
+		AtomicLongArray tMins = new AtomicLongArray(Work.values().length);
+		for (Work tWork : Work.values())
+			tMins.set(tWork.ordinal(), tWork.getDefaultMin());
+		return tMins;
+	}
+
+	/**
+	 * Run a parallel stream so its tasks land on the chosen pool. A stream's tasks
+	 * go to the pool of the thread that starts it, so the stream is started from
+	 * inside the pool unless this thread already belongs to it.
+	 * <p>
+	 * @param pJob Supplier that starts the parallel stream
+	 * @param <R>  type of the result
+	 * @return R whatever the stream returned
+	 */
+	private <R> R runIn(Supplier<R> pJob) {
+		ForkJoinPool tPool = getPool();
+		if (tPool == ForkJoinPool.commonPool() || ForkJoinTask.getPool() == tPool)
+			return pJob.get();
+		return tPool.submit(pJob::get).join();
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.GBitProduct<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.GBitProduct<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+
+/**
+ * This class defines a geometric product on an associated basis within a
+ * Clifford Algebra WITHOUT storing a multiplication table. Every result is
+ * computed on demand from the bitKeys of the two blades involved.
+ * <p>
+ * A bitKey holds one bit per generator. The product of two blades is the blade
+ * found with the exclusive-or of their bitKeys because shared generators pair
+ * up and reduce to their squares. The sign comes from two places.
+ * <p>
+ * 1. Reordering | Every generator in the left blade must move past each lower
+ * generator in the right blade to reach canonical order. The count of those
+ * transpositions is a sum of bit counts.
+ * <p>
+ * 2. Metric | Each shared generator contributes its square. Shared generators
+ * with negative squares flip the sign. A shared degenerate generator makes the
+ * whole result vanish.
+ * <p>
+ * BladeDuet.sign() handles both, and GProduct uses it to fill its table.
+ * <p>
+ * Nothing larger than a few signature masks is kept here. Blade positions come
+ * from the dense bitKey index the basis already holds, so memory use grows with
+ * the blade count instead of with its square. The price is a handful of
+ * integer operations for every call to getResult(). That is a good trade for
+ * the largest algebras where a GProduct table demands gigabytes of heap.
+ * <p>
+ * Results use the same conventions as GProduct. A result is the 1-based index
+ * of the product blade in the basis with the sign of the product attached. A
+ * zero means the product vanished on a degenerate generator.
+ * <p>
+ * Best practice is still to let CladosGBuilder decide which product to
+ * construct. It uses this class for algebras at or above
+ * CladosConstant.BITPRODUCT_MIN generators.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class GBitProduct implements CliffordProduct {
+
+	/**
+	 * This basis holds a representation of all the elements that can be built from
+	 * the generators to span the algebra's vector space. It is the object that Ken
+	 * Greider called the Eddington Basis.
+	 */
+	private final CanonicalBasis canonBasis;
+
+	/**
+	 * This is the number of generators in the signature.
+	 */
+	private final byte genCount;
+
+	/**
+	 * Generators with negative squares have their bit set in this mask. Bit
+	 * positions match those used in a Blade's bitKey.
+	 */
+	private final int negativeMask;
+
+	/**
+	 * This string holds the signature information describing the squares of all
+	 * geometry generators.
+	 */
+	private final String signature;
+
+	/**
+	 * Degenerate generators have their bit set in this mask. Bit positions match
+	 * those used in a Blade's bitKey.
+	 */
+	private final int zeroMask;
+
+	/**
+	 * Main constructor of GBitProduct with signature information passed in. It
+	 * figures out the rest of what it needs.
+	 * <p>
+	 * @param pSig String form of the signature. Looks like "-+++0".
+	 * @throws GeneratorRangeException Thrown when a Basis fails to form because
+	 *                                 some internal call demands a generator not in
+	 *                                 the supported list.
+	 * @throws BadSignatureException   Thrown when an invalid signature is found
+	 */
+	public GBitProduct(String pSig) throws BadSignatureException, GeneratorRangeException {
+		this(null, pSig);
+	}
+
+	/**
+	 * A re-use constructor of GBitProduct with signature and Basis passed in. It
+	 * figures out the rest of what it needs.
+	 * <p>
+	 * @param pSig String form of the signature. Looks like "-+++".
+	 * @param pB   Canonical Basis to re-use in constructing this product.
+	 * @throws GeneratorRangeException Thrown when a Basis fails to form because
+	 *                                 some internal call demands a generator not in
+	 *                                 the supported list.
+	 * @throws BadSignatureException   Thrown when an invalid signature is found
+	 */
+	public GBitProduct(CanonicalBasis pB, String pSig) throws BadSignatureException, GeneratorRangeException {
+		if (!CliffordProduct.validateSignature(pSig))
+			throw new BadSignatureException(this, "Valid signature required.");
+		// ------Init signature masks
+		int tNeg = 0;
+		int tZero = 0;
+		for (int m = 0; m < pSig.length(); m++) {
+			switch (pSig.charAt(m)) {
+			case '-' -> tNeg |= (1 << m);
+			case '0' -> tZero |= (1 << m);
+			}
+		}
+		negativeMask = tNeg;
+		zeroMask = tZero;
+		signature = pSig;
+		genCount = (byte) pSig.length();
+		// ------Get CanonicalBasis
+		canonBasis = (pB != null) ? pB : GBuilder.createBasis(genCount);
+	}
+
+	/**
+	 * Basic Get method for the Basis generated by the signature of this product.
+	 * <p>
+	 * @return Basis
+	 */
+	@Override
+	public final CanonicalBasis getBasis() {
+		return canonBasis;
+	}
+
+	/**
+	 * Get the linear dimension of the vector space that uses the associated Basis.
+	 * <p>
+	 * @return int
+	 */
+	@Override
+	public final int getBladeCount() {
+		return canonBasis.getBladeCount();
+	}
+
+	/**
+	 * Get the grade count of the algebra that uses this product.
+	 * <p>
+	 * @return byte
+	 */
+	@Override
+	public final byte getGradeCount() {
+		return canonBasis.getGradeCount();
+	}
+
+	/**
+	 * Return an element of the geometric multiplication result table as if the
+	 * table existed. It is computed from the bitKeys of the row and column blades.
+	 * <p>
+	 * @param pRow int
+	 * @param pCol int
+	 * @return int Signed 1-based index of the product blade or zero when the
+	 *         product vanishes on a degenerate generator.
+	 */
+	@Override
+	public final int getResult(int pRow, int pCol) {
+		int tLeft = canonBasis.getBitKey(pRow);
+		int tRight = canonBasis.getBitKey(pCol);
+		return BladeDuet.sign(tLeft, tRight, negativeMask, zeroMask) * canonBasis.findBitKey(tLeft ^ tRight);
+	}
+
+	/**
+	 * Return the sign of an element in the geometric multiplication result table.
+	 * <p>
+	 * @param pRow int
+	 * @param pCol int
+	 * @return int
+	 */
+	@Override
+	public final int getSign(int pRow, int pCol) {
+		int tR = getResult(pRow, pCol);
+		return (tR < 0) ? -1 : (tR > 0) ? 1 : 0;
+	}
+
+	/**
+	 * Return the signature of the generating geometry. This lists the squares of the
+	 * generators in their numeric order.
+	 * <p>
+	 * @return String
+	 */
+	@Override
+	public final String signature() {
+		return signature;
+	}
+
+	/**
+	 * This method produces a printable and parseable string that represents the
+	 * product in a human readable form. The layout matches what GProduct produces,
+	 * so the table is computed here one cell at a time. Expect it to be large for
+	 * the algebras where this class is used.
+	 * <p>
+	 * @return String This is the XML string export of an object.
+	 */
+	@Override
+	public final String toXMLString(String indent) {
+		if (indent == null)
+			indent = "\t\t\t\t\t";
+		StringBuilder rB = new StringBuilder(indent + "<GProduct>\n");
+		rB.append(indent)
+			.append("\t<Signature>")
+			.append(signature())
+			.append("</Signature>\n");
+		rB.append(getBasis().toXMLString(indent + "\t"));
+		rB.append(indent)
+			.append("\t<ProductTable rows=\"")
+			.append(getBladeCount())
+			.append("\">\n");
+		for (int k = 0; k < getBladeCount(); k++) // Appending rows
+		{
+			rB.append(indent)
+				.append("\t\t<row number=\"")
+				.append(k)
+				.append("\" cells=\"");
+			for (int m = 0; m < getBladeCount(); m++)
+				rB.append(getResult(k, m))
+				.append(",");
+			rB.deleteCharAt(rB.length() - 1);
+			rB.append("\" />\n");
+		}
+		rB.append(indent + "\t</ProductTable>\n");
+		rB.append(indent + "</GProduct>\n");
+		return rB.toString();
+	}
+}
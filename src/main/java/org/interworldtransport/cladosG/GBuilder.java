@@ -24,6 +24,8 @@
  */
 package org.interworldtransport.cladosG;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.interworldtransport.cladosF.Cardinal;
@@ -247,7 +249,8 @@ public enum GBuilder { // This has an implicit private constructor we won't over
 	}
 
 	/**
-	 * This method creates a basis and caches it.
+	 * This method creates a basis and caches it. Concurrent requests for the same
+	 * basis share one construction.
 	 * <p>
 	 * @param pGen integer number of generators to use in constructing the basis.
 	 * @return CanonicalBasis constructed
@@ -257,18 +260,12 @@ public enum GBuilder { // This has an implicit private constructor we won't over
 	 *                                 CanonicalBasis and see why it complains.
 	 */
 	public final static CanonicalBasis createBasis(byte pGen) throws GeneratorRangeException {
-		Optional<CanonicalBasis> tB = GCache.INSTANCE.findBasisList(pGen);
-		if (tB.isPresent())
-			return tB.get();
-		else {
-			CanonicalBasis tSpot = Basis.using(pGen);
-			GCache.INSTANCE.appendBasis(tSpot);
-			return tSpot;
-		}
+		return GCache.INSTANCE.findOrBuildBasis(pGen, () -> Basis.using(pGen));
 	}
 
 	/**
-	 * This method creates a basis and caches it.
+	 * This method creates a basis and caches it. Concurrent requests for the same
+	 * basis share one construction.
 	 * <p>
 	 * @param pGen Generator to use in constructing the basis.
 	 * @return CanonicalBasis constructed
@@ -278,14 +275,7 @@ public enum GBuilder { // This has an implicit private constructor we won't over
 	 *                                 CanonicalBasis and see why it complains.
 	 */
 	public final static CanonicalBasis createBasis(Generator pGen) throws GeneratorRangeException {
-		Optional<CanonicalBasis> tB = GCache.INSTANCE.findBasisList(pGen.ord);
-		if (tB.isPresent())
-			return tB.get();
-		else {
-			CanonicalBasis tSpot = Basis.using(pGen);
-			GCache.INSTANCE.appendBasis(tSpot);
-			return tSpot;
-		}
+		return GCache.INSTANCE.findOrBuildBasis(pGen.ord, () -> Basis.using(pGen));
 	}
 
 	/**
@@ -380,6 +370,19 @@ public enum GBuilder { // This has an implicit private constructor we won't over
 	 * both basis and product caches are populated with anything that had to be
 	 * constructed.
 	 * <p>
+	 * Signatures with CladosConstant.BITPRODUCT_MIN generators or more get a
+	 * table-free GBitProduct. Smaller ones get a GProduct with its full table.
+	 * <p>
+	 * Construction is single-flight. Threads asking for the same missing
+	 * signature at once share one construction, so a large table is only built
+	 * once no matter how many want it.
+	 * <p>
+	 * When GCache has a product store, a table saved there for the signature is
+	 * mapped as a MappedGProduct instead. Files that are missing or fail their
+	 * checks are ignored. Any GProduct built here gets its table saved to the
+	 * store for next time. Failing to save is not an error since the product
+	 * works either way.
+	 * <p>
 	 * @param pSig String form of the product's signature
 	 * @return CliffordProduct constructed
 	 * @throws GeneratorRangeException This can be thrown by the constructors on
@@ -390,24 +393,50 @@ public enum GBuilder { // This has an implicit private constructor we won't over
 	 */
 	public final static CliffordProduct createGProduct(String pSig)
 			throws BadSignatureException, GeneratorRangeException {
-		Optional<CliffordProduct> tSpot = GCache.INSTANCE.findGProductMap(pSig);
-		if (tSpot.isPresent())
-			return tSpot.get(); // GProduct already created. return it.
-		else {
-			// Create a new GProduct, but might still find a cached Basis.
-			Optional<CanonicalBasis> tB = GCache.INSTANCE.findBasisList((byte) pSig.length());
-			CliffordProduct tSpot2;
-			if (tB.isPresent())
-				tSpot2 = new GProduct(tB.get(), pSig);
-			else
-				tSpot2 = new GProduct(pSig);
+		return GCache.INSTANCE.findOrBuildGProduct(pSig, () -> buildGProduct(pSig));
+	}
 
-			if (tSpot2 != null) {
-				GCache.INSTANCE.appendBasis(tSpot2.getBasis());
-				GCache.INSTANCE.appendGProduct(tSpot2);
+	/**
+	 * This method does the work for createGProduct(String) when the product isn't
+	 * cached yet. GCache calls it at most once at a time per signature and caches
+	 * what it returns.
+	 * <p>
+	 * @param pSig String form of the product's signature
+	 * @return CliffordProduct constructed
+	 * @throws GeneratorRangeException This can be thrown by the constructors on
+	 *                                 which this method depends.
+	 * @throws BadSignatureException   Thrown if the pSig parameter is malformed
+	 */
+	private final static CliffordProduct buildGProduct(String pSig)
+			throws BadSignatureException, GeneratorRangeException {
+		// Might still find a cached Basis.
+		Optional<CanonicalBasis> tB = GCache.INSTANCE.findBasisList((byte) pSig.length());
+		Optional<Path> tStore = GCache.INSTANCE.getProductStore();
+		CliffordProduct tSpot = null;
+		if (tStore.isPresent() & CliffordProduct.validateSignature(pSig))
+			try {
+				tSpot = MappedGProduct.open(tB.isPresent() ? tB.get() : createBasis((byte) pSig.length()), pSig,
+						tStore.get().resolve(MappedGProduct.fileName(pSig)));
+			} catch (IOException e) {
+				tSpot = null; // Missing or refused. Build it instead.
 			}
-			return tSpot2;
+		if (tSpot == null) {
+			if (pSig.length() >= CladosConstant.BITPRODUCT_MIN)
+				tSpot = new GBitProduct(tB.orElse(null), pSig);
+			else if (tB.isPresent())
+				tSpot = new GProduct(tB.get(), pSig);
+			else
+				tSpot = new GProduct(pSig);
+
+			if (tSpot instanceof GProduct & tStore.isPresent())
+				try {
+					MappedGProduct.save(tSpot, tStore.get().resolve(MappedGProduct.fileName(pSig)));
+				} catch (IOException e) {
+					; // The product still works. It just has to be built again next time.
+				}
 		}
+		GCache.INSTANCE.appendBasis(tSpot.getBasis());
+		return tSpot;
 	}
 
 	/**
@@ -24,14 +24,54 @@
  */
 package org.interworldtransport.cladosG;
 
-import java.util.ArrayList;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
 
 /**
  * Any classes within CladosG which would benefit from a supporting cache make
  * use of this singleton enumeration as a 'builder'. Nothing fancy here
  * otherwise. Just simple create, append, find, and remove capabilities backed
- * by ArrayLists of cached objects.
+ * by concurrent maps of cached objects. Bases are keyed by their generator
+ * count and products by their signature, so lookups don't scan anything.
+ * <p>
+ * Any thread may use the cache at any time. Products for large signatures
+ * take a long time to build, so findOrBuildGProduct() lets exactly one thread
+ * build a missing product while others asking for the same signature wait for
+ * it. Threads asking for other signatures are not held up. Bases work the same
+ * way.
+ * <p>
+ * The cache keeps a rough count of the heap held by its bases and products. When
+ * that count goes over the memory budget, the least recently used products are
+ * evicted until it fits again. An evicted product is only weakly held after
+ * that. Algebras still using it keep it alive and a later request for its
+ * signature gets that same instance back, so nothing that shares a product ever
+ * ends up with two copies of it. Once nothing uses it, the garbage collector
+ * takes it and the next request builds or maps it again. Bases are counted but
+ * never evicted since they are small and every product needs one.
+ * <p>
+ * Product patterns are the exception. They are small, numerous and cheap to
+ * rebuild, so they are kept in a bounded map that drops the least recently used
+ * one when full, with counters that show how well the cache is doing. Patterns,
+ * pseudoscalar maps and matrix representations are found without taking a
+ * lock, and each missing one is built by one thread while the others wait. Their bytes are charged to the
+ * product they came from, so a product with many large patterns gets evicted
+ * sooner and takes its patterns with it.
+ * <p>
+ * A product store is optional. When a directory is set for one, GBuilder saves
+ * the tables of products it builds there and later runs map them from disk
+ * instead of building them again. See MappedGProduct.
  * <p>
  * @version 2.0
  * @author Dr Alfred W Differ
@@ -43,17 +83,167 @@ public enum GCache {
 	INSTANCE;
 
 	/**
-	 * Heads Up! These ArrayLists ensure this 'enumeration' is mutable. This class
-	 * is a cache, so this should suprise no one. It is supposed to keep track of
-	 * the CladosG objects that can be safely shared in use.
+	 * Heads Up! These maps ensure this 'enumeration' is mutable. This class is a
+	 * cache, so this should suprise no one. It is supposed to keep track of the
+	 * CladosG objects that can be safely shared in use. Bases are keyed by their
+	 * number of generators.
+	 */
+	private final ConcurrentHashMap<Byte, CanonicalBasis> mapOfBases = new ConcurrentHashMap<>();
+
+	/**
+	 * Heads Up! These maps ensure this 'enumeration' is mutable. This class is a
+	 * cache, so this should suprise no one. It is supposed to keep track of the
+	 * CladosG objects that can be safely shared in use. Products are keyed by
+	 * their signatures.
+	 */
+	private final ConcurrentHashMap<String, CliffordProduct> mapOfGProducts = new ConcurrentHashMap<>();
+
+	/**
+	 * Bases being built right now keyed like mapOfBases. Threads that find one
+	 * here wait for it instead of building another.
+	 */
+	private final ConcurrentHashMap<Byte, FutureTask<CanonicalBasis>> pendingBases = new ConcurrentHashMap<>();
+
+	/**
+	 * Products being built right now keyed like mapOfGProducts. Threads that find
+	 * one here wait for it instead of building another.
+	 */
+	private final ConcurrentHashMap<String, FutureTask<CliffordProduct>> pendingGProducts = new ConcurrentHashMap<>();
+
+	/**
+	 * Product patterns are keyed by the product they came from and the grade
+	 * masks of the two operands. Products are compared by identity because
+	 * CliffordProduct doesn't override equals().
+	 * <p>
+	 * @param product   CliffordProduct that produced the pattern
+	 * @param leftMask  int bitmask of grades in the left operand
+	 * @param rightMask int bitmask of grades in the right operand
+	 * @param commute   int commutation filter of the pattern
+	 */
+	private record PatternKey(CliffordProduct product, int leftMask, int rightMask, int commute) {
+	}
+
+	/**
+	 * A cached product pattern and the tick of its last use. A hit writes the
+	 * tick only when it changed, so threads sharing a busy pattern rarely write
+	 * to it at all.
+	 */
+	private static final class PatternEntry {
+		private final ProductPattern pattern;
+		private volatile long lastUse;
+
+		private PatternEntry(ProductPattern pPattern) {
+			pattern = pPattern;
+		}
+	}
+
+	/**
+	 * This map holds product patterns with the tick of their last use. The one
+	 * with the oldest tick is dropped once CladosConstant.PATTERN_CACHE_MAX is
+	 * exceeded. Ticks only advance when a pattern is admitted, so that is the
+	 * least recently used pattern to within one admission. Their bytes are
+	 * charged to their products, so the memory budget bounds them too.
+	 */
+	private final ConcurrentHashMap<PatternKey, PatternEntry> mapOfPatterns = new ConcurrentHashMap<>();
+
+	/**
+	 * Patterns being built right now keyed like mapOfPatterns. Threads that find
+	 * one here wait for it instead of building another.
+	 */
+	private final ConcurrentHashMap<PatternKey, FutureTask<PatternEntry>> pendingPatterns = new ConcurrentHashMap<>();
+
+	/**
+	 * Source of pattern use ticks. It counts pattern admissions.
+	 */
+	private final AtomicLong patternClock = new AtomicLong();
+
+	/**
+	 * Pseudoscalar maps are keyed by the product they came from. Products are
+	 * compared by identity because CliffordProduct doesn't override equals().
+	 * There is one per product and it is no bigger than a row of the product, so
+	 * no bound is needed. They leave with their product.
+	 */
+	private final ConcurrentHashMap<CliffordProduct, PScalarMap> mapOfPScalarMaps = new ConcurrentHashMap<>();
+
+	/**
+	 * Pseudoscalar maps being built right now keyed like mapOfPScalarMaps.
+	 */
+	private final ConcurrentHashMap<CliffordProduct, FutureTask<PScalarMap>> pendingPScalarMaps = new ConcurrentHashMap<>();
+
+	/**
+	 * Matrix representations are keyed by the product they came from. Like
+	 * pseudoscalar maps they leave with their product.
+	 */
+	private final ConcurrentHashMap<CliffordProduct, MatrixProduct> mapOfMatrixProducts = new ConcurrentHashMap<>();
+
+	/**
+	 * Matrix representations being built right now keyed like
+	 * mapOfMatrixProducts.
+	 */
+	private final ConcurrentHashMap<CliffordProduct, FutureTask<MatrixProduct>> pendingMatrixProducts = new ConcurrentHashMap<>();
+
+	/**
+	 * Dense products may go through matrix representations when this is set.
+	 */
+	private volatile boolean matrixProducts;
+
+	/**
+	 * Number of product patterns dropped to stay within the bound.
+	 */
+	private long patternEvictions;
+
+	/**
+	 * Number of product pattern requests answered from the cache.
+	 */
+	private final LongAdder patternHits = new LongAdder();
+
+	/**
+	 * Number of product pattern requests that had to build a pattern.
+	 */
+	private final LongAdder patternMisses = new LongAdder();
+
+	/**
+	 * Directory holding saved product tables. Null when no store is in use.
+	 */
+	private Path productStore;
+
+	/**
+	 * Rough count of bytes held by cached bases and products.
+	 */
+	private long cachedBytes;
+
+	/**
+	 * Products evicted to stay within the memory budget. They are held weakly so
+	 * one still in use elsewhere can be handed back instead of built again.
 	 */
-	private ArrayList<CanonicalBasis> listOfBases = new ArrayList<>(1);
+	private final ConcurrentHashMap<String, WeakReference<CliffordProduct>> evictedGProducts = new ConcurrentHashMap<>();
+
 	/**
-	 * Heads Up! These ArrayLists ensure this 'enumeration' is mutable. This class
-	 * is a cache, so this should suprise no one. It is supposed to keep track of
-	 * the CladosG objects that can be safely shared in use.
+	 * The most bytes cached bases and products should hold before products get
+	 * evicted.
 	 */
-	private ArrayList<CliffordProduct> listOfGProducts = new ArrayList<>(1);
+	private long memoryBudget = Runtime.getRuntime().maxMemory() / CladosConstant.CACHE_BUDGET_SHARE;
+
+	/**
+	 * Estimated bytes held by each cached product keyed by signature.
+	 */
+	private final ConcurrentHashMap<String, Long> productBytes = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of products evicted to stay within the memory budget.
+	 */
+	private long productEvictions;
+
+	/**
+	 * The tick of the last use of each cached product keyed by signature. The
+	 * smallest tick marks the least recently used product.
+	 */
+	private final ConcurrentHashMap<String, Long> productUses = new ConcurrentHashMap<>();
+
+	/**
+	 * Source of use ticks. It only ever counts up.
+	 */
+	private final AtomicLong useClock = new AtomicLong();
 
 	/**
 	 * Method appends offered basis to cache IF one like it is not already present.
@@ -75,8 +265,7 @@ public enum GCache {
 	 * @param pB CanonicalBasis to be appended to the cache IF not already present.
 	 */
 	public void appendBasis(CanonicalBasis pB) {
-		if (!listOfBases.contains(pB))
-			listOfBases.add(pB);
+		admitBasis((byte) (pB.getGradeCount() - 1), pB);
 	}
 
 	/**
@@ -98,8 +287,7 @@ public enum GCache {
 	 *            present.
 	 */
 	public void appendGProduct(CliffordProduct pGP) {
-		if (!listOfGProducts.contains(pGP))
-			listOfGProducts.add(pGP);
+		admitGProduct(pGP.signature(), pGP);
 	}
 
 	/**
@@ -107,45 +295,249 @@ public enum GCache {
 	 * since they don't take up a lot of space, but it is faster than removing one
 	 * at a time.
 	 */
-	public void clearBases() {
-		listOfBases = new ArrayList<>(1);
+	public synchronized void clearBases() {
+		mapOfBases.values().forEach(basis -> cachedBytes -= estimateBytes(basis));
+		mapOfBases.clear();
 	}
 
 	/**
 	 * This is for resetting the cache of gproduct objects. It should be used sparingly
 	 * since gproducts can be time consuming to recreate for large algebras. It 
 	 * shouldn't HAVE to be done, but it is faster than removing one at a time.
+	 * Product patterns and pseudoscalar maps go too since they belong to the
+	 * products.
+	 */
+	public synchronized void clearGProducts() {
+		mapOfGProducts.clear();
+		productBytes.values().forEach(bytes -> cachedBytes -= bytes);
+		productBytes.clear();
+		productUses.clear();
+		evictedGProducts.clear();
+		clearProductPatterns(); // Patterns of dropped products are no use
+		mapOfPScalarMaps.clear();
+		mapOfMatrixProducts.clear();
+	}
+
+	/**
+	 * This is for resetting the cache of product patterns. The counters are NOT
+	 * reset, so hits and misses keep telling the whole story.
 	 */
-	public void clearGProducts() {
-		new ArrayList<>(1);
+	public synchronized void clearProductPatterns() {
+		mapOfPatterns.forEach((key, entry) -> discharge(key.product(), estimateBytes(entry.pattern)));
+		mapOfPatterns.clear();
 	}
 
 	/**
 	 * This method returns an Optional of CanonicalBasis using the integer number of
 	 * generators offered for the search. If found, the optional will be engaged. If
-	 * not, it will be disengaged. IF by some chance there are two basis instances
-	 * in the cache by the same number of generators (which should NOT happen) the
-	 * first one found will be returned in the Optional.
+	 * not, it will be disengaged. Only one basis per number of generators can be
+	 * in the cache.
 	 * <p>
 	 * @param pGen byte integer of generators in a basis to be found in the cache
 	 * @return Optional of CanonicalBasis matching the number of generators offered.
 	 */
 	public Optional<CanonicalBasis> findBasisList(byte pGen) {
-		return listOfBases.stream().filter(x -> (x.getGradeCount() - 1) == pGen).findFirst();
+		return Optional.ofNullable(mapOfBases.get(pGen));
 	}
 
 	/**
 	 * This method returns an Optional of CliffordProduct using the String signature
 	 * offered for the search. If found, the optional will be engaged. If not, it
-	 * will be disengaged. IF by some chance there are two product instances in the
-	 * cache by the same signatures (which should NOT happen) the first one found
-	 * will be returned in the Optional.
+	 * will be disengaged. Only one product per signature can be in the cache.
+	 * <p>
+	 * A product evicted earlier but still alive because something uses it is
+	 * taken back into the cache and returned.
 	 * <p>
 	 * @param pSig String signature in a product to be found in the cache
 	 * @return Optional of CliffordProduct matching the signature offered.
 	 */
 	public Optional<CliffordProduct> findGProductMap(String pSig) {
-		return listOfGProducts.stream().filter(x -> x.signature().equals(pSig)).findFirst();
+		if (pSig == null)
+			return Optional.empty();
+		CliffordProduct tGP = mapOfGProducts.get(pSig);
+		if (tGP != null) {
+			productUses.replace(pSig, useClock.incrementAndGet());
+			return Optional.of(tGP);
+		}
+		WeakReference<CliffordProduct> tRef = evictedGProducts.get(pSig);
+		if (tRef == null)
+			return Optional.empty();
+		tGP = tRef.get();
+		if (tGP == null) { // Collected, so it is really gone now
+			evictedGProducts.remove(pSig, tRef);
+			return Optional.empty();
+		}
+		appendGProduct(tGP); // Still in use elsewhere, so take it back
+		return Optional.ofNullable(mapOfGProducts.get(pSig));
+	}
+
+	/**
+	 * This method returns the cached basis for a number of generators or builds
+	 * one with the offered builder if there isn't one. Only one thread builds a
+	 * missing basis. Others asking for the same one wait for it to finish.
+	 * <p>
+	 * @param pGen     byte integer of generators in the basis
+	 * @param pBuilder Callable that constructs the basis when needed
+	 * @return CanonicalBasis from the cache or freshly built and cached
+	 * @throws GeneratorRangeException This is passed along from the builder.
+	 */
+	public CanonicalBasis findOrBuildBasis(byte pGen, Callable<CanonicalBasis> pBuilder)
+			throws GeneratorRangeException {
+		try {
+			return singleFlight(mapOfBases, pendingBases, pGen, pBuilder, this::admitBasis);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof GeneratorRangeException tE)
+				throw tE;
+			throw rethrown(e);
+		}
+	}
+
+	/**
+	 * This method returns the cached product for a signature or builds one with
+	 * the offered builder if there isn't one. Only one thread builds a missing
+	 * product. Others asking for the same signature wait for it to finish while
+	 * requests for other signatures carry on.
+	 * <p>
+	 * If the builder fails, the failure is passed to every thread that waited and
+	 * nothing is cached, so a later request tries again.
+	 * <p>
+	 * @param pSig     String signature of the product
+	 * @param pBuilder Callable that constructs the product when needed
+	 * @return CliffordProduct from the cache or freshly built and cached
+	 * @throws BadSignatureException   This is passed along from the builder.
+	 * @throws GeneratorRangeException This is passed along from the builder.
+	 */
+	public CliffordProduct findOrBuildGProduct(String pSig, Callable<CliffordProduct> pBuilder)
+			throws BadSignatureException, GeneratorRangeException {
+		Optional<CliffordProduct> tFound = findGProductMap(pSig);
+		if (tFound.isPresent())
+			return tFound.get();
+		try {
+			return singleFlight(mapOfGProducts, pendingGProducts, pSig, pBuilder, this::admitGProduct);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof BadSignatureException tE)
+				throw tE;
+			if (e.getCause() instanceof GeneratorRangeException tE)
+				throw tE;
+			throw rethrown(e);
+		}
+	}
+
+	/**
+	 * This method returns the matrix representation for a product building it on
+	 * the first request. Callers should check MatrixProduct.isSupported() first.
+	 * It is only kept while the product itself is cached. Its bytes are charged
+	 * to the product. Finding one takes no lock, and only one thread builds a
+	 * missing one.
+	 * <p>
+	 * @param pGP CliffordProduct whose signature is to be represented
+	 * @return MatrixProduct matching the product offered
+	 * @throws IllegalArgumentException This happens if the product is degenerate.
+	 */
+	public MatrixProduct findMatrixProduct(CliffordProduct pGP) {
+		try {
+			return singleFlight(mapOfMatrixProducts, pendingMatrixProducts, pGP, () -> new MatrixProduct(pGP),
+					(key, rep) -> admitPart(mapOfMatrixProducts, key, rep, key, estimateBytes(rep)));
+		} catch (ExecutionException e) {
+			throw rethrown(e);
+		}
+	}
+
+	/**
+	 * This method returns the pseudoscalar map for a product building it on the
+	 * first request. Duals and other products with the unit pseudoscalar use it
+	 * to permute weights instead of multiplying through the whole table. It is
+	 * only kept while the product itself is cached. Its bytes are charged to the
+	 * product. Finding one takes no lock, and only one thread builds a missing
+	 * one.
+	 * <p>
+	 * @param pGP CliffordProduct whose pseudoscalar row and column make up the map
+	 * @return PScalarMap matching the product offered
+	 */
+	public PScalarMap findPScalarMap(CliffordProduct pGP) {
+		try {
+			return singleFlight(mapOfPScalarMaps, pendingPScalarMaps, pGP, () -> new PScalarMap(pGP),
+					(key, map) -> admitPart(mapOfPScalarMaps, key, map, key, estimateBytes(map)));
+		} catch (ExecutionException e) {
+			throw rethrown(e);
+		}
+	}
+
+	/**
+	 * This method returns the product pattern for a product and the grade masks
+	 * of its two operands. If the cache doesn't have it yet, it is built and
+	 * returned. It is only cached if the product itself is cached. Building one costs about as much as one product of two dense
+	 * operands of those grades, so a pattern pays for itself when reused.
+	 * <p>
+	 * No limit on pattern size is enforced here. Callers should check
+	 * ProductPattern.pairCount() against CladosConstant.PATTERN_PAIRS_MAX first.
+	 * <p>
+	 * @param pGP        CliffordProduct whose results make up the pattern
+	 * @param pLeftMask  int bitmask of grades present in the left operand
+	 * @param pRightMask int bitmask of grades present in the right operand
+	 * @return ProductPattern matching the product and masks offered
+	 */
+	public ProductPattern findProductPattern(CliffordProduct pGP, int pLeftMask, int pRightMask) {
+		return findProductPattern(pGP, pLeftMask, pRightMask, 0);
+	}
+
+	/**
+	 * This method returns the product pattern for a product, the grade masks of
+	 * its two operands and a commutation filter. It is otherwise the same as the
+	 * method above. Symmetric and antisymmetric products use the filter.
+	 * <p>
+	 * Hits take no lock. A miss builds the pattern once however many threads
+	 * ask for it at the same time, and each of them counts as a miss.
+	 * <p>
+	 * @param pGP        CliffordProduct whose results make up the pattern
+	 * @param pLeftMask  int bitmask of grades in the left operand
+	 * @param pRightMask int bitmask of grades in the right operand
+	 * @param pCommute   int +1 for commuting pairs, -1 for anticommuting pairs
+	 *                   and 0 for all pairs
+	 * @return ProductPattern matching the product, masks and filter offered
+	 */
+	public ProductPattern findProductPattern(CliffordProduct pGP, int pLeftMask, int pRightMask,
+			int pCommute) {
+		PatternKey tKey = new PatternKey(pGP, pLeftMask, pRightMask, pCommute);
+		PatternEntry tEntry = mapOfPatterns.get(tKey);
+		if (tEntry != null) {
+			patternHits.increment();
+			long tNow = patternClock.get();
+			if (tEntry.lastUse != tNow)
+				tEntry.lastUse = tNow;
+			return tEntry.pattern;
+		}
+		patternMisses.increment();
+		try {
+			return singleFlight(mapOfPatterns, pendingPatterns, tKey,
+					() -> new PatternEntry(new ProductPattern(pGP, pLeftMask, pRightMask, pCommute)),
+					this::admitPattern).pattern;
+		} catch (ExecutionException e) {
+			throw rethrown(e);
+		}
+	}
+
+	/**
+	 * Report whether this very product is the one cached for its signature.
+	 * Objects built from a product are only cached while it is, so an evicted or
+	 * never cached product can't pin them.
+	 * <p>
+	 * @param pGP CliffordProduct to look for
+	 * @return boolean TRUE if the cache holds this instance for its signature
+	 */
+	public boolean isCached(CliffordProduct pGP) {
+		return mapOfGProducts.get(pGP.signature()) == pGP;
+	}
+
+	/**
+	 * Simple gettor for the rough count of bytes held by cached bases and
+	 * products. Tables mapped from a product store live outside the heap and
+	 * barely count.
+	 * <p>
+	 * @return long estimated bytes held
+	 */
+	public synchronized long getCachedBytes() {
+		return cachedBytes;
 	}
 
 	/**
@@ -156,7 +548,17 @@ public enum GCache {
 	 * @return byte integer of the size of the cache of basis instances.
 	 */
 	public byte getBasisListSize() {
-		return (byte) listOfBases.size();
+		return (byte) mapOfBases.size();
+	}
+
+	/**
+	 * Simple gettor for the number of products evicted to stay within the memory
+	 * budget.
+	 * <p>
+	 * @return long count of evictions since the cache was loaded
+	 */
+	public synchronized long getGProductEvictions() {
+		return productEvictions;
 	}
 
 	/**
@@ -168,7 +570,85 @@ public enum GCache {
 	 * @return integer of the size of the cache of basis instances.
 	 */
 	public int getGProductListSize() {
-		return listOfGProducts.size();
+		return mapOfGProducts.size();
+	}
+
+	/**
+	 * Simple gettor for the use of matrix representations in dense products.
+	 * <p>
+	 * @return boolean TRUE if dense products may use matrix representations
+	 */
+	public boolean isMatrixProducts() {
+		return matrixProducts;
+	}
+
+	/**
+	 * Simple gettor for the memory budget of cached bases and products.
+	 * <p>
+	 * @return long bytes allowed before products get evicted
+	 */
+	public synchronized long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Simple gettor for the number of product patterns dropped because the cache
+	 * was full.
+	 * <p>
+	 * @return long count of evictions since the cache was loaded
+	 */
+	public synchronized long getProductPatternEvictions() {
+		return patternEvictions;
+	}
+
+	/**
+	 * Simple gettor for the number of product pattern requests answered from the
+	 * cache.
+	 * <p>
+	 * @return long count of hits since the cache was loaded
+	 */
+	public long getProductPatternHits() {
+		return patternHits.sum();
+	}
+
+	/**
+	 * Simple gettor for the product store directory. It is disengaged when no
+	 * store is in use.
+	 * <p>
+	 * @return Optional of Path to the directory holding saved product tables
+	 */
+	public synchronized Optional<Path> getProductStore() {
+		return Optional.ofNullable(productStore);
+	}
+
+	/**
+	 * Simple gettor for the number of cached matrix representations. There is at
+	 * most one per cached product.
+	 * <p>
+	 * @return integer of the size of the cache of matrix representations.
+	 */
+	public int getMatrixProductListSize() {
+		return mapOfMatrixProducts.size();
+	}
+
+	/**
+	 * Simple gettor for the size of the product pattern cache. It never exceeds
+	 * CladosConstant.PATTERN_CACHE_MAX.
+	 * <p>
+	 * @return integer of the size of the cache of product patterns.
+	 */
+	public int getProductPatternListSize() {
+		return mapOfPatterns.size();
+	}
+
+	/**
+	 * Simple gettor for the number of product pattern requests that had to build
+	 * a new pattern.
+	 * <p>
+	 * @return long count of misses since the cache was loaded
+	 */
+	public long getProductPatternMisses() {
+		return patternMisses.sum();
 	}
 
 	/**
@@ -178,8 +658,11 @@ public enum GCache {
 	 * @param pB CanonicalBasis to remove from the cache IF present.
 	 * @return boolean TRUE if removal succeed. FALSE otherwise.
 	 */
-	public boolean removeBasis(CanonicalBasis pB) {
-		return listOfBases.remove(pB);
+	public synchronized boolean removeBasis(CanonicalBasis pB) {
+		if (!mapOfBases.remove((byte) (pB.getGradeCount() - 1), pB))
+			return false;
+		cachedBytes -= estimateBytes(pB);
+		return true;
 	}
 
 	/**
@@ -208,13 +691,21 @@ public enum GCache {
 
 	/**
 	 * Method removes explicit product from cache IF present. If it IS NOT, nothing
-	 * is done and the method silently returns.
+	 * is done and the method silently returns. Any product patterns built from it
+	 * are removed either way.
 	 * <p>
 	 * @param pGP CliffordProduct to remove from the cache IF present.
 	 * @return boolean TRUE if removal succeed. FALSE otherwise.
 	 */
-	public boolean removeGProduct(CliffordProduct pGP) {
-		return listOfGProducts.remove(pGP);
+	public synchronized boolean removeGProduct(CliffordProduct pGP) {
+		mapOfPatterns.keySet().removeIf(key -> key.product() == pGP); // Its patterns go with it
+		mapOfPScalarMaps.remove(pGP);
+		mapOfMatrixProducts.remove(pGP);
+		evictedGProducts.remove(pGP.signature());
+		if (!mapOfGProducts.remove(pGP.signature(), pGP))
+			return false;
+		release(pGP.signature());
+		return true;
 	}
 
 	/**
@@ -240,4 +731,336 @@ public enum GCache {
 			return true;									  // If not found, no worries. It is 'removed'.
 		return removeGProduct(GP.get());
 	}
+
+	/**
+	 * Cache a basis IF none with its generator count is present and count it.
+	 * The check and the count happen under one lock so a removal can't slip in
+	 * between them.
+	 * <p>
+	 * @param pGen byte integer of generators in the basis
+	 * @param pB   CanonicalBasis to be cached
+	 * @return CanonicalBasis that is cached now, which may be an earlier one
+	 */
+	private synchronized CanonicalBasis admitBasis(Byte pGen, CanonicalBasis pB) {
+		CanonicalBasis tPrior = mapOfBases.putIfAbsent(pGen, pB);
+		if (tPrior != null)
+			return tPrior;
+		cachedBytes += estimateBytes(pB);
+		enforceBudget(null);
+		return pB;
+	}
+
+	/**
+	 * Cache something built from a product IF the product itself is cached and
+	 * nothing is cached for the key yet, and charge its bytes to the product. The
+	 * check and the charge happen under one lock so a removal or eviction of the
+	 * product can't slip in between them and leave the part behind.
+	 * <p>
+	 * @param pDone  ConcurrentHashMap of cached parts
+	 * @param pKey   key of the part
+	 * @param pPart  part just built
+	 * @param pGP    CliffordProduct the part was built from
+	 * @param pBytes long estimated bytes of the part
+	 * @param <K>    type of the key
+	 * @param <V>    type of the part
+	 * @return V part that is cached now, which may be an earlier one, or pPart
+	 *         if the product isn't cached
+	 */
+	private synchronized <K, V> V admitPart(ConcurrentHashMap<K, V> pDone, K pKey, V pPart, CliffordProduct pGP,
+			long pBytes) {
+		if (!isCached(pGP))
+			return pPart;
+		V tPrior = pDone.putIfAbsent(pKey, pPart);
+		if (tPrior != null)
+			return tPrior;
+		charge(pGP, pBytes);
+		return pPart;
+	}
+
+	/**
+	 * Cache a product pattern the way admitPart() does and then drop the least
+	 * recently used patterns until the cache is back within its bound. The new
+	 * pattern carries the newest tick, so it is never the one dropped.
+	 * <p>
+	 * @param pKey   PatternKey of the pattern
+	 * @param pEntry PatternEntry just built
+	 * @return PatternEntry that is cached now, which may be an earlier one
+	 */
+	private synchronized PatternEntry admitPattern(PatternKey pKey, PatternEntry pEntry) {
+		pEntry.lastUse = patternClock.incrementAndGet();
+		PatternEntry tEntry = admitPart(mapOfPatterns, pKey, pEntry, pKey.product(), estimateBytes(pEntry.pattern));
+		while (mapOfPatterns.size() > CladosConstant.PATTERN_CACHE_MAX) {
+			Optional<Map.Entry<PatternKey, PatternEntry>> tColdest = mapOfPatterns.entrySet().stream()
+					.filter(entry -> !entry.getKey().equals(pKey))
+					.min((a, b) -> Long.compare(a.getValue().lastUse, b.getValue().lastUse));
+			if (tColdest.isEmpty() || !mapOfPatterns.remove(tColdest.get().getKey(), tColdest.get().getValue()))
+				break;
+			discharge(tColdest.get().getKey().product(), estimateBytes(tColdest.get().getValue().pattern));
+			patternEvictions++;
+		}
+		return tEntry;
+	}
+
+	/**
+	 * Cache a product IF none with its signature is present, count it and evict
+	 * others if that puts the cache over its budget. The new product is never the
+	 * one evicted. The check and the count happen under one lock so a removal or
+	 * eviction can't slip in between them.
+	 * <p>
+	 * @param pSig String signature of the product
+	 * @param pGP  CliffordProduct to be cached
+	 * @return CliffordProduct that is cached now, which may be an earlier one
+	 */
+	private synchronized CliffordProduct admitGProduct(String pSig, CliffordProduct pGP) {
+		CliffordProduct tPrior = mapOfGProducts.putIfAbsent(pSig, pGP);
+		if (tPrior != null)
+			return tPrior;
+		long tBytes = estimateBytes(pGP);
+		productBytes.put(pSig, tBytes);
+		productUses.put(pSig, useClock.incrementAndGet());
+		evictedGProducts.remove(pSig);
+		cachedBytes += tBytes;
+		enforceBudget(pSig);
+		return pGP;
+	}
+
+	/**
+	 * Take back bytes charged to a product when the object built from it leaves
+	 * the cache before the product does. Nothing is taken if the product's own
+	 * accounting is already gone.
+	 * <p>
+	 * @param pGP    CliffordProduct the bytes were charged to
+	 * @param pBytes long estimated bytes of the object that left
+	 */
+	private synchronized void discharge(CliffordProduct pGP, long pBytes) {
+		if (productBytes.computeIfPresent(pGP.signature(), (sig, bytes) -> bytes - pBytes) != null)
+			cachedBytes -= pBytes;
+	}
+
+	/**
+	 * Charge the bytes of something built from a cached product to that product.
+	 * They leave with it when it is removed or evicted.
+	 * <p>
+	 * @param pGP    CliffordProduct that is cached
+	 * @param pBytes long estimated bytes of the object built from it
+	 */
+	private synchronized void charge(CliffordProduct pGP, long pBytes) {
+		productBytes.merge(pGP.signature(), pBytes, Long::sum);
+		cachedBytes += pBytes;
+		enforceBudget(pGP.signature());
+	}
+
+	/**
+	 * Evict least recently used products until the cache fits its budget or only
+	 * the product to be kept is left.
+	 * <p>
+	 * @param pKeep String signature of a product that must stay or null
+	 */
+	private synchronized void enforceBudget(String pKeep) {
+		while (cachedBytes > memoryBudget) {
+			Optional<String> tColdest = productUses.entrySet().stream()
+					.filter(entry -> !entry.getKey().equals(pKeep))
+					.min(Map.Entry.comparingByValue())
+					.map(Map.Entry::getKey);
+			if (tColdest.isEmpty())
+				return;
+			CliffordProduct tGP = mapOfGProducts.remove(tColdest.get());
+			if (tGP != null) {
+				evictedGProducts.put(tColdest.get(), new WeakReference<>(tGP));
+				mapOfPatterns.keySet().removeIf(key -> key.product() == tGP);
+				mapOfPScalarMaps.remove(tGP);
+				mapOfMatrixProducts.remove(tGP);
+			}
+			release(tColdest.get());
+			productEvictions++;
+		}
+	}
+
+	/**
+	 * Estimate the heap held by a basis. Every blade costs its small object, its
+	 * entry in the blade list, its two entries in the bitKey arrays and its three
+	 * involution signs.
+	 * <p>
+	 * @param pB CanonicalBasis to be measured
+	 * @return long estimated bytes
+	 */
+	public static long estimateBytes(CanonicalBasis pB) {
+		return 44L * pB.getBladeCount();
+	}
+
+	/**
+	 * Estimate the heap held by a product. A GProduct holds its whole table. A
+	 * GBitProduct holds a few masks. A
+	 * MappedGProduct holds a handful of buffers since its table is outside the
+	 * heap. None of them count their basis since that is counted on its own.
+	 * <p>
+	 * @param pGP CliffordProduct to be measured
+	 * @return long estimated bytes
+	 */
+	public static long estimateBytes(CliffordProduct pGP) {
+		long tCount = pGP.getBladeCount();
+		if (pGP instanceof GProduct)
+			return 4L * tCount * tCount + 24L * tCount;
+		return 1024L;
+	}
+
+	/**
+	 * Estimate the heap held by a matrix representation. Every blade costs its
+	 * bitKey, its column mask and one phase per row.
+	 * <p>
+	 * @param pMP MatrixProduct to be measured
+	 * @return long estimated bytes
+	 */
+	public static long estimateBytes(MatrixProduct pMP) {
+		return (8L + pMP.getSize()) * pMP.getBladeCount();
+	}
+
+	/**
+	 * Estimate the heap held by a pseudoscalar map. Every blade costs its target
+	 * and its two signs.
+	 * <p>
+	 * @param pMap PScalarMap to be measured
+	 * @return long estimated bytes
+	 */
+	public static long estimateBytes(PScalarMap pMap) {
+		return 6L * pMap.size();
+	}
+
+	/**
+	 * Estimate the heap held by a product pattern and the kernel it builds. Every
+	 * pair costs three indices and a sign in the pattern and two indices in the
+	 * kernel. No kernel has more outputs than pairs, so each pair is charged the
+	 * three indices of an output too.
+	 * <p>
+	 * @param pPat ProductPattern to be measured
+	 * @return long estimated bytes
+	 */
+	public static long estimateBytes(ProductPattern pPat) {
+		return 33L * pPat.size();
+	}
+
+	/**
+	 * Drop the accounting for a product that just left the cache.
+	 * <p>
+	 * @param pSig String signature of the product
+	 */
+	private synchronized void release(String pSig) {
+		Long tBytes = productBytes.remove(pSig);
+		if (tBytes != null)
+			cachedBytes -= tBytes;
+		productUses.remove(pSig);
+	}
+
+	/**
+	 * Turn a failure other than the expected checked exceptions back into an
+	 * unchecked one. Runtime exceptions and errors pass through as they are.
+	 * <p>
+	 * @param pE ExecutionException holding the failure of a builder
+	 * @return RuntimeException to be thrown by the caller
+	 */
+	private static RuntimeException rethrown(ExecutionException pE) {
+		if (pE.getCause() instanceof RuntimeException tR)
+			return tR;
+		if (pE.getCause() instanceof Error tE)
+			throw tE;
+		return new IllegalStateException("Cached object could not be built.", pE.getCause());
+	}
+
+	/**
+	 * Find a cached object or build it exactly once. The first thread to miss
+	 * registers a FutureTask for the key and runs it. Every other thread that
+	 * misses while it runs waits on the same task. The result is cached before the
+	 * task is dropped, so nobody can miss both and build a second copy.
+	 * <p>
+	 * Interrupts don't abandon a build other threads may be waiting on. They are
+	 * remembered and restored once the result is in hand.
+	 * <p>
+	 * @param pDone    ConcurrentHashMap of cached objects
+	 * @param pPending ConcurrentHashMap of builds in progress
+	 * @param pKey     key of the object wanted
+	 * @param pBuilder Callable that constructs the object when needed
+	 * @param pAdmit   BiFunction that caches the object and returns whatever is
+	 *                 cached for the key afterward
+	 * @param <K>      type of the key
+	 * @param <V>      type of the cached object
+	 * @return V the cached object
+	 * @throws ExecutionException This happens when the builder fails.
+	 */
+	private static <K, V> V singleFlight(ConcurrentHashMap<K, V> pDone, ConcurrentHashMap<K, FutureTask<V>> pPending,
+			K pKey, Callable<V> pBuilder, BiFunction<K, V, V> pAdmit) throws ExecutionException {
+		V tFound = pDone.get(pKey);
+		if (tFound != null)
+			return tFound;
+		FutureTask<V> tTask = new FutureTask<>(() -> {
+			return pAdmit.apply(pKey, pBuilder.call());
+		});
+		FutureTask<V> tRunning = pPending.putIfAbsent(pKey, tTask);
+		if (tRunning == null) {
+			tRunning = tTask;
+			tFound = pDone.get(pKey); // It may have landed between our two looks
+			if (tFound != null) {
+				pPending.remove(pKey, tTask);
+				return tFound;
+			}
+			try {
+				tTask.run();
+			} finally {
+				pPending.remove(pKey, tTask);
+			}
+		}
+		boolean tInterrupted = false;
+		try {
+			while (true)
+				try {
+					return tRunning.get();
+				} catch (InterruptedException e) {
+					tInterrupted = true;
+				}
+		} finally {
+			if (tInterrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Simple settor for the memory budget of cached bases and products. Products
+	 * are evicted right away if the cache is already over the new budget.
+	 * <p>
+	 * @param pBytes long bytes allowed before products get evicted
+	 * @throws IllegalArgumentException This happens if pBytes is negative.
+	 */
+	public synchronized void setMemoryBudget(long pBytes) {
+		if (pBytes < 0)
+			throw new IllegalArgumentException("Memory budget can't be negative.");
+		memoryBudget = pBytes;
+		enforceBudget(null);
+	}
+
+	/**
+	 * Simple settor for the use of matrix representations in dense products. They
+	 * are off by default, so every product uses the table and results match a
+	 * table product to the last bit. Turning them on lets dense products of
+	 * CladosConstant.MATRIX_PRODUCT_MIN or more generators go through matrices,
+	 * which is much faster but rounds differently.
+	 * <p>
+	 * @param pUse boolean TRUE to allow matrix representations
+	 */
+	public void setMatrixProducts(boolean pUse) {
+		matrixProducts = pUse;
+	}
+
+	/**
+	 * Simple settor for the product store directory. Products built after this
+	 * is set have their tables saved there and products already saved there are
+	 * mapped from disk instead of being built. Pass null to stop using a store.
+	 * Products already in the cache are not affected.
+	 * <p>
+	 * The directory must exist. Files in it are named by MappedGProduct.fileName()
+	 * and may be shared by any number of JVMs.
+	 * <p>
+	 * @param pDir Path of the directory to hold saved product tables or null
+	 */
+	public synchronized void setProductStore(Path pDir) {
+		productStore = pDir;
+	}
 }
@@ -24,6 +24,7 @@
  */
 package org.interworldtransport.cladosG;
 
+
 import org.interworldtransport.cladosGExceptions.BadSignatureException;
 import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
 
@@ -60,12 +61,11 @@ public class GProduct implements CliffordProduct {
 	private final CanonicalBasis canonBasis;
 
 	/**
-	 * This integer array is an internal translation of the product signature.
-	 * Generators with a positive square appear as a one (1), those with
-	 * negative squares appear as minus one (-1) and degenerate ones appear as (0).
-	 * This array is kept to increase the speed of product calculations.
+	 * Generators with negative squares have their bit set in this mask. Bit
+	 * positions match those used in a Blade's bitKey.
 	 */
-	private final byte[] nSignature;
+	private final int negativeMask;
+
 	/**
 	 * This array holds the geometric multiplication table for a Clifford algebra
 	 * using the associated basis. The array contains numbers that represent the
@@ -82,6 +82,12 @@ public class GProduct implements CliffordProduct {
 	 */
 	private final String signature;
 
+	/**
+	 * Degenerate generators have their bit set in this mask. Bit positions match
+	 * those used in a Blade's bitKey.
+	 */
+	private final int zeroMask;
+
 	/**
 	 * Main constructor of GProduct with signature information passed in. It
 	 * figures out the rest of what it needs.
@@ -114,32 +120,29 @@ public class GProduct implements CliffordProduct {
 	public GProduct(CanonicalBasis pB, String pSig) throws BadSignatureException, GeneratorRangeException {
 		if (!CliffordProduct.validateSignature(pSig))
 			throw new BadSignatureException(this, "Valid signature required.");
-		// ------Init signature
-		nSignature = (pSig.length() == 0) ? new byte[1] : new byte[pSig.length()];
-		int m = 0;
-		for (char b : pSig.toCharArray()) {
-			switch (b) {
-			case '+' -> nSignature[m] = 1;
-			case '0' -> nSignature[m] = 0;
-			case '-' -> nSignature[m] = -1;
+		// ------Init signature masks
+		int tNeg = 0;
+		int tZero = 0;
+		for (int m = 0; m < pSig.length(); m++) {
+			switch (pSig.charAt(m)) {
+			case '-' -> tNeg |= (1 << m);
+			case '0' -> tZero |= (1 << m);
 			}
-			m++;
 		}
+		negativeMask = tNeg;
+		zeroMask = tZero;
 		signature = pSig;
 		// ------Get CanonicalBasis
 		canonBasis = (pB != null) ? pB : GBuilder.createBasis((byte) pSig.length());
 		// ------Build Product Table
 		result = new int[getBladeCount()][getBladeCount()];
-		canonBasis.bladeStream().parallel().forEach(bladeLeft -> {
-			int row = canonBasis.find(bladeLeft) - 1;
-			canonBasis.bladeStream().forEach(bladeRight -> {
-				int col = canonBasis.find(bladeRight) - 1;
-				Blade bMult = BladeDuet.simplify(bladeLeft, bladeRight, nSignature);
-				result[row][col] = ((int) bMult.sign() != 0) ? 
-							(int) bMult.sign() * (int) canonBasis.find(bMult)
-							: 
-							0;		//This case happens when the two blades share a generator that is degenerate.
-			});
+		ExecutionPolicy.INSTANCE.forEach(ExecutionPolicy.Work.TABLE, getBladeCount(), getBladeCount(), row -> {
+			int tLeft = canonBasis.getBitKey(row);
+			for (int col = 0; col < result.length; col++) {
+				int tRight = canonBasis.getBitKey(col);
+				result[row][col] = BladeDuet.sign(tLeft, tRight, negativeMask, zeroMask)
+						* canonBasis.findBitKey(tLeft ^ tRight);
+			} // A zero sign happens when the two blades share a generator that is degenerate.
 		});
 	}
 
@@ -199,33 +202,6 @@ public class GProduct implements CliffordProduct {
 		return canonBasis.getGradeCount();
 	}
 
-	/**
-	 * Get start and end index from the GradeRange array for grade pGrade.
-	 * <p>
-	 * There is currently no protection on this method. If someone asks for a grade
-	 * that isn't in range, they WILL get -1 in the cells.
-	 * <p
-	 * @param pGrade byte primitive = grade for which the range is needed
-	 * @return int[] start and end indexes returned as a int[] array
-	 */
-	@Override
-	public final int[] getGradeRange(byte pGrade) {
-		int[] tR = new int[2];
-		tR[0] = (int) canonBasis.getGradeStart(pGrade);
-		tR[1] = (int) ((pGrade == canonBasis.getGradeCount() - 1) // is this MaxGrade? If so, top=bottom
-				? tR[0]
-				: (canonBasis.getGradeStart((byte) (pGrade + 1)) - 1));
-		return tR;
-	}
-
-	@Override
-	public final int[] getPScalarRange() {
-		int[] tR = new int[2];
-		tR[0] = canonBasis.getPScalarStart();
-		tR[1] = tR[0];
-		return tR;
-	}
-
 	/**
 	 * Return row of result array. Meant for alternate multiplication methods.
 	 * <p>
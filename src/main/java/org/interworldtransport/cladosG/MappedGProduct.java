@@ -0,0 +1,359 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.MappedGProduct<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.MappedGProduct<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * This class defines a geometric product whose multiplication table lives in a
+ * file instead of on the heap. The file is mapped read-only, so the operating
+ * system pages the table in as it is used and every JVM on a host mapping the
+ * same file shares the same pages.
+ * <p>
+ * Building a GProduct table costs one BladeDuet simplification for every pair
+ * of blades. For a dozen generators that is minutes of work repeated on every
+ * start. A table saved once with save() can be opened by later runs at the cost
+ * of reading its header. Pages of the table are only read when used.
+ * <p>
+ * The file holds a small header followed by the table in row order as little
+ * endian ints. The header names the format, its version, the blade count and
+ * the signature. A file that fails any of those tests or has the wrong length
+ * is refused by open(), so a stale or truncated file can't stand in for a
+ * product.
+ * <p>
+ * The header also carries a CRC32 of the table. Checking it means reading the
+ * whole table, so open() doesn't. save() checks it once on the file it just
+ * wrote before moving that file into place. Anyone doubting a file later can
+ * call verify() on it.
+ * <p>
+ * A mapping can't exceed 2GB, so tables larger than that are mapped in several
+ * chunks of whole rows.
+ * <p>
+ * Results use the same conventions as GProduct. Best practice is to let
+ * GBuilder decide when to use this class. It does so when GCache has a product
+ * store.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class MappedGProduct implements CliffordProduct {
+
+	/**
+	 * The first four bytes of every product table file.
+	 */
+	private final static int MAGIC = 0x43544442;
+
+	/**
+	 * The size of the file header in bytes. The table starts here.
+	 */
+	private final static int HEADER = 64;
+
+	/**
+	 * The longest signature the header can hold.
+	 */
+	private final static int SIGNATURE_MAX = 16;
+
+	/**
+	 * The version of the file format. Files with another version are refused.
+	 */
+	private final static int VERSION = 1;
+
+	/**
+	 * Build the name of the file holding the table for a signature. Signature
+	 * characters are spelled out so the name is safe on every file system.
+	 * <p>
+	 * @param pSig String form of the signature. Looks like "-+++0".
+	 * @return String file name for that signature
+	 */
+	public final static String fileName(String pSig) {
+		return "GProduct_" + pSig.replace('+', 'p').replace('-', 'm').replace('0', 'z') + ".cpt";
+	}
+
+	/**
+	 * Map a saved product table after checking its header and length. The table
+	 * itself is not read here. See verify() for that.
+	 * <p>
+	 * @param pB    CanonicalBasis matching the signature's generator count
+	 * @param pSig  String form of the signature. Looks like "-+++0".
+	 * @param pFile Path of the file to be mapped
+	 * @return MappedGProduct backed by the file
+	 * @throws IOException This happens if the file can't be read or fails any
+	 *                     of the header or size tests.
+	 */
+	public final static MappedGProduct open(CanonicalBasis pB, String pSig, Path pFile) throws IOException {
+		try (FileChannel tChannel = FileChannel.open(pFile, StandardOpenOption.READ)) {
+			int tCount = pB.getBladeCount();
+			long tRowBytes = 4L * tCount;
+			if (tChannel.size() != HEADER + tRowBytes * tCount)
+				throw new IOException("Product table file has the wrong size: " + pFile);
+			ByteBuffer tHead = tChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			byte[] tSig = new byte[tHead.getInt(12)];
+			if (tHead.getInt(0) != MAGIC | tHead.getInt(4) != VERSION | tHead.getInt(8) != tCount
+					| tSig.length > SIGNATURE_MAX)
+				throw new IOException("Product table file has a bad header: " + pFile);
+			tHead.get(16, tSig);
+			if (!pSig.equals(new String(tSig, StandardCharsets.US_ASCII)))
+				throw new IOException("Product table file is for another signature: " + pFile);
+
+			int tRowsPerChunk = (int) Math.max(1, Integer.MAX_VALUE / tRowBytes);
+			IntBuffer[] tChunks = new IntBuffer[(tCount + tRowsPerChunk - 1) / tRowsPerChunk];
+			for (int k = 0; k < tChunks.length; k++) {
+				int tRows = Math.min(tRowsPerChunk, tCount - k * tRowsPerChunk);
+				tChunks[k] = tChannel.map(FileChannel.MapMode.READ_ONLY, HEADER + k * tRowsPerChunk * tRowBytes,
+						tRows * tRowBytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			}
+			return new MappedGProduct(pB, pSig, tChunks, tRowsPerChunk);
+		}
+	}
+
+	/**
+	 * Write the table of a product to a file that open() can map later. The table
+	 * goes to a temporary file first and is moved into place when complete, so
+	 * other JVMs never see a partial file. The temporary file is verified before
+	 * it is moved, so a file that lands in place has passed its checksum once.
+	 * <p>
+	 * @param pGP   CliffordProduct whose results are to be saved
+	 * @param pFile Path of the file to be written
+	 * @throws IOException This happens if the file can't be written, fails its
+	 *                     checksum or can't be moved.
+	 */
+	public final static void save(CliffordProduct pGP, Path pFile) throws IOException {
+		byte[] tSig = pGP.signature().getBytes(StandardCharsets.US_ASCII);
+		int tCount = pGP.getBladeCount();
+		Path tTemp = Files.createTempFile(pFile.toAbsolutePath().getParent(), "GProduct", ".tmp");
+		try {
+			try (FileChannel tChannel = FileChannel.open(tTemp, StandardOpenOption.WRITE)) {
+				CRC32 tCRC = new CRC32();
+				ByteBuffer tRows = ByteBuffer.allocate(4 * tCount * Math.max(1, (1 << 16) / tCount))
+						.order(ByteOrder.LITTLE_ENDIAN);
+				tChannel.position(HEADER);
+				for (int row = 0; row < tCount; row++) {
+					for (int col = 0; col < tCount; col++)
+						tRows.putInt(pGP.getResult(row, col));
+					if (!tRows.hasRemaining() | row == tCount - 1) {
+						tRows.flip();
+						tCRC.update(tRows.duplicate());
+						while (tRows.hasRemaining())
+							tChannel.write(tRows);
+						tRows.clear();
+					}
+				}
+				ByteBuffer tHead = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+				tHead.putInt(MAGIC).putInt(VERSION).putInt(tCount).putInt(tSig.length).put(tSig);
+				tHead.putLong(32, tCRC.getValue());
+				tHead.clear();
+				while (tHead.hasRemaining())
+					tChannel.write(tHead, tHead.position());
+				tChannel.force(true);
+			}
+			verify(tTemp);
+			Files.move(tTemp, pFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tTemp);
+		}
+	}
+
+	/**
+	 * Read a whole saved product table and check it against the CRC32 in its
+	 * header. This costs a pass over the entire file, so do it once after a file
+	 * is written or when one is suspect rather than every time it is opened.
+	 * <p>
+	 * @param pFile Path of the file to be checked
+	 * @throws IOException This happens if the file can't be read, has a bad
+	 *                     header or fails its checksum.
+	 */
+	public final static void verify(Path pFile) throws IOException {
+		try (FileChannel tChannel = FileChannel.open(pFile, StandardOpenOption.READ)) {
+			ByteBuffer tHead = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			while (tHead.hasRemaining())
+				if (tChannel.read(tHead, tHead.position()) < 0)
+					throw new IOException("Product table file is too short: " + pFile);
+			if (tHead.getInt(0) != MAGIC | tHead.getInt(4) != VERSION)
+				throw new IOException("Product table file has a bad header: " + pFile);
+			CRC32 tCRC = new CRC32();
+			ByteBuffer tRows = ByteBuffer.allocate(1 << 16);
+			tChannel.position(HEADER);
+			while (tChannel.read(tRows) >= 0) {
+				tRows.flip();
+				tCRC.update(tRows);
+				tRows.clear();
+			}
+			if (tCRC.getValue() != tHead.getLong(32))
+				throw new IOException("Product table file fails its checksum: " + pFile);
+		}
+	}
+
+	/**
+	 * This basis holds a representation of all the elements that can be built from
+	 * the generators to span the algebra's vector space. It is the object that Ken
+	 * Greider called the Eddington Basis.
+	 */
+	private final CanonicalBasis canonBasis;
+
+	/**
+	 * Mapped views of the table. Each one holds rowsPerChunk rows except possibly
+	 * the last one.
+	 */
+	private final IntBuffer[] chunks;
+
+	/**
+	 * The number of table rows in every chunk but the last.
+	 */
+	private final int rowsPerChunk;
+
+	/**
+	 * This string holds the signature information describing the squares of all
+	 * geometry generators present on the multiplication table.
+	 */
+	private final String signature;
+
+	/**
+	 * Constructor used by open() once the file has passed its tests.
+	 * <p>
+	 * @param pB            CanonicalBasis of the product
+	 * @param pSig          String form of the signature
+	 * @param pChunks       IntBuffer[] mapped table rows
+	 * @param pRowsPerChunk int number of rows in every chunk but the last
+	 */
+	private MappedGProduct(CanonicalBasis pB, String pSig, IntBuffer[] pChunks, int pRowsPerChunk) {
+		canonBasis = pB;
+		signature = pSig;
+		chunks = pChunks;
+		rowsPerChunk = pRowsPerChunk;
+	}
+
+	/**
+	 * Basic Get method for the Basis generated by the signature of this product.
+	 * <p>
+	 * @return Basis
+	 */
+	@Override
+	public final CanonicalBasis getBasis() {
+		return canonBasis;
+	}
+
+	/**
+	 * Get the linear dimension of the vector space that uses the associated Basis.
+	 * <p>
+	 * @return int
+	 */
+	@Override
+	public final int getBladeCount() {
+		return canonBasis.getBladeCount();
+	}
+
+	/**
+	 * Get the grade count of the algebra that uses this product.
+	 * <p>
+	 * @return byte
+	 */
+	@Override
+	public final byte getGradeCount() {
+		return canonBasis.getGradeCount();
+	}
+
+	/**
+	 * Return an element in the geometric multiplication result table. The cell is
+	 * read straight from the mapped file.
+	 * <p>
+	 * @param pRow int
+	 * @param pCol int
+	 * @return int
+	 */
+	@Override
+	public final int getResult(int pRow, int pCol) {
+		return chunks[pRow / rowsPerChunk].get((pRow % rowsPerChunk) * getBladeCount() + pCol);
+	}
+
+	/**
+	 * Return the sign of an element in the geometric multiplication result table.
+	 * <p>
+	 * @param pRow int
+	 * @param pCol int
+	 * @return int
+	 */
+	@Override
+	public final int getSign(int pRow, int pCol) {
+		return Integer.signum(getResult(pRow, pCol));
+	}
+
+	/**
+	 * Return the signature of the generating geometry. This lists the squares of the
+	 * generators in their numeric order.
+	 * <p>
+	 * @return String
+	 */
+	@Override
+	public final String signature() {
+		return signature;
+	}
+
+	/**
+	 * This method produces a printable and parseable string that represents the
+	 * product in a human readable form. It matches the one a GProduct produces.
+	 * <p>
+	 * @return String This is the XML string export of an object.
+	 */
+	@Override
+	public final String toXMLString(String indent) {
+		if (indent == null)
+			indent = "\t\t\t\t\t";
+		StringBuilder rB = new StringBuilder(indent + "<GProduct>\n");
+		rB.append(indent)
+			.append("\t<Signature>")
+			.append(signature())
+			.append("</Signature>\n");
+		rB.append(getBasis().toXMLString(indent + "\t"));
+		rB.append(indent)
+			.append("\t<ProductTable rows=\"")
+			.append(getBladeCount())
+			.append("\">\n");
+		for (int k = 0; k < getBladeCount(); k++) // Appending rows
+		{
+			rB.append(indent)
+				.append("\t\t<row number=\"")
+				.append(k)
+				.append("\" cells=\"");
+			for (int m = 0; m < getBladeCount(); m++)
+				rB.append(getResult(k, m))
+				.append(",");
+			rB.deleteCharAt(rB.length() - 1);
+			rB.append("\" />\n");
+		}
+		rB.append(indent + "\t</ProductTable>\n");
+		rB.append(indent + "</GProduct>\n");
+		return rB.toString();
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.MatrixProduct<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.MatrixProduct<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import java.util.Arrays;
+
+/**
+ * This class multiplies dense monads through a matrix representation of their
+ * algebra instead of the product table. A non-degenerate algebra with n
+ * generators sits inside the complex matrices of size N = 2^ceil(n/2). A dense
+ * product through the table costs 4^n steps while the matrix product costs N^3
+ * plus the work of moving weights in and out, which is about 2^n N. For ten or
+ * more generators that is far less.
+ * <p>
+ * The representation is the Jordan-Wigner one. Generator 2a is Z on the qubits
+ * below a, X on qubit a and nothing above it. Generator 2a+1 is the same with
+ * Y in place of X. These square to +1 and anticommute. Generators with negative
+ * squares pick up a factor of i. An odd number of generators borrows one more
+ * generator that is never used, so the map stays faithful.
+ * <p>
+ * Every matrix of a basis blade is a product of Pauli strings, so it has one
+ * entry per row. Row r holds its entry in column r ^ mask and the entry is a
+ * power of i. A blade is kept as that mask and one phase per row, so moving a
+ * weight into a matrix or back out again costs N steps and no matrix algebra.
+ * Weights come back out through the trace because distinct Pauli strings are
+ * orthogonal.
+ * <p>
+ * Degenerate algebras are not matrix algebras, so they are refused. Products
+ * computed this way sum their terms in a different order than the table does,
+ * so results may differ from a table product by rounding.
+ * <p>
+ * Representations are immutable apart from the scratch space each thread
+ * keeps for its products. They are kept in GCache, so get them from there
+ * instead of building them directly. GCache only sends products here once
+ * setMatrixProducts(true) has been called.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class MatrixProduct {
+
+	/**
+	 * Estimate the primitive steps of one product of dense weights through a
+	 * representation. Callers compare it against the number of coefficient pairs
+	 * a table product would visit.
+	 * <p>
+	 * @param pGens byte number of generators in the algebra
+	 * @return long rough count of steps
+	 */
+	public final static long cost(byte pGens) {
+		long tN = 1L << ((pGens + 1) / 2);
+		return 4L * tN * tN * tN + 3L * (1L << pGens) * tN;
+	}
+
+	/**
+	 * Report whether a product can be represented. Any generator that squares to
+	 * zero rules it out.
+	 * <p>
+	 * @param pProd CliffordProduct to be checked
+	 * @return boolean TRUE if the signature has no degenerate generators
+	 */
+	public final static boolean isSupported(CliffordProduct pProd) {
+		return pProd.signature().indexOf('0') < 0;
+	}
+
+	/*
+	 * Multiply a complex weight by a power of i and add it to a matrix entry.
+	 */
+	private final static void addPhased(double[] pRe, double[] pIm, int pAt, double pWR, double pWI, int pPhase) {
+		switch (pPhase & 3) {
+			case 0 -> {
+				pRe[pAt] += pWR;
+				pIm[pAt] += pWI;
+			}
+			case 1 -> {
+				pRe[pAt] -= pWI;
+				pIm[pAt] += pWR;
+			}
+			case 2 -> {
+				pRe[pAt] -= pWR;
+				pIm[pAt] -= pWI;
+			}
+			default -> {
+				pRe[pAt] += pWI;
+				pIm[pAt] -= pWR;
+			}
+		}
+	}
+
+	/**
+	 * BitKey of the blade at each 0-based basis index.
+	 */
+	private final int[] keys;
+
+	/**
+	 * Column mask of each blade's matrix indexed by bitKey.
+	 */
+	private final int[] masks;
+
+	/**
+	 * Size of the matrices.
+	 */
+	private final int n;
+
+	/**
+	 * Phase of each blade's entry in each row as a power of i. The entry for
+	 * bitKey b and row r is at b * n + r.
+	 */
+	private final byte[] phases;
+
+	/**
+	 * Scratch matrices for multiply(). Each thread gets its own six the first
+	 * time it multiplies through this representation and reuses them after that.
+	 */
+	private final ThreadLocal<double[][]> matrixScratch = ThreadLocal
+			.withInitial(() -> new double[6][getSize() * getSize()]);
+
+	/**
+	 * Scratch weights for callers of multiply(). Each thread gets its own six
+	 * arrays of one double per blade and reuses them after that.
+	 */
+	private final ThreadLocal<double[][]> weightScratch = ThreadLocal
+			.withInitial(() -> new double[6][getBladeCount()]);
+
+	/**
+	 * Build the matrices of every basis blade from the generators of the
+	 * product's signature.
+	 * <p>
+	 * @param pProd CliffordProduct whose signature is to be represented
+	 * @throws IllegalArgumentException This happens if the signature holds a
+	 *                                  degenerate generator.
+	 */
+	protected MatrixProduct(CliffordProduct pProd) {
+		if (!isSupported(pProd))
+			throw new IllegalArgumentException("Matrix representation fails on a degenerate signature.");
+		String tSig = pProd.signature();
+		int tGens = tSig.length();
+		int tQubits = (tGens + 1) / 2;
+		n = 1 << tQubits;
+		CanonicalBasis tB = pProd.getBasis();
+		keys = new int[tB.getBladeCount()];
+		for (int k = 0; k < keys.length; k++)
+			keys[k] = tB.getBitKey(k);
+
+		int[] tGenMasks = new int[tGens];
+		byte[] tGenPhases = new byte[tGens * n];
+		for (int g = 0; g < tGens; g++) {
+			int tQubit = g / 2;
+			tGenMasks[g] = 1 << tQubit;
+			for (int r = 0; r < n; r++) {
+				int tPhase = 2 * Integer.bitCount(r & ((1 << tQubit) - 1)); // Z below the qubit
+				if ((g & 1) == 1)
+					tPhase += ((r >>> tQubit & 1) == 0) ? 3 : 1; // Y on the qubit
+				if (tSig.charAt(g) == '-')
+					tPhase += 1; // i squares to -1
+				tGenPhases[g * n + r] = (byte) (tPhase & 3);
+			}
+		}
+
+		masks = new int[1 << tGens];
+		phases = new byte[(1 << tGens) * n];
+		for (int b = 1; b < masks.length; b++) { // Blade b is blade b less its top generator times that generator
+			int g = 31 - Integer.numberOfLeadingZeros(b);
+			int tLower = b & ~(1 << g);
+			masks[b] = masks[tLower] ^ tGenMasks[g];
+			for (int r = 0; r < n; r++)
+				phases[b * n + r] = (byte) ((phases[tLower * n + r] + tGenPhases[g * n + (r ^ masks[tLower])]) & 3);
+		}
+	}
+
+	/**
+	 * Simple gettor for the number of blades represented.
+	 * <p>
+	 * @return int number of blades in the product's basis
+	 */
+	public int getBladeCount() {
+		return keys.length;
+	}
+
+	/**
+	 * Gettor for this thread's scratch weights, cleared and ready to use. There
+	 * are six arrays of one double per blade, enough for the real and imaginary
+	 * parts of both factors and the product. The arrays are NOT copied and the
+	 * same ones come back on the next call from this thread, so don't hold on to
+	 * them.
+	 * <p>
+	 * @return double[][] six zeroed arrays of weights
+	 */
+	protected double[][] getWeightScratch() {
+		return cleared(weightScratch.get());
+	}
+
+	/**
+	 * Simple gettor for the size of the matrices.
+	 * <p>
+	 * @return int rows in each matrix
+	 */
+	public int getSize() {
+		return n;
+	}
+
+	/**
+	 * Multiply two operands given as complex weights in basis order and add the
+	 * product's weights to the output arrays. Real modes pass zeros for the
+	 * imaginary parts and ignore the imaginary output.
+	 * <p>
+	 * The matrices are this thread's scratch space, so nothing is allocated after
+	 * the first product on a thread.
+	 * <p>
+	 * @param pLRe   double[] real parts of the left factor
+	 * @param pLIm   double[] imaginary parts of the left factor
+	 * @param pRRe   double[] real parts of the right factor
+	 * @param pRIm   double[] imaginary parts of the right factor
+	 * @param pOutRe double[] real parts of the product to be added to
+	 * @param pOutIm double[] imaginary parts of the product to be added to
+	 */
+	protected void multiply(double[] pLRe, double[] pLIm, double[] pRRe, double[] pRIm, double[] pOutRe,
+			double[] pOutIm) {
+		double[][] tScratch = cleared(matrixScratch.get());
+		double[] tARe = tScratch[0];
+		double[] tAIm = tScratch[1];
+		double[] tBRe = tScratch[2];
+		double[] tBIm = tScratch[3];
+		toMatrix(pLRe, pLIm, tARe, tAIm);
+		toMatrix(pRRe, pRIm, tBRe, tBIm);
+
+		double[] tCRe = tScratch[4];
+		double[] tCIm = tScratch[5];
+		for (int row = 0; row < n; row++) // Row by row so the inner loop runs along rows of B and C
+			for (int k = 0; k < n; k++) {
+				double tR = tARe[row * n + k];
+				double tI = tAIm[row * n + k];
+				if (tR == 0.0d & tI == 0.0d)
+					continue;
+				for (int col = 0; col < n; col++) {
+					tCRe[row * n + col] += tR * tBRe[k * n + col] - tI * tBIm[k * n + col];
+					tCIm[row * n + col] += tR * tBIm[k * n + col] + tI * tBRe[k * n + col];
+				}
+			}
+
+		double tScale = 1.0d / n;
+		for (int k = 0; k < keys.length; k++) {
+			int tBase = keys[k] * n;
+			int tMask = masks[keys[k]];
+			double tSumRe = 0.0d;
+			double tSumIm = 0.0d;
+			for (int r = 0; r < n; r++) { // Trace against the inverse of the blade's matrix
+				int at = r * n + (r ^ tMask);
+				double tR = tCRe[at];
+				double tI = tCIm[at];
+				switch ((4 - phases[tBase + r]) & 3) {
+					case 0 -> {
+						tSumRe += tR;
+						tSumIm += tI;
+					}
+					case 1 -> {
+						tSumRe -= tI;
+						tSumIm += tR;
+					}
+					case 2 -> {
+						tSumRe -= tR;
+						tSumIm -= tI;
+					}
+					default -> {
+						tSumRe += tI;
+						tSumIm -= tR;
+					}
+				}
+			}
+			pOutRe[k] += tScale * tSumRe;
+			pOutIm[k] += tScale * tSumIm;
+		}
+	}
+
+	/*
+	 * Zero every array of a scratch set and hand it back.
+	 */
+	private final static double[][] cleared(double[][] pArrays) {
+		for (double[] tArray : pArrays)
+			Arrays.fill(tArray, 0.0d);
+		return pArrays;
+	}
+
+	/**
+	 * Move weights given in basis order into a matrix.
+	 * <p>
+	 * @param pRe  double[] real parts of the weights
+	 * @param pIm  double[] imaginary parts of the weights
+	 * @param pMRe double[] real parts of the matrix stored row-major
+	 * @param pMIm double[] imaginary parts of the matrix stored row-major
+	 */
+	private void toMatrix(double[] pRe, double[] pIm, double[] pMRe, double[] pMIm) {
+		for (int k = 0; k < keys.length; k++) {
+			if (pRe[k] == 0.0d & pIm[k] == 0.0d)
+				continue;
+			int tBase = keys[k] * n;
+			int tMask = masks[keys[k]];
+			for (int r = 0; r < n; r++)
+				addPhased(pMRe, pMIm, r * n + (r ^ tMask), pRe[k], pIm[k], phases[tBase + r]);
+		}
+	}
+}
@@ -24,6 +24,7 @@
  */
 package org.interworldtransport.cladosG;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -43,7 +44,6 @@ import org.interworldtransport.cladosF.Normalizable;	//Contract for modulus cons
 														//Numbers obeying both contracts
 														//are used as monad weights.
 
-import org.interworldtransport.cladosFExceptions.FieldBinaryException;
 import org.interworldtransport.cladosFExceptions.FieldException;
 import org.interworldtransport.cladosGExceptions.BadSignatureException;
 import org.interworldtransport.cladosGExceptions.CladosMonadException;
@@ -123,39 +123,33 @@ public class Monad implements Modal {
 	/**
 	 * Return a boolean if the grade being checked is non-zero in the Monad.
 	 * <p>
-	 * The grade key is checked using a bit of trickery with integer math.
-	 * Divide the key by 10^grade and toss the remainder. If the result is odd
-	 * the grade is present. If even, it isn't. The depends on the technique used
-	 * to build the key in the first place.
+	 * The grade mask is checked. Bit k is set when grade k is present, so this
+	 * is a single bit test.
 	 * @param pM     Monad
 	 * @param pGrade int
 	 * @return boolean
 	 */
 	public static boolean hasGrade(Monad pM, int pGrade) {
-		if (pM.getGradeKey() == 1 & pGrade == 0) 	//Monads have scalar parts
-			return true;							//if they have no other parts
-		if (((long) (pM.getGradeKey()) / ((long) Math.pow(10, pGrade))) % 2 == 1)
-			return true;
-
-		return false;
+		if (pGrade < 0 | pGrade >= Integer.SIZE)
+			return false;
+		return ((pM.getGradeMask() >>> pGrade) & 1) == 1;
 	}
 
 	/**
 	 * Return a boolean if the grade being checked is the grade of the Monad. False
 	 * is returned otherwise.
 	 * <p>
-	 * The grade key is checked. A simple power of 10 is a single grade. No special 
-	 * carve-out is needed for the scalar because 10^0 == 1.
+	 * The grade mask is checked. A single set bit is a single grade. No special 
+	 * carve-out is needed for the scalar because a ZERO monad reports grade 0.
 	 * <p>
 	 * @param pM     Monad
 	 * @param pGrade int
 	 * @return boolean
 	 */
 	public static boolean isGrade(Monad pM, int pGrade) {
-		if (Math.pow(10, pGrade) == pM.getGradeKey())
-			return true;
-
-		return false;
+		if (pGrade < 0 | pGrade >= Integer.SIZE)
+			return false;
+		return pM.getGradeMask() == 1 << pGrade;
 	}
 
 	/**
@@ -165,7 +159,7 @@ public class Monad implements Modal {
 	 * @return boolean
 	 */
 	public static boolean isGZero(Monad pM) {
-		return (pM.getGradeKey() == 1 & pM.getWeights().isScalarZero());
+		return (pM.getGradeMask() == 1 & pM.getWeights().isScalarZero());
 	}
 
 	/**
@@ -250,22 +244,14 @@ public class Monad implements Modal {
 	}
 
 	/**
-	 * Return true if more than one blade is present in the Monad. This method makes
-	 * use of the grade key which is a sum of powers of 10, thus the base-10
-	 * logarithm will be an integer for pure grade monads and a non-integer for
-	 * multigrade monads.
+	 * Return true if more than one grade is present in the Monad. This method
+	 * makes use of the grade mask, so it only has to count set bits.
 	 * <p>
 	 * @param pM This parameter offers the Monad being tested.
 	 * @return boolean
 	 */
 	public static boolean isMultiGrade(Monad pM) {
-		if (pM.getGradeKey() == 0)	//Special case should never happen, 
-			return false;			//but if it does it is fatal.
-		float temp = (float) Math.log10(pM.getGradeKey());
-		if (Math.floor(temp) == temp)	//This avoids precision trap?
-			return false;
-
-		return true;
+		return Integer.bitCount(pM.getGradeMask()) > 1;
 	}
 
 	/**
@@ -296,21 +282,61 @@ public class Monad implements Modal {
 	}
 
 	/**
-	 * Return true if one blade is present in the Monad. This method makes use of
-	 * the grade key which is a sum of powers of 10, thus the base-10 logarithm will
-	 * be an integer for pure grade monads and a non-integer for multigrade monads.
+	 * Return true if one grade is present in the Monad. This method makes use of
+	 * the grade mask, so it only has to count set bits.
 	 * <p>
 	 * @param pM This parameter offers the Monad being tested.
 	 * @return boolean
 	 */
 	public static boolean isUniGrade(Monad pM) {
-		if (pM.getGradeKey() == 0)	//Special case should never happen, 
-			return false;			//but if it does it is fatal.
-		float temp = (float) Math.log10(pM.getGradeKey());
-		if (Math.floor(temp) == temp)	//This avoids precision trap?
-			return true;
+		return Integer.bitCount(pM.getGradeMask()) == 1;
+	}
 
-		return false;
+	/**
+	 * Versor application to a batch: (R pM ~R) for every monad in a list. The map
+	 * of the versor is used as given for all of them.
+	 * <p>
+	 * Every target is checked before any of them change, so a failure leaves the
+	 * whole list as it was. Lists are split into chunks of BATCH_CHUNK and the
+	 * chunks run on the pool of ExecutionPolicy when it says the list is long
+	 * enough. Each monad is touched by exactly one task, so the results do not
+	 * depend on how many threads ran.
+	 * <p>
+	 * @param pMap     Outermorphism holding the map of the versor
+	 * @param pTargets List of Monads to be changed in place
+	 * @return List of Monads. Just the list passed in after all are changed.
+	 * @throws IllegalArgumentException This happens if any target fails the tests
+	 *                                  done by the single monad version.
+	 */
+	public static List<Monad> sandwich(Outermorphism pMap, List<Monad> pTargets) {
+		pTargets.forEach(target -> target.validateSandwich(pMap));
+		ExecutionPolicy.INSTANCE.forEach(ExecutionPolicy.Work.BATCH, pTargets.size(),
+				(pTargets.size() + BATCH_CHUNK - 1) / BATCH_CHUNK, chunk -> {
+			for (int k = chunk * BATCH_CHUNK; k < Math.min(pTargets.size(), (chunk + 1) * BATCH_CHUNK); k++) {
+				Monad tM = pTargets.get(k);
+				tM.scales.applyMap(pMap);
+				tM.setSparseFlag();
+			}
+		});
+		return pTargets;
+	}
+
+	/**
+	 * Versor application to a batch: (pR pM ~pR) for every monad in a list. The
+	 * map of the versor is built once and then applied to all of them.
+	 * <p>
+	 * @param pR       Monad that is the versor to be applied
+	 * @param pTargets List of Monads to be changed in place
+	 * @return List of Monads. Just the list passed in after all are changed.
+	 * @throws IllegalArgumentException This happens if pR is not a versor or any
+	 *                                  target fails the reference match with it.
+	 */
+	public static List<Monad> sandwich(Monad pR, List<Monad> pTargets) {
+		pTargets.forEach(target -> {
+			if (!isReferenceMatch(target, pR))
+				throw new IllegalArgumentException("Sandwich fails reference match.");
+		});
+		return sandwich(new Outermorphism(pR), pTargets);
 	}
 
 	/**
@@ -382,21 +408,11 @@ public class Monad implements Modal {
 	 */
 	protected Algebra algebra;
 
-	/*
-	 * Grades found among the parts of this monad.
-	 */
-	private byte foundGrades;
-
 	/**
 	 * This String is the name of the Reference Frame of the Monad
 	 */
 	private String frameName;
 
-	/**
-	 * This long holds a key that shows which grades are present in the monad. The
-	 * key is a sum over powers of 10 with the grade as the exponent.
-	 */
-	private long gradeKey;
 	/**
 	 * This is just a flag specifying the field type one should expect for
 	 * coefficients of the monad.
@@ -438,7 +454,7 @@ public class Monad implements Modal {
 		setFrameName(pM.getFrameName());
 		mode = pM.mode;
 		scales = new Scale<T>((Scale<T>) pM.getWeights());
-		setGradeKey();
+		setSparseFlag();
 	}
 
 	/**
@@ -534,7 +550,7 @@ public class Monad implements Modal {
 			}
 			default -> throw new IllegalArgumentException("Offered Number must be a child of CladosF/UnitAbstract");
 		}
-		setGradeKey();
+		setSparseFlag();
 	}
 
 	/**
@@ -653,7 +669,8 @@ public class Monad implements Modal {
 				}
 			}
 		} // failure to find matching special case defaults to ZERO monad by doing nothing.
-		setGradeKey();
+		scales.recount();	//Special cases were written through views
+		setSparseFlag();
 	}
 
 	/**
@@ -710,27 +727,29 @@ public class Monad implements Modal {
 		setFrameName(pFrameName);
 		mode = pScale.getMode();
 		scales = new Scale<T>(pScale);
-		setGradeKey();
+		setSparseFlag();
 	}
 
 	/**
 	 * Monad Addition: (this + pM) This operation is allowed when the two monads use
 	 * the same field and satisfy the Reference Matching test.
 	 * <p>
-	 * @param pM Monad
+	 * <p>
+	 * The weights are combined as primitives one grade at a time and the grades
+	 * present are counted while that happens.
+	 * <p>
+	 * @param pM  Monad
+	 * @param <T> UnitAbstract number from CladosF with all interfaces.
 	 * @return Monad
 	 */
-	public Monad add(Monad pM) {
+	@SuppressWarnings("unchecked")
+	public <T extends UnitAbstract & Field & Normalizable> Monad add(Monad pM) {
 		if (!Monad.isReferenceMatch(this, pM))
 			throw new IllegalArgumentException("Can't add monads when frames don't match.");
-		bladeStream().parallel().forEach(blade -> {
-			try {
-				scales.get(blade).add(pM.scales.get(blade));
-			} catch (FieldBinaryException e) {
-				throw new IllegalArgumentException("Can't add when cardinals don't match.");
-			}
-		});
-		setGradeKey();
+		if (pM.getMode() != mode)
+			throw new IllegalArgumentException("Can't add when modes don't match.");
+		((Scale<T>) scales).add((Scale<T>) pM.scales);
+		setSparseFlag();
 		return this;
 	}
 
@@ -743,6 +762,18 @@ public class Monad implements Modal {
 		return algebra.getGBasis().bladeStream();
 	}
 
+	/**
+	 * Clifford conjugation: the composition of reversion and the main involution.
+	 * Blades of grades 1 and 2 modulo 4 change sign, so only their coefficients
+	 * are negated.
+	 * <p>
+	 * @return Monad after operation.
+	 */
+	public Monad cliffordConjugate() {
+		scales.cliffordConjugate();
+		return this;
+	}
+
 	/**
 	 * This method causes all coefficients of a monad to be conjugated.
 	 * <p>
@@ -757,13 +788,16 @@ public class Monad implements Modal {
 	 * The Monad is turned into its Dual with left side multiplication by pscalar.
 	 * <p>
 	 * In metrics where one or more of the generators squares to zero, this isn't really
-	 * a dual operation.
+	 * a dual operation. Blades holding a degenerate generator are lost.
+	 * <p>
+	 * No pscalar monad is built. The product is a signed permutation of the weights
+	 * read from a PScalarMap kept in GCache.
 	 * <p>
 	 * @return Monad after operation.
 	 */
 	public <T extends UnitAbstract & Field & Normalizable> Monad multiplyByPSLeft() {	
-		this.multiplyLeft(GBuilder.pscalarOfMonad(this));
-		setGradeKey();
+		scales.applyPScalar(GCache.INSTANCE.findPScalarMap(getAlgebra().getGProduct()), true);
+		setSparseFlag();
 		return this;
 	}
 
@@ -771,13 +805,16 @@ public class Monad implements Modal {
 	 * The Monad is turned into its Dual with right side multiplication by pscalar.
 	 * <p>
 	 * In metrics where one or more of the generators squares to zero, this isn't really
-	 * a dual operation.
+	 * a dual operation. Blades holding a degenerate generator are lost.
+	 * <p>
+	 * No pscalar monad is built. The product is a signed permutation of the weights
+	 * read from a PScalarMap kept in GCache.
 	 * <p>
 	 * @return Monad after operation.
 	 */
 	public <T extends UnitAbstract & Field & Normalizable> Monad multiplyByPSRight() {
-		this.multiplyRight(GBuilder.pscalarOfMonad(this));
-		setGradeKey();
+		scales.applyPScalar(GCache.INSTANCE.findPScalarMap(getAlgebra().getGProduct()), false);
+		setSparseFlag();
 		return this;
 	}
 
@@ -840,7 +877,7 @@ public class Monad implements Modal {
 	@SuppressWarnings("unchecked")
 	public <T extends UnitAbstract & Field & Normalizable> T getCoeff(int i) {
 		if (i >= 0 & i < getAlgebra().getBladeCount())
-			return (T) scales.getWeights()[i];
+			return (T) scales.get(getAlgebra().getGBasis().getSingleBlade(i));
 		return null;
 	}
 
@@ -854,12 +891,34 @@ public class Monad implements Modal {
 	}
 
 	/**
-	 * Return the grade key for the monad
+	 * Return the grade key for the monad. The key is a sum over powers of 10 with
+	 * the grade as the exponent, so gradeKey=101 means scalar and bivector parts.
+	 * It is built from the grade mask and kept for human readable output.
 	 * <p>
 	 * @return long
 	 */
 	public long getGradeKey() {
-		return gradeKey;
+		long tKey = 0;
+		long tPower = 1;
+		for (int tMask = getGradeMask(); tMask != 0; tMask >>>= 1, tPower *= 10)
+			if ((tMask & 1) == 1)
+				tKey += tPower;
+		return tKey;
+	}
+
+	/**
+	 * Return the grade mask for the monad. Bit k is set when grade k has a
+	 * non-zero weight. The mask is kept current by the Scale as weights get
+	 * written, so this is not a scan.
+	 * <p>
+	 * A ZERO monad reports the scalar grade. If no grades are detected, scalar it
+	 * must be.
+	 * <p>
+	 * @return int bitmask of grades present
+	 */
+	public int getGradeMask() {
+		int tMask = scales.getGradeMask();
+		return (tMask == 0) ? 1 : tMask;
 	}
 
 	/**
@@ -912,7 +971,7 @@ public class Monad implements Modal {
 		if (pGrade >= getAlgebra().getGradeCount() | pGrade < 0)
 			return this;
 		scales.zeroAllButGrade(pGrade);
-		setGradeKey();
+		setSparseFlag();
 		return this;
 	}
 
@@ -936,7 +995,7 @@ public class Monad implements Modal {
 		if (pGrade < 0 | pGrade >= getAlgebra().getGradeCount())
 			return this;
 		scales.zeroAtGrade(pGrade);
-		setGradeKey();
+		setSparseFlag();
 		return this;
 	}
 
@@ -1011,33 +1070,19 @@ public class Monad implements Modal {
 	 * allowed when the two monads use the same field and satisfy the Reference
 	 * Matching test.
 	 * <p>
+	 * Pairs of blades that commute cancel and pairs that anticommute appear twice
+	 * before the half is taken. The product is formed once keeping only the
+	 * anticommuting pairs, so neither order is formed separately and no copy is
+	 * made.
+	 * <p>
 	 * @param pM Monad
 	 * @return Monad
 	 */
 	public Monad multiplyAntisymm(Monad pM) {
 		if (!isReferenceMatch(this, pM))
-			throw new IllegalArgumentException("Symm multiply fails reference match.");
-		Monad halfTwoRight = (GBuilder.copyOfMonad(this)).multiplyRight(pM);
-		(this.multiplyLeft(pM)).subtract(halfTwoRight);
-		switch (pM.getWeights().getMode()) {
-			case COMPLEXD -> {
-				scale(ComplexD.newONE(scales.getCardinal()).scale(BY2_D));
-				break;
-			}
-			case COMPLEXF -> {
-				scale( ComplexF.newONE(scales.getCardinal()).scale(BY2_F));
-				break;
-			}
-			case REALD -> {
-				scale((RealD.newONE(scales.getCardinal()).scale(BY2_D)));
-				break;
-			}
-			case REALF -> {
-				scale((RealF.newONE(scales.getCardinal()).scale(BY2_F)));
-				break;
-			}
-		}
-		setGradeKey();
+			throw new IllegalArgumentException("Antisymm multiply fails reference match.");
+		scales = productScales(pM, true, -1);
+		setSparseFlag();
 		return this;
 	}
 
@@ -1045,169 +1090,60 @@ public class Monad implements Modal {
 	 * Monad leftside multiplication: (pM this) This operation is allowed when the
 	 * two monads use the same field and satisfy the Reference Match test.
 	 * <p>
-	 * WHEN SPARSE | Use gradeKey (a base 10 representation of grades present) to
-	 * find the non-zero grades. For example: gradeKey=101 means the monad is a sum
-	 * of bivector and scalar because 10^2+10^0 = 101.
+	 * WHEN SPARSE | Use the grade mask (one bit per grade present) to find the
+	 * non-zero grades. For example: a mask of 0b101 means the monad is a sum of
+	 * bivector and scalar.
 	 * <p>
-	 * In a sparse monad, the gradeKey will have few 1's, making looping on all
-	 * blades less optimal. Instead, we parse gradeKey and loop through the blades
-	 * for grades that could be non-ZERO.
+	 * In a sparse monad, the grade mask will have few bits set, making looping on
+	 * all blades less optimal. Instead, we test bits of the mask and loop through
+	 * the blades for grades that could be non-ZERO.
 	 * <p>
-	 * NOTE that the mode of the inbound monad is NOT checked. That can lead to odd
-	 * behavior if one sends in a complex numbers expecting against real numbers.
-	 * What IS checked is the cardinal and that likely traps most errors that can be
-	 * made. It's not perfect, though. If someone intentionally builds different
-	 * number types using the same cardinal, they will get around the detection in
-	 * place here.
+	 * WHEN LARGE | The non-zero coefficients of this monad are split into one
+	 * chunk per thread of the pool and each chunk is multiplied into its own
+	 * partial Scale. Partial Scales are summed in chunk order afterward, so
+	 * threads never write to the same weights and the same pool always gives
+	 * the same result.
 	 * <p>
-	 * What will happen in that case? The inbound numbers will be multiplied against
-	 * coefficients as THEY understand multiplication. The inbound numbers gets cast
-	 * to the other, so imaginary components won't get used in real number
-	 * multiplication.
+	 * NOTE that the mode and cardinal of the inbound monad are checked once for
+	 * the whole product and so is the finiteness of every weight. Nothing is
+	 * checked per pair of coefficients.
 	 * <p>
 	 * @param pM  Monad
 	 * @param <T> UnitAbstract number from CladosF with all interfaces this time.
 	 * @return Monad
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends UnitAbstract & Field & Normalizable> Monad multiplyLeft(Monad pM) {
 		if (!Monad.isReferenceMatch(this, pM))
 			throw new IllegalArgumentException("Left multiply fails reference match.");
-		CliffordProduct tProd = getAlgebra().getGProduct();
-		CanonicalBasis tBasis = getAlgebra().getGBasis();
+		scales = productScales(pM, true, 0);
+		setSparseFlag();
+		return this;
+	}
 
-		Scale<T> newScales = new Scale<T>(mode, tBasis, scales.getCardinal()).zeroAll();
-		if (sparseFlag) {
-			long slideKey = gradeKey;
-			byte logKey = (byte) Math.log10(slideKey); // logKey is the highest grade with non-zero blades
-			while (logKey >= 0) {
-				tBasis.bladeOfGradeStream(logKey).filter(blade -> getWeights().isNotZeroAt(blade)).forEach(blade -> {
-					int col = tBasis.find(blade) - 1;
-					pM.bladeStream().filter(blade2 -> pM.getWeights().isNotZeroAt(blade2)).parallel().forEach(blade2 -> {
-						int row = tBasis.find(blade2) - 1;
-						int treturnBlade = Math.abs(tProd.getResult(row, col)) - 1;		//Recover Cayley table entry as index
-						if (treturnBlade == -1) treturnBlade = 0;						//If it is -1 set it to scalar
-						Blade bMult = tBasis.getSingleBlade(treturnBlade);
-						switch (mode) {
-						case COMPLEXD -> {
-							try {
-								ComplexD tAgg = ComplexD
-										.multiply((ComplexD) getWeights().get(blade), (ComplexD) pM.getWeights().get(blade2))
-										.scale(Double.valueOf(tProd.getSign(row, col)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						case COMPLEXF -> {
-							try {
-								ComplexF tAgg = ComplexF
-										.multiply((ComplexF) getWeights().get(blade), (ComplexF) pM.getWeights().get(blade2))
-										.scale(Float.valueOf(tProd.getSign(row, col)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						case REALD -> {
-							try {
-								RealD tAgg = RealD
-										.multiply((RealD) getWeights().get(blade), (RealD) pM.getWeights().get(blade2))
-										.scale(Double.valueOf(tProd.getSign(row, col)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						case REALF -> {
-							try {
-								RealF tAgg = RealF
-										.multiply((RealF) getWeights().get(blade), (RealF) pM.getWeights().get(blade2))
-										.scale(Float.valueOf(tProd.getSign(row, col)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						}
-					});
-				});
-				slideKey -= Math.pow(10, logKey); // Subtract 10^logKey marking grade as done.
-				if (slideKey == 0)
-					break; // we've processed all grades including scalar.
-				logKey = (byte) Math.log10(slideKey); // if zero it will be the last in loop
-			} // while loop completion -> all grades in 'this' processed
-		} else {
-			bladeStream().filter(blade -> getWeights().isNotZeroAt(blade)).forEach(blade -> {
-				int col = tBasis.find(blade) - 1;
-				pM.bladeStream().filter(blade2 -> pM.getWeights().isNotZeroAt(blade2)).parallel().forEach(blade2 -> {
-					int row = tBasis.find(blade2) - 1;
-					int treturnBlade = Math.abs(tProd.getResult(row, col)) - 1;		//Recover Cayley table entry as index
-					if (treturnBlade == -1) treturnBlade = 0;						//If it is -1 set it to scalar
-					Blade bMult = tBasis.getSingleBlade(treturnBlade);
-					switch (mode) {
-					case COMPLEXD -> {
-						try {
-							ComplexD tAgg = ComplexD
-									.multiply((ComplexD) getWeights().get(blade), (ComplexD) pM.getWeights().get(blade2))
-									.scale(Double.valueOf(tProd.getSign(row, col)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					case COMPLEXF -> {
-						try {
-							ComplexF tAgg = ComplexF
-									.multiply((ComplexF) getWeights().get(blade), (ComplexF) pM.getWeights().get(blade2))
-									.scale(Float.valueOf(tProd.getSign(row, col)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					case REALD -> {
-						try {
-							RealD tAgg = RealD
-									.multiply((RealD) getWeights().get(blade), (RealD) pM.getWeights().get(blade2))
-									.scale(Double.valueOf(tProd.getSign(row, col)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					case REALF -> {
-						try {
-							RealF tAgg = RealF
-									.multiply((RealF) getWeights().get(blade), (RealF) pM.getWeights().get(blade2))
-									.scale(Float.valueOf(tProd.getSign(row, col)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					}
-				});
-			});
-		}
-		scales = newScales;
-		setGradeKey();
+	/**
+	 * Fixed-operand multiplication: (M this) or (this M) for a monad M whose
+	 * Multiplier was built ahead of time. The side was chosen when the map was
+	 * built. No table is read and no intermediate monad is built.
+	 * <p>
+	 * Build the Multiplier once and reuse it when the same monad multiplies many
+	 * others from the same side. That is where the savings are.
+	 * <p>
+	 * @param pMap Multiplier holding the map of the fixed monad
+	 * @return Monad after the product is formed
+	 * @throws IllegalArgumentException This happens if the map was built in a
+	 *                                  different algebra, frame, cardinal or mode
+	 *                                  or any weight here is NaN or infinite.
+	 */
+	public Monad multiply(Multiplier pMap) {
+		if (getAlgebra() != pMap.getAlgebra() | !getFrameName().equals(pMap.getFrameName())
+				| !scales.getCardinal().equals(pMap.getCardinal()))
+			throw new IllegalArgumentException("Multiplier fails reference match.");
+		if (pMap.getMode() != mode)
+			throw new IllegalArgumentException("Multiplier fails mode match.");
+		if (!scales.isFinite())
+			throw new IllegalArgumentException("Multiplier fails on NaN or infinite weights.");
+		scales.applyMultiplier(pMap);
+		setSparseFlag();
 		return this;
 	}
 
@@ -1215,169 +1151,33 @@ public class Monad implements Modal {
 	 * Monad rightside multiplication: (this pM) This operation is allowed when the
 	 * two monads use the same field and satisfy the Reference Match test.
 	 * <p>
-	 * WHEN SPARSE | Use gradeKey (a base 10 representation of grades present) to
-	 * find the non-zero grades. For example: gradeKey=101 means the monad is a sum
-	 * of bivector and scalar because 10^2+10^0 = 101.
+	 * WHEN SPARSE | Use the grade mask (one bit per grade present) to find the
+	 * non-zero grades. For example: a mask of 0b101 means the monad is a sum of
+	 * bivector and scalar.
 	 * <p>
-	 * In a sparse monad, the gradeKey will have few 1's, making looping on all
-	 * blades less optimal. Instead, we parse gradeKey and loop through the blades
-	 * for grades that could be non-ZERO.
+	 * In a sparse monad, the grade mask will have few bits set, making looping on
+	 * all blades less optimal. Instead, we test bits of the mask and loop through
+	 * the blades for grades that could be non-ZERO.
 	 * <p>
-	 * NOTE that the mode of the inbound monad is NOT checked. That can lead to odd
-	 * behavior if one sends in a complex numbers expecting against real numbers.
-	 * What IS checked is the cardinal and that likely traps most errors that can be
-	 * made. It's not perfect, though. If someone intentionally builds different
-	 * number types using the same cardinal, they will get around the detection in
-	 * place here.
+	 * WHEN LARGE | The non-zero coefficients of this monad are split into one
+	 * chunk per thread of the pool and each chunk is multiplied into its own
+	 * partial Scale. Partial Scales are summed in chunk order afterward, so
+	 * threads never write to the same weights and the same pool always gives
+	 * the same result.
 	 * <p>
-	 * What will happen in that case? The inbound numbers will be multiplied against
-	 * coefficients as THEY understand multiplication. The inbound numbers gets cast
-	 * to the other, so imaginary components won't get used in real number
-	 * multiplication.
+	 * NOTE that the mode and cardinal of the inbound monad are checked once for
+	 * the whole product and so is the finiteness of every weight. Nothing is
+	 * checked per pair of coefficients.
 	 * <p>
 	 * @param pM  Monad
 	 * @param <T> UnitAbstract number from CladosF with all interfaces this time.
 	 * @return Monad
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends UnitAbstract & Field & Normalizable> Monad multiplyRight(Monad pM) {
 		if (!isReferenceMatch(this, pM)) // Don't try if not a reference match
 			throw new IllegalArgumentException("Right multiply fails reference match.");
-		CliffordProduct tProd = getAlgebra().getGProduct();
-		CanonicalBasis tBasis = getAlgebra().getGBasis();
-
-		Scale<T> newScales = new Scale<T>(mode, tBasis, scales.getCardinal()).zeroAll();
-		if (sparseFlag) {
-			long slideKey = gradeKey;
-			byte logKey = (byte) Math.log10(slideKey); // logKey is the highest grade with non-zero blades
-			while (logKey >= 0) {
-				tBasis.bladeOfGradeStream(logKey).filter(blade -> getWeights().isNotZeroAt(blade)).forEach(blade -> {
-					int col = tBasis.find(blade) - 1;
-					pM.bladeStream().filter(blade2 -> pM.getWeights().isNotZeroAt(blade2)).parallel().forEach(blade2 -> {
-						int row = tBasis.find(blade2) - 1;
-						int treturnBlade = Math.abs(tProd.getResult(col, row)) - 1;		//Recover Cayley table entry as index
-						if (treturnBlade == -1) treturnBlade = 0;						//If it is -1 set it to scalar
-						Blade bMult = tBasis.getSingleBlade(treturnBlade);
-						switch (mode) {
-						case COMPLEXD -> {
-							try {
-								ComplexD tAgg = ComplexD
-										.multiply((ComplexD) getWeights().get(blade), (ComplexD) pM.getWeights().get(blade2))
-										.scale(Double.valueOf(tProd.getSign(col, row)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						case COMPLEXF -> {
-							try {
-								ComplexF tAgg = ComplexF
-										.multiply((ComplexF) getWeights().get(blade), (ComplexF) pM.getWeights().get(blade2))
-										.scale(Float.valueOf(tProd.getSign(col, row)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						case REALD -> {
-							try {
-								RealD tAgg = RealD
-										.multiply((RealD) getWeights().get(blade), (RealD) pM.getWeights().get(blade2))
-										.scale(Double.valueOf(tProd.getSign(col, row)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						case REALF -> {
-							try {
-								RealF tAgg = RealF
-										.multiply((RealF) getWeights().get(blade), (RealF) pM.getWeights().get(blade2))
-										.scale(Float.valueOf(tProd.getSign(col, row)))
-										.add(newScales.get(bMult));
-								newScales.put(bMult, (T) tAgg);
-							} catch (FieldBinaryException e) {
-								throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-							}
-							break;
-						}
-						}
-					});
-				});
-				slideKey -= Math.pow(10, logKey); // Subtract 10^logKey marking grade as done.
-				if (slideKey == 0)
-					break; // we've processed all grades including scalar.
-				logKey = (byte) Math.log10(slideKey); // if zero it will be the last in loop
-			} // while loop completion -> all grades in 'this' processed
-		} else {
-			bladeStream().filter(blade -> getWeights().isNotZeroAt(blade)).forEach(blade -> {
-				int col = tBasis.find(blade) - 1;
-				pM.bladeStream().filter(blade2 -> pM.getWeights().isNotZeroAt(blade2)).parallel().forEach(blade2 -> {
-					int row = tBasis.find(blade2) - 1;
-					int treturnBlade = Math.abs(tProd.getResult(col, row)) - 1;		//Recover Cayley table entry as index
-					if (treturnBlade == -1) treturnBlade = 0;						//If it is -1 set it to scalar
-					Blade bMult = tBasis.getSingleBlade(treturnBlade);
-					switch (mode) {
-					case COMPLEXD -> {
-						try {
-							ComplexD tAgg = ComplexD
-									.multiply((ComplexD) getWeights().get(blade), (ComplexD) pM.getWeights().get(blade2))
-									.scale(Double.valueOf(tProd.getSign(col, row)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					case COMPLEXF -> {
-						try {
-							ComplexF tAgg = ComplexF
-									.multiply((ComplexF) getWeights().get(blade), (ComplexF) pM.getWeights().get(blade2))
-									.scale(Float.valueOf(tProd.getSign(col, row)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					case REALD -> {
-						try {
-							RealD tAgg = RealD
-									.multiply((RealD) getWeights().get(blade), (RealD) pM.getWeights().get(blade2))
-									.scale(Double.valueOf(tProd.getSign(col, row)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					case REALF -> {
-						try {
-							RealF tAgg = RealF
-									.multiply((RealF) getWeights().get(blade), (RealF) pM.getWeights().get(blade2))
-									.scale(Float.valueOf(tProd.getSign(col, row)))
-									.add(newScales.get(bMult));
-							newScales.put(bMult, (T) tAgg);
-						} catch (FieldBinaryException ex) {
-							throw new IllegalArgumentException("Left multiply fails UnitAbstract reference match.");
-						}
-						break;
-					}
-					}
-				});
-			});
-		}
-		scales = newScales;
-		setGradeKey();
+		scales = productScales(pM, false, 0);
+		setSparseFlag();
 		return this;
 	}
 
@@ -1386,66 +1186,86 @@ public class Monad implements Modal {
 	 * allowed when the two monads use the same field and satisfy the Reference
 	 * Matching test.
 	 * <p>
+	 * Pairs of blades that anticommute cancel and pairs that commute appear twice
+	 * before the half is taken. The product is formed once keeping only the
+	 * commuting pairs, so neither order is formed separately and no copy is made.
+	 * <p>
 	 * @param pM Monad
 	 * @return Monad
 	 */
 	public Monad multiplySymm(Monad pM) {
 		if (!isReferenceMatch(this, pM))
 			throw new IllegalArgumentException("Symm multiply fails reference match.");
-		Monad halfTwoRight = (GBuilder.copyOfMonad(this)).multiplyRight(pM);
-		(this.multiplyLeft(pM)).add(halfTwoRight);
+		scales = productScales(pM, true, 1);
+		setSparseFlag();
+		return this;
+	}
 
-		switch (pM.getWeights().getMode()) {
-			case COMPLEXD -> {
-				scale(ComplexD.newONE(scales.getCardinal()).scale(BY2_D));
-				break;
-			}
-			case COMPLEXF -> {
-				scale(ComplexF.newONE(scales.getCardinal()).scale(BY2_F));
-				break;
-			}
-			case REALD -> {
-				scale(RealD.newONE(scales.getCardinal()).scale(BY2_D));
-				break;
-			}
-			case REALF -> {
-				scale(RealF.newONE(scales.getCardinal()).scale(BY2_F));
-				break;
-			}
+	/**
+	 * Count a monad's non-zero coefficients from the grade counts its Scale
+	 * keeps, so no coefficient is looked at.
+	 * <p>
+	 * @param pM Monad whose coefficients are to be counted
+	 * @return int number of non-zero coefficients
+	 */
+	private static int nonZeroCount(Monad pM) {
+		int tCount = 0;
+		for (int tMask = pM.scales.getGradeMask(); tMask != 0; tMask &= tMask - 1)
+			tCount += pM.scales.getNonZeroCount((byte) Integer.numberOfTrailingZeros(tMask));
+		return tCount;
+	}
+
+	/**
+	 * Gather the basis indices of a monad's non-zero coefficients in basis order.
+	 * Only blades of the grades its Scale reports present get checked, and the
+	 * grade counts size the array exactly.
+	 * <p>
+	 * @param pM Monad whose coefficients are to be checked
+	 * @return int[] 0-based basis indices of non-zero coefficients
+	 */
+	private static int[] nonZeroIndices(Monad pM) {
+		CanonicalBasis tBasis = pM.getAlgebra().getGBasis();
+		int[] tIndices = new int[nonZeroCount(pM)];
+		int tNext = 0;
+		for (int tMask = pM.scales.getGradeMask(); tMask != 0; tMask &= tMask - 1) {
+			byte tGrade = (byte) Integer.numberOfTrailingZeros(tMask);
+			for (int k = tBasis.getGradeStart(tGrade); k < tBasis.getGradeEnd(tGrade); k++)
+				if (!pM.scales.isZeroAt(k))
+					tIndices[tNext++] = k;
 		}
-		setGradeKey();
-		return this;
+		return tIndices;
 	}
 
 	/**
-	 * Normalize the monad using the definition that involves 
+	 * Normalize the monad using the definition that involves the scalar part of
+	 * its reverse conjugate times itself. That scalar comes from sqNorm(), so no
+	 * copy is made and no full product is formed.
 	 * @return Monad this after the operation is complete
 	 * @throws FieldException This exception is thrown when normalizing a zero-sized
 	 *                        or field-conflicted monad. The object throwing it
 	 * 						  is one of the UnitAbstract children in Scale<T>
 	 */
 	public Monad normalize() throws FieldException {
-		Monad tRev = (GBuilder.copyOfMonad(this)).reverse().conjugate();
-		tRev.multiplyRight(this).gradePart((byte) 0); 	//The scalar part will be real.
+		UnitAbstract tSq = sqNorm(); 	//The scalar part will be real.
 
 		switch (this.getMode()) {
 			case COMPLEXD -> {
-				ComplexD tMagCD = ((ComplexD) tRev.getWeights().getScalar().invert()); //img part == 0
+				ComplexD tMagCD = ((ComplexD) tSq).invert(); //img part == 0
 				tMagCD.setReal(Math.sqrt(Math.abs(tMagCD.getReal())));
 				this.scale(tMagCD);
 			}	
 			case COMPLEXF -> {
-				ComplexF tMagCF = ((ComplexF) tRev.getWeights().getScalar().invert()); //img part == 0
+				ComplexF tMagCF = ((ComplexF) tSq).invert(); //img part == 0
 				tMagCF.setReal((float) Math.sqrt(Math.abs(tMagCF.getReal())));
 				this.scale(tMagCF);		
 			}
 			case REALD -> {
-				RealD tMagRD = ((RealD) tRev.getWeights().getScalar().invert());
+				RealD tMagRD = ((RealD) tSq).invert();
 				tMagRD.setReal(Math.sqrt(Math.abs(tMagRD.getReal())));
 				this.scale(tMagRD);				
 			}
 			case REALF -> {
-				RealF tMagRF = ((RealF) tRev.getWeights().getScalar().invert());
+				RealF tMagRF = ((RealF) tSq).invert();
 				tMagRF.setReal((float) Math.sqrt(Math.abs(tMagRF.getReal())));
 				this.scale(tMagRF);
 			}
@@ -1470,6 +1290,99 @@ public class Monad implements Modal {
 		return this;
 	}
 
+	/**
+	 * Form the weights of a product of this monad with another one without
+	 * changing either of them.
+	 * <p>
+	 * The modes must match and every weight of both monads must be finite. Those
+	 * tests are done once here, and finiteness comes from the flag each Scale
+	 * keeps with its grade counts, so the weights are rarely scanned for it. The
+	 * arithmetic itself is done on primitives by Scale, so no numbers are built
+	 * or checked per pair.
+	 * <p>
+	 * When GCache allows matrix products, dense products in non-degenerate
+	 * algebras of MATRIX_PRODUCT_MIN or more generators go through a
+	 * MatrixProduct cached in GCache when the pairs they would visit outnumber
+	 * the steps the matrices cost. They are checked first, so a dense product
+	 * that a pattern could also cover still uses the matrices.
+	 * <p>
+	 * Otherwise, when the grades present in the two monads cover no more than
+	 * PATTERN_PAIRS_MAX blade pairs, the product runs the ProductKernel of a
+	 * ProductPattern cached in GCache for those grades. That is the usual case
+	 * for sparse monads like vectors, bivectors and rotors.
+	 * <p>
+	 * Otherwise the non-zero coefficients of both monads are gathered and every
+	 * pair is multiplied through the table. When ExecutionPolicy says the number
+	 * of coefficient pairs is worth running in parallel, the coefficients of
+	 * this monad are split into one chunk per thread of the pool, but never into
+	 * chunks smaller than PRODUCT_CHUNK_MIN. Each chunk multiplies against every
+	 * non-zero coefficient of the other monad and accumulates into a partial
+	 * Scale that belongs only to that chunk. The partial Scales are then summed
+	 * in chunk order. Serial products accumulate straight into one Scale.
+	 * <p>
+	 * Partials are summed in a different order than a serial product adds its
+	 * pairs, so results may differ from it by rounding. Pools of the same
+	 * parallelism always give the same result.
+	 * <p>
+	 * A commutation filter keeps only the pairs of blades that commute or only
+	 * those that anticommute. That is all symmetric and antisymmetric products
+	 * need.
+	 * <p>
+	 * @param pM       Monad to multiply against this one
+	 * @param pLeft    boolean True for pM this and false for this pM
+	 * @param pCommute int +1 for commuting pairs only, -1 for anticommuting pairs
+	 *                 only and 0 for all pairs
+	 * @param <T>      UnitAbstract number from CladosF with all interfaces.
+	 * @return Scale holding the weights of the product
+	 * @throws IllegalArgumentException This happens if the modes differ or any
+	 *                                  weight is NaN or infinite.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends UnitAbstract & Field & Normalizable> Scale<T> productScales(Monad pM, boolean pLeft,
+			int pCommute) {
+		if (pM.getMode() != mode)
+			throw new IllegalArgumentException((pLeft ? "Left" : "Right") + " multiply fails mode match.");
+		if (!scales.isFinite() || !pM.scales.isFinite())
+			throw new IllegalArgumentException((pLeft ? "Left" : "Right") + " multiply fails on NaN or infinite weights.");
+		CliffordProduct tProd = getAlgebra().getGProduct();
+		CanonicalBasis tBasis = getAlgebra().getGBasis();
+		Scale<T> tThis = (Scale<T>) scales;
+		Scale<T> tThat = (Scale<T>) pM.scales;
+
+		byte tGens = (byte) (tBasis.getGradeCount() - 1);
+		if (pCommute == 0 && tGens >= MATRIX_PRODUCT_MIN && GCache.INSTANCE.isMatrixProducts()
+				&& (long) nonZeroCount(this) * nonZeroCount(pM) > MatrixProduct.cost(tGens)
+				&& MatrixProduct.isSupported(tProd))
+			return new Scale<T>(mode, tBasis, scales.getCardinal()).addMatrixProduct(
+					GCache.INSTANCE.findMatrixProduct(tProd), pLeft ? tThat : tThis, pLeft ? tThis : tThat);
+
+		int tLeftMask = pLeft ? pM.getGradeMask() : getGradeMask();
+		int tRightMask = pLeft ? getGradeMask() : pM.getGradeMask();
+		if (ProductPattern.pairCount(tBasis, tLeftMask, tRightMask) <= PATTERN_PAIRS_MAX)
+			return new Scale<T>(mode, tBasis, scales.getCardinal()).addKernel(
+					GCache.INSTANCE.findProductPattern(tProd, tLeftMask, tRightMask, pCommute).getKernel(),
+					pLeft ? tThat : tThis, pLeft ? tThis : tThat);
+
+		int[] tCols = nonZeroIndices(this);
+		int[] tRows = nonZeroIndices(pM);
+		long tPairs = (long) tCols.length * tRows.length;
+		int tChunks = ExecutionPolicy.INSTANCE.isParallel(ExecutionPolicy.Work.PRODUCT, tPairs)
+				? Math.max(1, Math.min(ExecutionPolicy.INSTANCE.getPool().getParallelism(),
+						tCols.length / PRODUCT_CHUNK_MIN))
+				: 1;
+		int tSize = Math.max(1, (tCols.length + tChunks - 1) / tChunks); // Chunks of one size but the last
+		List<Scale<T>> tPartials = ExecutionPolicy.INSTANCE.map(ExecutionPolicy.Work.PRODUCT, tPairs,
+				Math.max(1, (tCols.length + tSize - 1) / tSize),
+				chunk -> new Scale<T>(mode, tBasis, scales.getCardinal()).addProduct(tProd, pLeft, tThis, tCols,
+						chunk * tSize, Math.min(tCols.length, (chunk + 1) * tSize), tThat, tRows, pCommute));
+
+		if (tPartials.size() == 1)
+			return tPartials.get(0);
+		Scale<T> newScales = new Scale<T>(mode, tBasis, scales.getCardinal());
+		tPartials.forEach(part -> newScales.add(part));	//Encounter order, so always the same sum
+		return newScales;
+	}
+
 	/**
 	 * Reverse the multiplication order of all geometry generators in the Monad.
 	 * Active Reversion: Alternating pairs of grades switch signs as a result of all
@@ -1483,6 +1396,54 @@ public class Monad implements Modal {
 		return this;
 	}
 
+	/**
+	 * Reverse the monad and conjugate its coefficients in a single pass. This is
+	 * the same as reverse().conjugate() and is the adjoint used for norms.
+	 * <p>
+	 * @return Monad returns itself when done to support streaming operations.
+	 */
+	public Monad reverseConjugate() {
+		scales.reverseConjugate();
+		return this;
+	}
+
+	/**
+	 * Versor application: (R this ~R) for a versor R whose map was built ahead of
+	 * time. The map is applied grade by grade, so grade-k parts of this monad only
+	 * touch grade-k weights and no intermediate monad is built.
+	 * <p>
+	 * Build the Outermorphism once and reuse it when applying the same versor to
+	 * many monads. That is where the savings are.
+	 * <p>
+	 * @param pMap Outermorphism holding the map of the versor
+	 * @return Monad after the versor is applied
+	 * @throws IllegalArgumentException This happens if the map was built in a
+	 *                                  different algebra, frame, cardinal or mode
+	 *                                  or any weight here is NaN or infinite.
+	 */
+	public Monad sandwich(Outermorphism pMap) {
+		validateSandwich(pMap);
+		scales.applyMap(pMap);
+		setSparseFlag();
+		return this;
+	}
+
+	/**
+	 * Versor application: (pR this ~pR) The map of the versor is built and then
+	 * applied once. Use the Outermorphism version of this method instead when the
+	 * same versor is to be applied to more than one monad.
+	 * <p>
+	 * @param pR Monad that is the versor to be applied
+	 * @return Monad after the versor is applied
+	 * @throws IllegalArgumentException This happens if the two monads fail the
+	 *                                  reference match or pR is not a versor.
+	 */
+	public Monad sandwich(Monad pR) {
+		if (!isReferenceMatch(this, pR))
+			throw new IllegalArgumentException("Sandwich fails reference match.");
+		return sandwich(new Outermorphism(pR));
+	}
+
 	/**
 	 * Monad Scaling: (this * real number) Only the Monad coefficients are scaled by
 	 * the real number.
@@ -1503,7 +1464,7 @@ public class Monad implements Modal {
 	 */
 	public <T extends UnitAbstract & Field & Normalizable> Monad scale(T pScale) {
 		scales.scale(pScale);
-		setGradeKey();
+		setSparseFlag();
 		return this;
 	}
 
@@ -1526,7 +1487,7 @@ public class Monad implements Modal {
 		if (ppC.length != getAlgebra().getBladeCount())
 			throw new CladosMonadException(this, "Coefficient array passed for coefficient copy is wrong length");
 		scales.setWeightsArray(FListBuilder.copyOf(mode, ppC));
-		setGradeKey();
+		setSparseFlag();
 		return this;
 	}
 
@@ -1545,30 +1506,31 @@ public class Monad implements Modal {
 	}
 
 	/**
-	 * Set the grade key for the monad. Never accept an externally provided key.
-	 * Always recalculate it after any of the unary or binary operations.
-	 * <p>
-	 * While we are here, we ALSO set the sparseFlag. The nonZero coeff detection
-	 * loop that fills gradeKey is a grade detector, so if foundGrade is less than
-	 * or equal to half gradeCount, sparseFlag is set to true and false otherwise.
+	 * Set the sparseFlag after any of the unary or binary operations. If the
+	 * number of grades present is less than half the gradeCount, sparseFlag is
+	 * set to true and false otherwise. The grade mask already knows which grades
+	 * are present, so nothing gets rescanned.
 	 */
-	private void setGradeKey() {
-		foundGrades = 0;
-		gradeKey = 0;
-
-		gradeStream().forEach(grade -> {
-			if (getAlgebra().getGBasis().bladeOfGradeStream((byte) grade)
-					.filter(blade -> getWeights().isNotZeroAt(blade)).parallel().findAny().isPresent()) {
-				foundGrades++;
-				gradeKey += (long) Math.pow(10, grade);
-			}
-		});
+	private void setSparseFlag() {
+		sparseFlag = Integer.bitCount(getGradeMask()) < getAlgebra().getGradeCount() / 2;
+	}
 
-		if (gradeKey == 0) {	//Special case for scalars. If no grades detected, scalar it must be.
-			foundGrades++;
-			gradeKey++;
-		}
-		sparseFlag = (foundGrades < getAlgebra().getGradeCount() / 2) ? true : false;
+	/**
+	 * Check that a versor map may be applied to this monad. The map must come
+	 * from the same algebra, frame, cardinal and mode and all weights here must be
+	 * finite.
+	 * <p>
+	 * @param pMap Outermorphism to be checked against this monad
+	 * @throws IllegalArgumentException This happens when any of the tests fail.
+	 */
+	private void validateSandwich(Outermorphism pMap) {
+		if (getAlgebra() != pMap.getAlgebra() | !getFrameName().equals(pMap.getFrameName())
+				| !scales.getCardinal().equals(pMap.getCardinal()))
+			throw new IllegalArgumentException("Sandwich fails reference match.");
+		if (pMap.getMode() != mode)
+			throw new IllegalArgumentException("Sandwich fails mode match.");
+		if (!scales.isFinite())
+			throw new IllegalArgumentException("Sandwich fails on NaN or infinite weights.");
 	}
 
 	/**
@@ -1581,6 +1543,45 @@ public class Monad implements Modal {
 		return this;
 	}
 
+	/**
+	 * Return the scalar part of the product of this monad with another one
+	 * (this pM) without forming the product. Only blades multiplied by
+	 * themselves reach the scalar, so this costs one pass over the basis instead
+	 * of one step per pair of blades.
+	 * <p>
+	 * This operation is allowed when the two monads use the same field and
+	 * satisfy the Reference Matching test.
+	 * <p>
+	 * @param pM  Monad on the right of the product
+	 * @param <T> UnitAbstract number from CladosF with all interfaces.
+	 * @return T number of the monads' mode holding the scalar part
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends UnitAbstract & Field & Normalizable> T scalarProduct(Monad pM) {
+		if (!Monad.isReferenceMatch(this, pM))
+			throw new IllegalArgumentException("Can't form a scalar product without a reference match.");
+		if (pM.getMode() != mode)
+			throw new IllegalArgumentException("Can't form a scalar product of monads in different modes.");
+		return ((Scale<T>) scales).scalarProduct((Scale<T>) pM.scales, getAlgebra().getGProduct(), null, false);
+	}
+
+	/**
+	 * Return the scalar part of the reverse conjugate of this monad times itself.
+	 * This is the square of the norm normalize() divides out. It is real even for
+	 * complex modes, though it may be negative in mixed signatures.
+	 * <p>
+	 * The reverse and the conjugate are applied through sign vectors as the sum
+	 * runs, so the monad is not copied.
+	 * <p>
+	 * @param <T> UnitAbstract number from CladosF with all interfaces.
+	 * @return T number of the monad's mode holding the squared norm
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends UnitAbstract & Field & Normalizable> T sqNorm() {
+		return ((Scale<T>) scales).scalarProduct((Scale<T>) scales, getAlgebra().getGProduct(),
+				getAlgebra().getGBasis().getReverseSigns(), true);
+	}
+
 	/**
 	 * Return the magnitude squared of the Monad
 	 * <p>
@@ -1609,20 +1610,22 @@ public class Monad implements Modal {
 	 * Monad Subtraction: (this - pM) This operation is allowed when the two monads
 	 * use the same field and satisfy the Reference Matching test.
 	 * <p>
-	 * @param pM Monad
+	 * <p>
+	 * The weights are combined as primitives one grade at a time and the grades
+	 * present are counted while that happens.
+	 * <p>
+	 * @param pM  Monad
+	 * @param <T> UnitAbstract number from CladosF with all interfaces.
 	 * @return Monad
 	 */
-	public Monad subtract(Monad pM) {
+	@SuppressWarnings("unchecked")
+	public <T extends UnitAbstract & Field & Normalizable> Monad subtract(Monad pM) {
 		if (!Monad.isReferenceMatch(this, pM))
 			throw new IllegalArgumentException("Can't subtract monads without a reference match.");
-		bladeStream().parallel().forEach(blade -> {
-			try {
-				scales.get(blade).subtract(pM.scales.get(blade));
-			} catch (FieldBinaryException e) {
-				throw new IllegalArgumentException("Can't subtract when cardinals don't match.");
-			}
-		});
-		setGradeKey();
+		if (pM.getMode() != mode)
+			throw new IllegalArgumentException("Can't subtract when modes don't match.");
+		((Scale<T>) scales).subtract((Scale<T>) pM.scales);
+		setSparseFlag();
 		return this;
 	}
 
@@ -0,0 +1,418 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.Multiplier<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.Multiplier<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import java.util.Arrays;
+
+import org.interworldtransport.cladosF.Cardinal;
+import org.interworldtransport.cladosF.CladosField;
+import org.interworldtransport.cladosF.ComplexD;
+import org.interworldtransport.cladosF.ComplexF;
+import org.interworldtransport.cladosF.RealD;
+import org.interworldtransport.cladosF.RealF;
+
+/**
+ * This class holds the linear map X -&gt; M X or X -&gt; X M for a fixed monad
+ * M. Metrics, motors and projectors often multiply millions of different monads
+ * from the same side. Since the product is linear in X, the work of reading the
+ * product table can be done once and kept as a sparse matrix.
+ * <p>
+ * The matrix is stored by input blade. Each input blade owns a run of entries
+ * naming the output blade and the signed weight of M that lands there. Only
+ * non-zero weights of M are visited and pairs that vanish on a degenerate
+ * generator are dropped, so a versor with a few terms costs a few entries per
+ * blade. Applying the map reads no table, builds no Blade and allocates
+ * nothing.
+ * <p>
+ * Entries are kept as doubles no matter the mode of M. Float monads are
+ * widened while the map is applied and narrowed again when written back.
+ * Complex modes keep a second array for the imaginary parts.
+ * <p>
+ * Maps compose. then() folds two maps into one, so a chain of fixed
+ * multiplications costs one application no matter how long the chain is.
+ * <p>
+ * Maps are immutable once built, so one map may be applied from many threads
+ * at once. Monad.multiply() applies a map to a monad and apply() works on
+ * coefficient tuples held by the caller.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class Multiplier {
+
+	/**
+	 * The algebra of the fixed monad. Only monads using the same algebra object
+	 * may be multiplied.
+	 */
+	private final Algebra algebra;
+
+	/**
+	 * The cardinal of the fixed monad's weights.
+	 */
+	private final Cardinal card;
+
+	/**
+	 * The reference frame name of the fixed monad.
+	 */
+	private final String frameName;
+
+	/**
+	 * The number mode of the fixed monad.
+	 */
+	private final CladosField mode;
+
+	/**
+	 * Scratch space for applying this map to a monad in place. Each thread gets
+	 * its own the first time it does so and reuses it after that, so applying a
+	 * map over and over allocates nothing.
+	 */
+	private final ThreadLocal<double[]> scratch = ThreadLocal
+			.withInitial(() -> new double[2 * (getStarts().length - 1)]);
+
+	/**
+	 * Basis indices of the output blade of each entry.
+	 */
+	private final int[] outs;
+
+	/**
+	 * Entries of input blade k run from starts[k] up to starts[k + 1].
+	 */
+	private final int[] starts;
+
+	/**
+	 * Real parts of the entries.
+	 */
+	private final double[] values;
+
+	/**
+	 * Imaginary parts of the entries. Null for the real modes.
+	 */
+	private final double[] valuesImg;
+
+	/**
+	 * Build the map by multiplying every basis blade by the fixed monad.
+	 * <p>
+	 * @param pM    Monad that is the fixed factor
+	 * @param pLeft boolean True for pM X as in multiplyLeft() and false for X pM
+	 *              as in multiplyRight()
+	 * @throws IllegalArgumentException This happens if any weight of pM is NaN
+	 *                                  or infinite.
+	 */
+	public Multiplier(Monad pM, boolean pLeft) {
+		if (!pM.getWeights().isFinite())
+			throw new IllegalArgumentException("Multiplier fails on NaN or infinite weights.");
+		algebra = pM.getAlgebra();
+		frameName = pM.getFrameName();
+		card = pM.getWeights().getCardinal();
+		mode = pM.getMode();
+
+		CliffordProduct tProd = algebra.getGProduct();
+		int tCount = algebra.getBladeCount();
+		boolean tComplex = (mode == CladosField.COMPLEXD | mode == CladosField.COMPLEXF);
+
+		double[] tMRe = new double[tCount];
+		double[] tMIm = new double[tCount];
+		int[] tNZ = new int[tCount];
+		int tNZSize = 0;
+		for (int k = 0; k < tCount; k++) {
+			switch (mode) {
+				case COMPLEXD -> {
+					ComplexD tW = pM.getCoeff(k);
+					tMRe[k] = tW.getReal();
+					tMIm[k] = tW.getImg();
+				}
+				case COMPLEXF -> {
+					ComplexF tW = pM.getCoeff(k);
+					tMRe[k] = tW.getReal();
+					tMIm[k] = tW.getImg();
+				}
+				case REALD -> tMRe[k] = ((RealD) pM.getCoeff(k)).getReal();
+				case REALF -> tMRe[k] = ((RealF) pM.getCoeff(k)).getReal();
+			}
+			if (tMRe[k] != 0.0d | tMIm[k] != 0.0d)
+				tNZ[tNZSize++] = k;
+		}
+
+		int tMax = tNZSize * tCount;
+		int[] tStarts = new int[tCount + 1];
+		int[] tOuts = new int[tMax];
+		double[] tValues = new double[tMax];
+		double[] tValuesImg = tComplex ? new double[tMax] : null;
+		int tSize = 0;
+		for (int col = 0; col < tCount; col++) {
+			tStarts[col] = tSize;
+			for (int j = 0; j < tNZSize; j++) {
+				int tRes = pLeft ? tProd.getResult(tNZ[j], col) : tProd.getResult(col, tNZ[j]);
+				if (tRes == 0)
+					continue; // Degenerate pairs contribute nothing
+				int tSign = Integer.signum(tRes);
+				tOuts[tSize] = Math.abs(tRes) - 1;
+				tValues[tSize] = tSign * tMRe[tNZ[j]];
+				if (tComplex)
+					tValuesImg[tSize] = tSign * tMIm[tNZ[j]];
+				tSize++;
+			}
+		}
+		tStarts[tCount] = tSize;
+		starts = tStarts;
+		outs = (tSize == tMax) ? tOuts : Arrays.copyOf(tOuts, tSize);
+		values = (tSize == tMax) ? tValues : Arrays.copyOf(tValues, tSize);
+		valuesImg = (!tComplex | tSize == tMax) ? tValuesImg : Arrays.copyOf(tValuesImg, tSize);
+	}
+
+	/**
+	 * Assemble a map from finished arrays. This is for composition.
+	 * <p>
+	 * @param pFirst     Multiplier whose references the new map shares
+	 * @param pStarts    int[] start of each input blade's entries
+	 * @param pOuts      int[] output blade of each entry
+	 * @param pValues    double[] real part of each entry
+	 * @param pValuesImg double[] imaginary part of each entry or null
+	 */
+	private Multiplier(Multiplier pFirst, int[] pStarts, int[] pOuts, double[] pValues, double[] pValuesImg) {
+		algebra = pFirst.algebra;
+		card = pFirst.card;
+		frameName = pFirst.frameName;
+		mode = pFirst.mode;
+		starts = pStarts;
+		outs = pOuts;
+		values = pValues;
+		valuesImg = pValuesImg;
+	}
+
+	/**
+	 * Apply the map to one coefficient tuple held by the caller. A tuple has one
+	 * double per blade for the real modes and two per blade (real then
+	 * imaginary) for the complex modes, all in basis order.
+	 * <p>
+	 * Nothing is allocated, so a solver can reuse two arrays for every monad it
+	 * multiplies.
+	 * <p>
+	 * @param pIn  double[] tuple to be multiplied. It is not changed.
+	 * @param pOut double[] tuple to receive the product. Its contents are lost.
+	 * @return double[] Just pOut after it is filled.
+	 * @throws IllegalArgumentException This happens if either array is the wrong
+	 *                                  length or both are the same array.
+	 */
+	public double[] apply(double[] pIn, double[] pOut) {
+		int tWidth = (valuesImg == null) ? algebra.getBladeCount() : 2 * algebra.getBladeCount();
+		if (pIn.length != tWidth | pOut.length != tWidth)
+			throw new IllegalArgumentException("Multiplier fails because tuple length is not " + tWidth);
+		if (pIn == pOut)
+			throw new IllegalArgumentException("Multiplier fails because it can't write over its input.");
+		Arrays.fill(pOut, 0.0d);
+		if (valuesImg == null)
+			for (int col = 0; col < starts.length - 1; col++) {
+				double tA = pIn[col];
+				if (tA == 0.0d)
+					continue;
+				for (int e = starts[col]; e < starts[col + 1]; e++)
+					pOut[outs[e]] += values[e] * tA;
+			}
+		else
+			for (int col = 0; col < starts.length - 1; col++) {
+				double tAR = pIn[2 * col];
+				double tAI = pIn[2 * col + 1];
+				if (tAR == 0.0d & tAI == 0.0d)
+					continue;
+				for (int e = starts[col]; e < starts[col + 1]; e++) {
+					pOut[2 * outs[e]] += values[e] * tAR - valuesImg[e] * tAI;
+					pOut[2 * outs[e] + 1] += values[e] * tAI + valuesImg[e] * tAR;
+				}
+			}
+		return pOut;
+	}
+
+	/**
+	 * Simple gettor for the algebra of the fixed monad.
+	 * <p>
+	 * @return Algebra
+	 */
+	public Algebra getAlgebra() {
+		return algebra;
+	}
+
+	/**
+	 * Simple gettor for the cardinal of the fixed monad's weights.
+	 * <p>
+	 * @return Cardinal
+	 */
+	public Cardinal getCardinal() {
+		return card;
+	}
+
+	/**
+	 * Simple gettor for the reference frame name of the fixed monad.
+	 * <p>
+	 * @return String
+	 */
+	public String getFrameName() {
+		return frameName;
+	}
+
+	/**
+	 * Simple gettor for the number mode of the fixed monad.
+	 * <p>
+	 * @return CladosField
+	 */
+	public CladosField getMode() {
+		return mode;
+	}
+
+	/**
+	 * Simple gettor for the number of stored entries.
+	 * <p>
+	 * @return int number of non-zero entries in the matrix
+	 */
+	public int size() {
+		return outs.length;
+	}
+
+	/**
+	 * Compose this map with another one. The result applies this map first and
+	 * pNext second, so X -&gt; pNext(this(X)). Fixing A on the left and then B on
+	 * the left composes to B A X.
+	 * <p>
+	 * Each input blade is pushed through both maps once while the composed
+	 * entries are gathered. Entries that cancel to zero are dropped.
+	 * <p>
+	 * @param pNext Multiplier to be applied after this one
+	 * @return Multiplier that does the work of both
+	 * @throws IllegalArgumentException This happens if the two maps differ in
+	 *                                  algebra, frame, cardinal or mode.
+	 */
+	public Multiplier then(Multiplier pNext) {
+		if (algebra != pNext.algebra | !frameName.equals(pNext.frameName) | !card.equals(pNext.card))
+			throw new IllegalArgumentException("Multiplier composition fails reference match.");
+		if (mode != pNext.mode)
+			throw new IllegalArgumentException("Multiplier composition fails mode match.");
+		int tCount = starts.length - 1;
+		boolean tComplex = (valuesImg != null);
+		double[] tMidRe = new double[tCount];
+		double[] tMidIm = new double[tCount];
+		double[] tOutRe = new double[tCount];
+		double[] tOutIm = new double[tCount];
+		int[] tStarts = new int[tCount + 1];
+		int[] tOuts = new int[tCount];
+		double[] tValues = new double[tCount];
+		double[] tValuesImg = tComplex ? new double[tCount] : null;
+		int tSize = 0;
+		for (int col = 0; col < tCount; col++) {
+			tStarts[col] = tSize;
+			for (int e = starts[col]; e < starts[col + 1]; e++) {
+				tMidRe[outs[e]] += values[e];
+				if (tComplex)
+					tMidIm[outs[e]] += valuesImg[e];
+			}
+			for (int mid = 0; mid < tCount; mid++) {
+				double tAR = tMidRe[mid];
+				double tAI = tMidIm[mid];
+				if (tAR == 0.0d & tAI == 0.0d)
+					continue;
+				for (int e = pNext.starts[mid]; e < pNext.starts[mid + 1]; e++) {
+					tOutRe[pNext.outs[e]] += pNext.values[e] * tAR;
+					if (tComplex) {
+						tOutRe[pNext.outs[e]] -= pNext.valuesImg[e] * tAI;
+						tOutIm[pNext.outs[e]] += pNext.values[e] * tAI + pNext.valuesImg[e] * tAR;
+					}
+				}
+				tMidRe[mid] = 0.0d;
+				tMidIm[mid] = 0.0d;
+			}
+			for (int row = 0; row < tCount; row++) {
+				if (tOutRe[row] == 0.0d & tOutIm[row] == 0.0d)
+					continue;
+				if (tSize == tOuts.length) {
+					tOuts = Arrays.copyOf(tOuts, 2 * tSize);
+					tValues = Arrays.copyOf(tValues, 2 * tSize);
+					if (tComplex)
+						tValuesImg = Arrays.copyOf(tValuesImg, 2 * tSize);
+				}
+				tOuts[tSize] = row;
+				tValues[tSize] = tOutRe[row];
+				if (tComplex)
+					tValuesImg[tSize] = tOutIm[row];
+				tSize++;
+				tOutRe[row] = 0.0d;
+				tOutIm[row] = 0.0d;
+			}
+		}
+		tStarts[tCount] = tSize;
+		return new Multiplier(this, tStarts, Arrays.copyOf(tOuts, tSize),
+				Arrays.copyOf(tValues, tSize), tComplex ? Arrays.copyOf(tValuesImg, tSize) : null);
+	}
+
+	/**
+	 * Gettor for the output indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of output blades
+	 */
+	protected int[] getOuts() {
+		return outs;
+	}
+
+	/**
+	 * Gettor for this thread's scratch space, cleared and ready to accumulate
+	 * into. It holds two doubles per blade. The array is NOT copied and the same
+	 * one comes back on the next call from this thread, so don't hold on to it.
+	 * <p>
+	 * @return double[] zeroed scratch space
+	 */
+	protected double[] getScratch() {
+		double[] tScratch = scratch.get();
+		Arrays.fill(tScratch, 0.0d);
+		return tScratch;
+	}
+
+	/**
+	 * Gettor for the entry ranges of each input blade. The array is NOT copied,
+	 * so don't change it.
+	 * <p>
+	 * @return int[] one start per blade plus the end of the last run
+	 */
+	protected int[] getStarts() {
+		return starts;
+	}
+
+	/**
+	 * Gettor for the real parts of the entries. The array is NOT copied, so don't
+	 * change it.
+	 * <p>
+	 * @return double[] real part of each entry
+	 */
+	protected double[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Gettor for the imaginary parts of the entries. The array is NOT copied, so
+	 * don't change it.
+	 * <p>
+	 * @return double[] imaginary part of each entry or null for real modes
+	 */
+	protected double[] getValuesImg() {
+		return valuesImg;
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.Outermorphism<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.Outermorphism<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import static org.interworldtransport.cladosG.CladosConstant.BATCH_CHUNK;
+import static org.interworldtransport.cladosG.CladosConstant.VERSOR_TOLERANCE;
+
+import java.util.Arrays;
+
+import org.interworldtransport.cladosF.Cardinal;
+import org.interworldtransport.cladosF.CladosField;
+import org.interworldtransport.cladosF.ComplexD;
+import org.interworldtransport.cladosF.ComplexF;
+import org.interworldtransport.cladosF.RealD;
+import org.interworldtransport.cladosF.RealF;
+
+/**
+ * This class holds the linear map X -&gt; R X ~R for a fixed versor R. Applying
+ * a versor to a monad the long way takes a copy of R, a reversal, and two full
+ * geometric products. Since the map is linear in X, it can be worked out once
+ * for every basis blade and then applied to as many monads as needed.
+ * <p>
+ * A versor maps blades of grade k onto blades of grade k. That is what makes
+ * this an outermorphism. The map is stored as one dense square block per grade,
+ * so a grade-k input only ever touches grade-k outputs. A vector in a 3D
+ * algebra costs a 3x3 block and nothing else.
+ * <p>
+ * Blocks are kept as doubles no matter the mode of the versor. Float monads are
+ * widened while the map is applied and narrowed again when written back.
+ * Complex modes keep a second set of blocks for the imaginary parts.
+ * <p>
+ * Maps are immutable once built, so one map may be applied from many threads
+ * at once. Monad.sandwich() applies a map to one monad or a list of them and
+ * apply() works on a flat batch of coefficient tuples.
+ * <p>
+ * The versor is NOT required to be normalized. An unnormalized versor scales
+ * everything it touches by its squared magnitude, just as the long way would.
+ * It IS required to be a versor, though. A monad whose sandwich leaks into
+ * other grades by more than VERSOR_TOLERANCE of its largest entry is rejected.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class Outermorphism {
+
+	/**
+	 * The algebra of the versor. Only monads using the same algebra object may be
+	 * mapped.
+	 */
+	private final Algebra algebra;
+
+	/**
+	 * Real parts of the blocks. One square block per grade stored row-major with
+	 * rows for outputs and columns for inputs.
+	 */
+	private final double[][] blocks;
+
+	/**
+	 * Imaginary parts of the blocks. Null for the real modes.
+	 */
+	private final double[][] blocksImg;
+
+	/**
+	 * The cardinal of the versor's weights.
+	 */
+	private final Cardinal card;
+
+	/**
+	 * The reference frame name of the versor.
+	 */
+	private final String frameName;
+
+	/**
+	 * The number mode of the versor.
+	 */
+	private final CladosField mode;
+
+	/**
+	 * Build the map by sandwiching every basis blade with the versor.
+	 * <p>
+	 * Only the non-zero weights of the versor are visited, so a rotor with a few
+	 * terms builds its map quickly even in a large algebra.
+	 * <p>
+	 * @param pR Monad that is the versor to be applied
+	 * @throws IllegalArgumentException This happens if any weight of pR is NaN
+	 *                                  or infinite or if pR fails to preserve
+	 *                                  grades.
+	 */
+	public Outermorphism(Monad pR) {
+		if (!pR.getWeights().isFinite())
+			throw new IllegalArgumentException("Outermorphism fails on NaN or infinite weights.");
+		algebra = pR.getAlgebra();
+		frameName = pR.getFrameName();
+		card = pR.getWeights().getCardinal();
+		mode = pR.getMode();
+
+		CliffordProduct tProd = algebra.getGProduct();
+		CanonicalBasis tB = algebra.getGBasis();
+		int tCount = tB.getBladeCount();
+		boolean tComplex = (mode == CladosField.COMPLEXD | mode == CladosField.COMPLEXF);
+
+		double[] tRRe = new double[tCount];
+		double[] tRIm = new double[tCount];
+		int[] tNZ = new int[tCount];
+		int tNZSize = 0;
+		for (int k = 0; k < tCount; k++) {
+			switch (mode) {
+				case COMPLEXD -> {
+					ComplexD tW = pR.getCoeff(k);
+					tRRe[k] = tW.getReal();
+					tRIm[k] = tW.getImg();
+				}
+				case COMPLEXF -> {
+					ComplexF tW = pR.getCoeff(k);
+					tRRe[k] = tW.getReal();
+					tRIm[k] = tW.getImg();
+				}
+				case REALD -> tRRe[k] = ((RealD) pR.getCoeff(k)).getReal();
+				case REALF -> tRRe[k] = ((RealF) pR.getCoeff(k)).getReal();
+			}
+			if (tRRe[k] != 0.0d | tRIm[k] != 0.0d)
+				tNZ[tNZSize++] = k;
+		}
+		double[] tRevRe = new double[tCount]; // Weights of ~R
+		double[] tRevIm = new double[tCount];
+		for (byte grade = 0; grade < tB.getGradeCount(); grade++) {
+			int tSign = ((grade * (grade - 1) / 2) % 2 == 0) ? 1 : -1;
+			for (int k = tB.getGradeStart(grade); k < tB.getGradeEnd(grade); k++) {
+				tRevRe[k] = tSign * tRRe[k];
+				tRevIm[k] = tSign * tRIm[k];
+			}
+		}
+
+		blocks = new double[tB.getGradeCount()][];
+		blocksImg = tComplex ? new double[tB.getGradeCount()][] : null;
+		double[] tMidRe = new double[tCount];
+		double[] tMidIm = new double[tCount];
+		double[] tOutRe = new double[tCount];
+		double[] tOutIm = new double[tCount];
+		double tLargest = 0.0d;
+		double tLeak = 0.0d;
+		for (byte grade = 0; grade < tB.getGradeCount(); grade++) {
+			int tStart = tB.getGradeStart(grade);
+			int tEnd = tB.getGradeEnd(grade);
+			int tSize = tEnd - tStart;
+			blocks[grade] = new double[tSize * tSize];
+			if (tComplex)
+				blocksImg[grade] = new double[tSize * tSize];
+			for (int col = tStart; col < tEnd; col++) {
+				Arrays.fill(tMidRe, 0.0d);
+				Arrays.fill(tMidIm, 0.0d);
+				Arrays.fill(tOutRe, 0.0d);
+				Arrays.fill(tOutIm, 0.0d);
+				for (int j = 0; j < tNZSize; j++) { // R e_col
+					int tRes = tProd.getResult(tNZ[j], col);
+					if (tRes == 0)
+						continue;
+					int tSign = Integer.signum(tRes);
+					tMidRe[Math.abs(tRes) - 1] += tSign * tRRe[tNZ[j]];
+					tMidIm[Math.abs(tRes) - 1] += tSign * tRIm[tNZ[j]];
+				}
+				for (int a = 0; a < tCount; a++) { // (R e_col) ~R
+					if (tMidRe[a] == 0.0d & tMidIm[a] == 0.0d)
+						continue;
+					for (int j = 0; j < tNZSize; j++) {
+						int b = tNZ[j];
+						int tRes = tProd.getResult(a, b);
+						if (tRes == 0)
+							continue;
+						int tSign = Integer.signum(tRes);
+						tOutRe[Math.abs(tRes) - 1] += tSign * (tMidRe[a] * tRevRe[b] - tMidIm[a] * tRevIm[b]);
+						tOutIm[Math.abs(tRes) - 1] += tSign * (tMidRe[a] * tRevIm[b] + tMidIm[a] * tRevRe[b]);
+					}
+				}
+				for (int row = 0; row < tCount; row++) {
+					double tMag = Math.abs(tOutRe[row]) + Math.abs(tOutIm[row]);
+					if (row >= tStart & row < tEnd) {
+						blocks[grade][(row - tStart) * tSize + (col - tStart)] = tOutRe[row];
+						if (tComplex)
+							blocksImg[grade][(row - tStart) * tSize + (col - tStart)] = tOutIm[row];
+						tLargest = Math.max(tLargest, tMag);
+					} else
+						tLeak = Math.max(tLeak, tMag);
+				}
+			}
+		}
+		if (tLeak > VERSOR_TOLERANCE * tLargest)
+			throw new IllegalArgumentException("Outermorphism fails because the monad does not preserve grades.");
+	}
+
+	/**
+	 * Apply the map to a batch of coefficient tuples without building monads for
+	 * them. The batch is a flat array of tuples laid end to end in basis order.
+	 * Each tuple has one double per blade for the real modes and two per blade
+	 * (real then imaginary) for the complex modes.
+	 * <p>
+	 * Each grade block is applied to every tuple in turn, so the inner loop is a
+	 * plain dot product over doubles that the JIT may vectorize. Batches are
+	 * split into chunks of BATCH_CHUNK tuples and the chunks run on the pool of
+	 * ExecutionPolicy when it says the batch is large enough. Every tuple belongs
+	 * to exactly one chunk.
+	 * <p>
+	 * @param pBatch double[] tuples to be changed in place
+	 * @return double[] Just the array passed in after all tuples are changed.
+	 * @throws IllegalArgumentException This happens if the array length is not a
+	 *                                  whole number of tuples.
+	 */
+	public double[] apply(double[] pBatch) {
+		int tStride = (blocksImg == null) ? 1 : 2;
+		int tWidth = tStride * algebra.getBladeCount();
+		if (pBatch.length % tWidth != 0)
+			throw new IllegalArgumentException("Outermorphism fails because batch length is not a multiple of " + tWidth);
+		int tTuples = pBatch.length / tWidth;
+		ExecutionPolicy.INSTANCE.forEach(ExecutionPolicy.Work.BATCH, tTuples, (tTuples + BATCH_CHUNK - 1) / BATCH_CHUNK,
+				chunk -> {
+			double[] tScratch = new double[tWidth];
+			for (int k = chunk * BATCH_CHUNK; k < Math.min(tTuples, (chunk + 1) * BATCH_CHUNK); k++)
+				applyTuple(pBatch, k * tWidth, tScratch);
+		});
+		return pBatch;
+	}
+
+	/**
+	 * Apply every grade block to one tuple of a batch.
+	 * <p>
+	 * @param pBatch   double[] holding the tuple
+	 * @param pOffset  int index of the first double of the tuple
+	 * @param pScratch double[] at least as long as a tuple. Its contents are lost.
+	 */
+	private void applyTuple(double[] pBatch, int pOffset, double[] pScratch) {
+		CanonicalBasis tB = algebra.getGBasis();
+		int tWidth = (blocksImg == null) ? tB.getBladeCount() : 2 * tB.getBladeCount();
+		System.arraycopy(pBatch, pOffset, pScratch, 0, tWidth);
+		for (byte grade = 0; grade < blocks.length; grade++) {
+			int tStart = tB.getGradeStart(grade);
+			int tSize = tB.getGradeEnd(grade) - tStart;
+			double[] tBlock = blocks[grade];
+			if (blocksImg == null)
+				for (int row = 0; row < tSize; row++) {
+					double tSum = 0.0d;
+					for (int col = 0; col < tSize; col++)
+						tSum += tBlock[row * tSize + col] * pScratch[tStart + col];
+					pBatch[pOffset + tStart + row] = tSum;
+				}
+			else {
+				double[] tBlockImg = blocksImg[grade];
+				for (int row = 0; row < tSize; row++) {
+					double tSumRe = 0.0d;
+					double tSumIm = 0.0d;
+					for (int col = 0; col < tSize; col++) {
+						double tRe = pScratch[2 * (tStart + col)];
+						double tIm = pScratch[2 * (tStart + col) + 1];
+						tSumRe += tBlock[row * tSize + col] * tRe - tBlockImg[row * tSize + col] * tIm;
+						tSumIm += tBlock[row * tSize + col] * tIm + tBlockImg[row * tSize + col] * tRe;
+					}
+					pBatch[pOffset + 2 * (tStart + row)] = tSumRe;
+					pBatch[pOffset + 2 * (tStart + row) + 1] = tSumIm;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Simple gettor for the algebra of the versor.
+	 * <p>
+	 * @return Algebra
+	 */
+	public Algebra getAlgebra() {
+		return algebra;
+	}
+
+	/**
+	 * Simple gettor for the cardinal of the versor's weights.
+	 * <p>
+	 * @return Cardinal
+	 */
+	public Cardinal getCardinal() {
+		return card;
+	}
+
+	/**
+	 * Simple gettor for the reference frame name of the versor.
+	 * <p>
+	 * @return String
+	 */
+	public String getFrameName() {
+		return frameName;
+	}
+
+	/**
+	 * Simple gettor for the number mode of the versor.
+	 * <p>
+	 * @return CladosField
+	 */
+	public CladosField getMode() {
+		return mode;
+	}
+
+	/**
+	 * Gettor for the real part of one grade's block. The array is NOT copied, so
+	 * don't change it.
+	 * <p>
+	 * @param pGrade byte grade of the block
+	 * @return double[] square block stored row-major
+	 */
+	protected double[] getBlock(byte pGrade) {
+		return blocks[pGrade];
+	}
+
+	/**
+	 * Gettor for the imaginary part of one grade's block. The array is NOT
+	 * copied, so don't change it.
+	 * <p>
+	 * @param pGrade byte grade of the block
+	 * @return double[] square block stored row-major or null for real modes
+	 */
+	protected double[] getBlockImg(byte pGrade) {
+		return (blocksImg == null) ? null : blocksImg[pGrade];
+	}
+}
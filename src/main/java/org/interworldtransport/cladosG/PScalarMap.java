@@ -0,0 +1,130 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.PScalarMap<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.PScalarMap<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+/**
+ * This class holds what multiplication by the unit pseudoscalar does to each
+ * blade of a basis. The product of a blade with the pseudoscalar is always the
+ * complementary blade times a sign, so the whole product reduces to a
+ * permutation of weights and a sign vector. Both sides are kept because the
+ * sign of I*e_j need not match the sign of e_j*I.
+ * <p>
+ * The permutation depends only on the basis. The signs depend on the product.
+ * A sign of zero means the pair vanishes because the blade and the
+ * pseudoscalar share a degenerate generator. In a degenerate signature that is
+ * every blade holding a degenerate generator, so only the part of an operand
+ * free of them survives and it lands on blades that do hold them.
+ * <p>
+ * Indices are 0-based positions in the basis. The complement of a complement is
+ * the blade itself, so the permutation is its own inverse and can be applied in
+ * place by swapping pairs.
+ * <p>
+ * Maps are immutable. They are kept in GCache, so get them from there instead
+ * of building them directly.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class PScalarMap {
+
+	/**
+	 * Signs of I*e_j for each blade e_j. Always +1, -1 or 0.
+	 */
+	private final byte[] leftSigns;
+
+	/**
+	 * Signs of e_j*I for each blade e_j. Always +1, -1 or 0.
+	 */
+	private final byte[] rightSigns;
+
+	/**
+	 * Basis index of the complement of each blade.
+	 */
+	private final int[] targets;
+
+	/**
+	 * Build the map by reading the pseudoscalar row and column of a product.
+	 * Complements come from the basis bitKeys so they are known even where the
+	 * product is zero.
+	 * <p>
+	 * @param pProd CliffordProduct supplying results
+	 */
+	protected PScalarMap(CliffordProduct pProd) {
+		CanonicalBasis tB = pProd.getBasis();
+		int tCount = tB.getBladeCount();
+		int tPS = tCount - 1;
+		int tFull = tB.getBitKey(tPS);
+		targets = new int[tCount];
+		leftSigns = new byte[tCount];
+		rightSigns = new byte[tCount];
+		for (int j = 0; j < tCount; j++) {
+			targets[j] = tB.findBitKey(tFull ^ tB.getBitKey(j)) - 1;
+			leftSigns[j] = (byte) Integer.signum(pProd.getResult(tPS, j));
+			rightSigns[j] = (byte) Integer.signum(pProd.getResult(j, tPS));
+		}
+	}
+
+	/**
+	 * Report whether any blade vanishes against the pseudoscalar.
+	 * <p>
+	 * @return boolean TRUE if at least one sign is zero
+	 */
+	public boolean isDegenerate() {
+		for (byte tSign : leftSigns)
+			if (tSign == 0)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Simple gettor for the number of blades covered.
+	 * <p>
+	 * @return int number of entries in the map
+	 */
+	public int size() {
+		return targets.length;
+	}
+
+	/**
+	 * Gettor for the signs of one side. The array is NOT copied, so don't change
+	 * it.
+	 * <p>
+	 * @param pLeft boolean TRUE for I*e_j and FALSE for e_j*I
+	 * @return byte[] signs of each product
+	 */
+	protected byte[] getSigns(boolean pLeft) {
+		return pLeft ? leftSigns : rightSigns;
+	}
+
+	/**
+	 * Gettor for the complement indices. The array is NOT copied, so don't change
+	 * it.
+	 * <p>
+	 * @return int[] basis indices of complementary blades
+	 */
+	protected int[] getTargets() {
+		return targets;
+	}
+}
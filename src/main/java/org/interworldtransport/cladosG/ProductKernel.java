@@ -0,0 +1,195 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.ProductKernel<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.ProductKernel<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+/**
+ * This class is a product pattern regrouped by output blade and sign. A pattern
+ * lists surviving pairs in the order the product table hands them out, so a
+ * product walking it scatters into outputs and multiplies by a sign for every
+ * pair. A kernel groups the pairs by the blade they produce and splits each
+ * group into the pairs that add and the pairs that subtract.
+ * <p>
+ * Each output is then one sum of products followed by one difference of
+ * products and a single write. Signs become the choice of loop rather than a
+ * multiply. Degenerate pairs and blades outside the grade masks were already
+ * dropped by the pattern, so nothing here tests for zero.
+ * <p>
+ * No code is generated. Scale.addKernel() walks the grouped index arrays in an
+ * ordinary loop, so the savings come from the regrouping and not from indices
+ * the JIT can fold away.
+ * <p>
+ * Kernels are immutable. Each pattern builds its own the first time it is
+ * asked, so get them through ProductPattern.getKernel() on a pattern from
+ * GCache.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class ProductKernel {
+
+	/**
+	 * Basis indices of the left blade of each pair in kernel order.
+	 */
+	private final int[] lefts;
+
+	/**
+	 * Positions where the subtracting pairs of each output begin.
+	 */
+	private final int[] minusStarts;
+
+	/**
+	 * Basis indices of each distinct output blade in ascending order.
+	 */
+	private final int[] outs;
+
+	/**
+	 * Basis indices of the right blade of each pair in kernel order.
+	 */
+	private final int[] rights;
+
+	/**
+	 * Positions where the pairs of each output begin plus the end of the last.
+	 */
+	private final int[] starts;
+
+	/**
+	 * Rearrange a pattern's pairs by output and then by sign.
+	 * <p>
+	 * @param pPattern ProductPattern whose pairs make up the kernel
+	 */
+	protected ProductKernel(ProductPattern pPattern) {
+		int[] tOuts = pPattern.getOuts();
+		byte[] tSigns = pPattern.getSigns();
+		int tMaxOut = -1;
+		for (int out : tOuts)
+			tMaxOut = Math.max(tMaxOut, out);
+		int[] tPlus = new int[tMaxOut + 1];
+		int[] tMinus = new int[tMaxOut + 1];
+		for (int k = 0; k < tOuts.length; k++)
+			if (tSigns[k] > 0)
+				tPlus[tOuts[k]]++;
+			else
+				tMinus[tOuts[k]]++;
+		int tDistinct = 0;
+		for (int out = 0; out <= tMaxOut; out++)
+			if (tPlus[out] + tMinus[out] > 0)
+				tDistinct++;
+
+		outs = new int[tDistinct];
+		starts = new int[tDistinct + 1];
+		minusStarts = new int[tDistinct];
+		int[] tNextPlus = new int[tMaxOut + 1];
+		int[] tNextMinus = new int[tMaxOut + 1];
+		int tAt = 0;
+		int tGroup = 0;
+		for (int out = 0; out <= tMaxOut; out++) {
+			if (tPlus[out] + tMinus[out] == 0)
+				continue;
+			outs[tGroup] = out;
+			starts[tGroup] = tAt;
+			minusStarts[tGroup] = tAt + tPlus[out];
+			tNextPlus[out] = tAt;
+			tNextMinus[out] = tAt + tPlus[out];
+			tAt += tPlus[out] + tMinus[out];
+			tGroup++;
+		}
+		starts[tDistinct] = tAt;
+
+		lefts = new int[tOuts.length];
+		rights = new int[tOuts.length];
+		int[] tLefts = pPattern.getLefts();
+		int[] tRights = pPattern.getRights();
+		for (int k = 0; k < tOuts.length; k++) {
+			int tSlot = (tSigns[k] > 0) ? tNextPlus[tOuts[k]]++ : tNextMinus[tOuts[k]]++;
+			lefts[tSlot] = tLefts[k];
+			rights[tSlot] = tRights[k];
+		}
+	}
+
+	/**
+	 * Simple gettor for the number of distinct output blades.
+	 * <p>
+	 * @return int number of blades the kernel writes
+	 */
+	public int outputCount() {
+		return outs.length;
+	}
+
+	/**
+	 * Simple gettor for the number of pairs.
+	 * <p>
+	 * @return int number of products the kernel forms
+	 */
+	public int size() {
+		return lefts.length;
+	}
+
+	/**
+	 * Gettor for the left indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of left blades in kernel order
+	 */
+	protected int[] getLefts() {
+		return lefts;
+	}
+
+	/**
+	 * Gettor for the starts of the subtracting pairs. The array is NOT copied, so
+	 * don't change it.
+	 * <p>
+	 * @return int[] one position per output
+	 */
+	protected int[] getMinusStarts() {
+		return minusStarts;
+	}
+
+	/**
+	 * Gettor for the output indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of output blades
+	 */
+	protected int[] getOuts() {
+		return outs;
+	}
+
+	/**
+	 * Gettor for the right indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of right blades in kernel order
+	 */
+	protected int[] getRights() {
+		return rights;
+	}
+
+	/**
+	 * Gettor for the starts of each output's pairs. The array is NOT copied, so
+	 * don't change it.
+	 * <p>
+	 * @return int[] one position per output plus the end of the last
+	 */
+	protected int[] getStarts() {
+		return starts;
+	}
+}
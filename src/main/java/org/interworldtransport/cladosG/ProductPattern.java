@@ -0,0 +1,284 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.ProductPattern<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.ProductPattern<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the sparsity pattern of a geometric product between two
+ * operands whose grades are known in advance. It is a flat list of every pair
+ * of blades that survives the product. Each entry names the index of the left
+ * blade, the index of the right blade, the index of the blade they produce, and
+ * the sign of that product.
+ * <p>
+ * Which pairs matter depends only on the product and the grades present in
+ * each operand. A vector times a vector touches the same cells of the product
+ * every time no matter what the weights are. Building the list once lets later
+ * products skip basis lookups, zero tests and table reads and run as a tight
+ * loop over four primitive arrays.
+ * <p>
+ * Pairs that vanish on a degenerate generator are dropped while the list is
+ * built. Pairs whose weights happen to be zero are NOT dropped since the
+ * pattern knows nothing of weights.
+ * <p>
+ * A pattern may also keep only the pairs that commute or only those that
+ * anticommute. Half the sum of the two orders of a product keeps the first
+ * kind and half the difference keeps the second, so symmetric and
+ * antisymmetric products walk a filtered pattern once instead of forming both
+ * products.
+ * <p>
+ * Indices are 0-based positions in the basis. Left and right refer to the
+ * order of the factors in the product, so left is the row of the product table
+ * and right is the column.
+ * <p>
+ * Patterns are immutable. They are kept in GCache, so get them from there
+ * instead of building them directly.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class ProductPattern {
+
+	/**
+	 * Count the blade pairs a pattern would cover before building it. Only grades
+	 * present in the masks are counted.
+	 * <p>
+	 * @param pB         CanonicalBasis shared by both operands
+	 * @param pLeftMask  int bitmask of grades present in the left operand
+	 * @param pRightMask int bitmask of grades present in the right operand
+	 * @return long number of blade pairs including those that will be dropped as
+	 *         degenerate
+	 */
+	public final static long pairCount(CanonicalBasis pB, int pLeftMask, int pRightMask) {
+		return (long) bladeCount(pB, pLeftMask) * bladeCount(pB, pRightMask);
+	}
+
+	/**
+	 * Count the blades in the grades named by a mask.
+	 * <p>
+	 * @param pB    CanonicalBasis to be counted
+	 * @param pMask int bitmask of grades
+	 * @return int number of blades in those grades
+	 */
+	private final static int bladeCount(CanonicalBasis pB, int pMask) {
+		int tCount = 0;
+		for (byte grade = 0; grade < pB.getGradeCount(); grade++)
+			if ((pMask >>> grade & 1) == 1)
+				tCount += pB.getGradeEnd(grade) - pB.getGradeStart(grade);
+		return tCount;
+	}
+
+	/**
+	 * This is +1 when only commuting pairs are kept, -1 when only anticommuting
+	 * pairs are kept and 0 when all pairs are kept.
+	 */
+	private final int commute;
+
+	/**
+	 * The same pairs grouped by output and sign. Built on first use.
+	 */
+	private volatile ProductKernel kernel;
+
+	/**
+	 * Basis indices of the left blade of each surviving pair.
+	 */
+	private final int[] lefts;
+
+	/**
+	 * This is the bitmask of grades the left operand may hold.
+	 */
+	private final int leftMask;
+
+	/**
+	 * Basis indices of the blade each surviving pair produces.
+	 */
+	private final int[] outs;
+
+	/**
+	 * Basis indices of the right blade of each surviving pair.
+	 */
+	private final int[] rights;
+
+	/**
+	 * This is the bitmask of grades the right operand may hold.
+	 */
+	private final int rightMask;
+
+	/**
+	 * Signs of the products of each surviving pair. Always +1 or -1.
+	 */
+	private final byte[] signs;
+
+	/**
+	 * Build the pattern by walking the blades of every grade named in both masks.
+	 * <p>
+	 * @param pProd      CliffordProduct supplying results
+	 * @param pLeftMask  int bitmask of grades present in the left operand
+	 * @param pRightMask int bitmask of grades present in the right operand
+	 */
+	protected ProductPattern(CliffordProduct pProd, int pLeftMask, int pRightMask) {
+		this(pProd, pLeftMask, pRightMask, 0);
+	}
+
+	/**
+	 * Build the pattern by walking the blades of every grade named in both masks
+	 * and keep only pairs with the commutation asked for.
+	 * <p>
+	 * @param pProd      CliffordProduct supplying results
+	 * @param pLeftMask  int bitmask of grades present in the left operand
+	 * @param pRightMask int bitmask of grades present in the right operand
+	 * @param pCommute   int +1 for commuting pairs, -1 for anticommuting pairs
+	 *                   and 0 for all pairs
+	 */
+	protected ProductPattern(CliffordProduct pProd, int pLeftMask, int pRightMask, int pCommute) {
+		CanonicalBasis tB = pProd.getBasis();
+		int tMax = (int) pairCount(tB, pLeftMask, pRightMask);
+		int[] tLefts = new int[tMax];
+		int[] tRights = new int[tMax];
+		int[] tOuts = new int[tMax];
+		byte[] tSigns = new byte[tMax];
+		int tSize = 0;
+		for (byte lGrade = 0; lGrade < tB.getGradeCount(); lGrade++) {
+			if ((pLeftMask >>> lGrade & 1) == 0)
+				continue;
+			for (int row = tB.getGradeStart(lGrade); row < tB.getGradeEnd(lGrade); row++)
+				for (byte rGrade = 0; rGrade < tB.getGradeCount(); rGrade++) {
+					if ((pRightMask >>> rGrade & 1) == 0)
+						continue;
+					for (int col = tB.getGradeStart(rGrade); col < tB.getGradeEnd(rGrade); col++) {
+						int tResult = pProd.getResult(row, col);
+						if (tResult == 0)
+							continue; // Degenerate pairs contribute nothing
+						if (pCommute != 0
+								&& BladeDuet.commutes(tB.getBitKey(row), tB.getBitKey(col)) != (pCommute > 0))
+							continue; // Filtered out by commutation
+						tLefts[tSize] = row;
+						tRights[tSize] = col;
+						tOuts[tSize] = Math.abs(tResult) - 1;
+						tSigns[tSize] = (byte) Integer.signum(tResult);
+						tSize++;
+					}
+				}
+		}
+		lefts = (tSize == tMax) ? tLefts : Arrays.copyOf(tLefts, tSize);
+		rights = (tSize == tMax) ? tRights : Arrays.copyOf(tRights, tSize);
+		outs = (tSize == tMax) ? tOuts : Arrays.copyOf(tOuts, tSize);
+		signs = (tSize == tMax) ? tSigns : Arrays.copyOf(tSigns, tSize);
+		leftMask = pLeftMask;
+		rightMask = pRightMask;
+		commute = pCommute;
+	}
+
+	/**
+	 * Simple gettor for the commutation filter.
+	 * <p>
+	 * @return int +1 for commuting pairs only, -1 for anticommuting pairs only and
+	 *         0 for all pairs
+	 */
+	public int getCommute() {
+		return commute;
+	}
+
+	/**
+	 * Gettor for the kernel of this pattern. It is built the first time it is
+	 * asked for and kept with the pattern after that, so a pattern from GCache
+	 * hands every caller the same kernel.
+	 * <p>
+	 * @return ProductKernel holding these pairs grouped by output and sign
+	 */
+	public ProductKernel getKernel() {
+		ProductKernel tKernel = kernel;
+		if (tKernel == null)
+			synchronized (this) {
+				if (kernel == null)
+					kernel = new ProductKernel(this);
+				tKernel = kernel;
+			}
+		return tKernel;
+	}
+
+	/**
+	 * Simple gettor for the grade mask of the left operand.
+	 * <p>
+	 * @return int bitmask of grades
+	 */
+	public int getLeftMask() {
+		return leftMask;
+	}
+
+	/**
+	 * Simple gettor for the grade mask of the right operand.
+	 * <p>
+	 * @return int bitmask of grades
+	 */
+	public int getRightMask() {
+		return rightMask;
+	}
+
+	/**
+	 * Simple gettor for the number of surviving pairs.
+	 * <p>
+	 * @return int number of entries in the pattern
+	 */
+	public int size() {
+		return outs.length;
+	}
+
+	/**
+	 * Gettor for the left indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of left blades
+	 */
+	protected int[] getLefts() {
+		return lefts;
+	}
+
+	/**
+	 * Gettor for the output indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of product blades
+	 */
+	protected int[] getOuts() {
+		return outs;
+	}
+
+	/**
+	 * Gettor for the right indices. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return int[] basis indices of right blades
+	 */
+	protected int[] getRights() {
+		return rights;
+	}
+
+	/**
+	 * Gettor for the signs. The array is NOT copied, so don't change it.
+	 * <p>
+	 * @return byte[] signs of each product
+	 */
+	protected byte[] getSigns() {
+		return signs;
+	}
+}
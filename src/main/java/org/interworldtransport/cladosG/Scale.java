@@ -24,9 +24,10 @@
  */
 package org.interworldtransport.cladosG;
 
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.interworldtransport.cladosF.Cardinal;
@@ -39,7 +40,6 @@ import org.interworldtransport.cladosF.RealF;
 import org.interworldtransport.cladosF.RealD;
 import org.interworldtransport.cladosF.ComplexF;
 import org.interworldtransport.cladosF.ComplexD;
-import org.interworldtransport.cladosFExceptions.FieldBinaryException;
 import org.interworldtransport.cladosFExceptions.FieldException;
 
 /**
@@ -56,45 +56,39 @@ import org.interworldtransport.cladosFExceptions.FieldException;
  * be handled much by developers of physical models.
  * <p>
  * The data structure used to represent 'coefficients' used to be a fixed array
- * that had the same length as the number of blades in a monad's basis. That has
- * been modernized to an IdentityHashMap contained within this class. The basis
- * against which the map is applicable can be referenced by another private
- * element, but shouldn't be manipulated once set. The private element is
- * finalized.
+ * of CladosF numbers that had the same length as the number of blades in a
+ * monad's basis. After that it was an IdentityHashMap from blades to numbers.
+ * Now the numeric values live in ONE contiguous array of primitives indexed by
+ * the position of a blade in the basis. Float modes use a float[] and double
+ * modes use a double[]. Complex modes interleave the parts, so the real part
+ * of the weight at index k is found at 2k and the imaginary part at 2k+1.
  * <p>
- * An IdentityHashMap was used instead of a simpler HashMap in order to get
- * reference equality between map keys instead of object equality. Map Keys are
- * Blades from the basis, so reference equality is the correct expectation when
- * comparing keys. Typical use of keys from the map occurs with streams that
- * effectively iterate through the blades for access to coefficients in the
- * encompassing vector space. The information within a blade is far less
- * important than which blade it is, thus reference equality is what is needed.
+ * The Cardinal is kept once for the whole Scale instead of once per number.
+ * That is the unit every weight shares, so there is no point in repeating it.
  * <p>
- * Map Values are CladosF numbers like RealF or ComplexD. Because they are
- * objects instead of primitives, they behave much like Java's boxed primitives.
- * In fact, they would BE those boxed primitives if not for the need to track
- * units in physical models. For example, one meter is not one second. No
- * equality test should pass.
+ * The map-like API survives. get(Blade) and the other gettors hand out CladosF
+ * numbers that are VIEWS of the array. A view is an ordinary RealF, RealD,
+ * ComplexF or ComplexD that reads and writes its values in this Scale's array
+ * instead of its own. Mutating a view mutates the weight. That is the same
+ * behavior callers relied upon when the map held the numbers themselves.
+ * Views are created on demand and are cheap, but they are NOT the same object
+ * from one call to the next. Compare them by value.
  * <p>
- * Because values are objects, care must be taken once one has a reference to
- * them. Any reference to one enables a developer to change it without the Scale
- * or Monad knowing. This is the hydra monster named Mutability. It IS a danger
- * here. Many of Scale's methods copy inbound numbers to avoid altering them,
- * but some do not INTENTIONALLY.
+ * Because views are mutable, care must be taken once one has a reference to
+ * them. Any reference to one enables a developer to change a weight without the
+ * Scale or Monad knowing. This is the hydra monster named Mutability. It IS a
+ * danger here.
  * <p>
- * 1. Coefficient settors that accept arrays do NOT copy values before placing
- * them in the internal map. BEWARE BEWARE BEWARE
+ * 1. Coefficient settors that accept arrays copy values into the internal
+ * array. The offered numbers are NOT connected to this Scale afterward.
  * <p>
- * 2. Put() does not copy the incoming value before placing it in the internal
- * map. Again... BEWARE.
+ * 2. Put() copies the values of the incoming number too.
  * <p>
- * 3. Coefficient settors that accept maps DO COPY values before placing them in
- * the internal map. Any object from which values are taken to be used here are
- * safe from the hydra.
+ * 3. Coefficient settors that accept maps copy values as well.
  * <p>
- * 4. All gettors for coefficients provide direct references to values in the
- * map. There most common use is INTENTIONAL MUTABILITY, so... BEWARE THE HYDRA.
- * The safest way to use them is within streams / lambdas.
+ * 4. All gettors for coefficients provide views of the internal array. Their
+ * most common use is INTENTIONAL MUTABILITY, so... BEWARE THE HYDRA. The safest
+ * way to use them is within streams / lambdas.
  * <p>
  * GENERAL NOTE | Many of the methods for Scale will look a lot like Monad, so
  * one can reasonably wonder why all the extra stuff in Monad when Scale looks
@@ -106,7 +100,7 @@ import org.interworldtransport.cladosFExceptions.FieldException;
  * into an 'algebra' gives a MUCH better description of a 'tuple' reference
  * frame than a vector space.
  * <p>
- * 
+ *
  * @version 2.0
  * @author Dr Alfred W Differ
  * @param <D> CladosF number like RealF, RealD, ComplexF, ComplexD. They must be
@@ -114,69 +108,109 @@ import org.interworldtransport.cladosFExceptions.FieldException;
  */
 public final class Scale<D extends UnitAbstract & Field & Normalizable> implements Unitized, Modal {
 	/**
-	 * When entries appear in the internal map, they should all share the same
-	 * cardinal. That cardinal is referenced here where it gives meaning to the weights
-	 * in this scale. This is WHY Scale implments Unitized.
+	 * All weights in this scale share one cardinal. That cardinal is referenced
+	 * here where it gives meaning to the weights in this scale. This is WHY Scale
+	 * implments Unitized.
 	 */
 	private Cardinal card;
 
 	/**
-	 * This basis is the reference against which these scaling weights make sense. 
-	 * For example, a list of 16 real floats is just a tuple. When coupled to a basis, 
-	 * they become weights for a sum of geometry composing a multivector.
+	 * This array holds the weights when the mode is REALD or COMPLEXD. It is null
+	 * otherwise. Complex weights are interleaved real then imaginary.
+	 */
+	private double[] dWeights;
+
+	/**
+	 * This array holds the weights when the mode is REALF or COMPLEXF. It is null
+	 * otherwise. Complex weights are interleaved real then imaginary.
+	 */
+	private float[] fWeights;
+
+	/**
+	 * This is a bitmask of the grades holding at least one non-zero weight. Bit k
+	 * is set when grade k is present. It is kept in step with gradeCounts.
+	 */
+	private int gradeMask;
+
+	/**
+	 * This array holds the number of non-zero weights in each grade. The methods
+	 * that write weights keep it current as they go, so nobody has to rescan the
+	 * weights to learn which grades are present.
 	 * <p>
-	 * Once set, the applicable basis should not change. Scales make sense
-	 * RELATIVE to a basis. Never on their own.
+	 * Writing through a view or in bulk through a product kernel can't keep it
+	 * current cheaply, so those writes mark this Scale stale instead. The counts
+	 * and mask are rebuilt the next time anyone asks for them.
 	 */
-	private final CanonicalBasis gBasis;
+	private final int[] gradeCounts;
 
 	/**
-	 * This hash map is that actual list of weights mapped by their applicable blade.
-	 * In use, one calls the Scale's get(Blade) to get a generic that happens to be 
-	 * a CladosF.UnitAbstract child. One can also call a number of specialized 
-	 * gettors to get weights for well named blades.
+	 * This is true when every weight is known to be finite. It is rebuilt along
+	 * with the grade counts and kept by the methods that write weights one at a
+	 * time. When it is false, isFinite() scans the weights to find out.
+	 */
+	private boolean finite = true;
+
+	/**
+	 * This is set when weights were written in bulk or through a view since the
+	 * grade counts were last rebuilt. The finite flag can't be trusted then
+	 * either.
+	 */
+	private boolean stale;
+
+	/**
+	 * Views hand this to the numbers they build so writes through them mark this
+	 * Scale stale.
+	 */
+	private final Runnable staleMarker = () -> stale = true;
+
+	/**
+	 * This basis is the reference against which these scaling weights make sense.
+	 * For example, a list of 16 real floats is just a tuple. When coupled to a basis,
+	 * they become weights for a sum of geometry composing a multivector.
 	 * <p>
-	 * This feature used to be a simple array of particular children of UnitAbstract,
-	 * but that made for several different, but mostly related implementations of Scale
-	 * or of burying Scale in Monad and maintaining several mostly related versions 
-	 * of those. Using a map like this reduces the family of objects in CladosG at
-	 * the cost of swapping data structures from an array to a hash map.
+	 * Once set, the applicable basis should not change. Scales make sense
+	 * RELATIVE to a basis. Never on their own.
 	 */
-	private IdentityHashMap<Blade, D> map;
+	private final CanonicalBasis gBasis;
 
 	/**
 	 * This is the type of UnitAbstract that should be present in the list held by
 	 * this class. For example, if mode = CladosField.REALF, then all elements in
-	 * the list will be the RealF child of UnitAbstract. 
+	 * the list will be the RealF child of UnitAbstract.
 	 * <p>
-	 * Mode ensures the scale elements all have the same precision and come from the same 
+	 * Mode ensures the scale elements all have the same precision and come from the same
 	 * numeric field. It is also WHY Scale implements Modal.
 	 */
 	private CladosField mode;
 
 	/**
-	 * This is the constructor to use when one does not have the actual map ready,
-	 * but will provide it later.
+	 * This is the constructor to use when one does not have the actual weights
+	 * ready, but will provide them later. All weights start at zero.
 	 * <p>
 	 * @param pMode CladosField enumeration so we know what kind of UnitAbstract to
 	 *              expect from get()
-	 * @param pB    Basis to which the blades used in the internal map belong.
+	 * @param pB    Basis to which the blades used as keys belong.
 	 * @param pCard Incoming Cardinal to reference here.
 	 */
 	public Scale(CladosField pMode, CanonicalBasis pB, Cardinal pCard) {
-		map = new IdentityHashMap<>(pB.getBladeCount());
 		mode = pMode;
 		gBasis = pB;
 		card = pCard;
-		zeroAll();
+		gradeCounts = new int[pB.getGradeCount()];
+		switch (mode) {
+			case REALF -> fWeights = new float[pB.getBladeCount()];
+			case REALD -> dWeights = new double[pB.getBladeCount()];
+			case COMPLEXF -> fWeights = new float[2 * pB.getBladeCount()];
+			case COMPLEXD -> dWeights = new double[2 * pB.getBladeCount()];
+		}
 	}
 
 	/**
 	 * This is the constructor to use when one already has a map built and a
 	 * reference to the basis on which the map relies for keys.
 	 * <p>
-	 * This is NOT a copy constructor. Use it when you fully intend for the offered map
-	 * to directly provide the weights in this Scale.
+	 * The values in the offered map are copied into this Scale. The cardinal is
+	 * taken from the number mapped to the scalar blade.
 	 * <p>
 	 * @param pMode  CladosField enumeration so we know what kind of UnitAbstract to
 	 *               expect from get()
@@ -184,34 +218,68 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * @param pInMap This is a Map to copy. Probably a view of another Scale object.
 	 */
 	public Scale(CladosField pMode, CanonicalBasis pB, Map<Blade, D> pInMap) {
-		map = new IdentityHashMap<>(pInMap.size());
-		mode = pMode;
-		gBasis = pB;
-		map.putAll(pInMap);
-		card = map.get(gBasis.getScalarBlade()).getCardinal(); // gets scalar part cardinal
+		this(pMode, pB, pInMap.get(pB.getScalarBlade()).getCardinal()); // gets scalar part cardinal
 		assert (pInMap.keySet().size() == pB.getBladeCount());
+		pInMap.forEach((blade, weight) -> put(blade, weight));
 	}
 
 	/**
-	 * Straight forward copy constructor. Copies values ONLY. Re-uses keys.
+	 * Straight forward copy constructor. Copies values ONLY. Re-uses the basis
+	 * and cardinal.
 	 * <p>
 	 * @param pIn Scale to be imitated.
 	 */
 	public Scale(Scale<D> pIn) {
-		this(pIn.getMode(), pIn.gBasis, pIn.getCardinal());
-		gBasis.bladeStream().forEach(blade -> {
-			map.put(blade, FBuilder.copyOf(pIn.get(blade)));
-		});
+		mode = pIn.getMode();
+		gBasis = pIn.gBasis;
+		card = pIn.getCardinal();
+		fWeights = (pIn.fWeights == null) ? null : pIn.fWeights.clone();
+		dWeights = (pIn.dWeights == null) ? null : pIn.dWeights.clone();
+		gradeMask = pIn.getGradeMask(); // Rebuilds the counts first if they are stale
+		gradeCounts = pIn.gradeCounts.clone();
+		finite = pIn.finite;
+	}
+
+	/**
+	 * This method imitates Clifford conjugation, the composition of reversion and
+	 * the main involution. Blades of grades 1 and 2 modulo 4 change sign, so
+	 * their weights are negated in one pass over the basis sign vector. No
+	 * typeMismatch can occur.
+	 * <p>
+	 * @return Scale object. Just this object after modification.
+	 */
+	public Scale<D> cliffordConjugate() {
+		multiplySigns(gBasis.getConjugateSigns(), false);
+		return this;
 	}
 
 	/**
-	 * This method conjugates all the values in the internal map, but leaves the
-	 * blades of the algebra untouched.
+	 * This method conjugates all the weights, but leaves the blades of the
+	 * algebra untouched. Only the imaginary parts of complex weights change. They
+	 * are negated in lanes when VectorKernel is enabled.
 	 * <p>
 	 * @return Scale object. Just this object after modification.
 	 */
 	public Scale<D> conjugate() {
-		this.weightsParallelStream().forEach(w -> w.conjugate());
+		if (VectorKernel.isEnabled() && stride() == 2) {
+			if (fWeights != null)
+				VectorLanes.conjugate(fWeights);
+			else
+				VectorLanes.conjugate(dWeights);
+			return this;
+		}
+		switch (mode) {
+			case COMPLEXF -> {
+				for (int k = 1; k < fWeights.length; k += 2)
+					fWeights[k] = -fWeights[k];
+			}
+			case COMPLEXD -> {
+				for (int k = 1; k < dWeights.length; k += 2)
+					dWeights[k] = -dWeights[k];
+			}
+			default -> {
+			}
+		}
 		return this;
 	}
 
@@ -220,11 +288,16 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * value in return. In this particular case, keys are blades from the basis and
 	 * values are weights of those blades.
 	 * <p>
-	 * @param pB Blade to use as key in internal map
-	 * @return A UnitAbstract child related to this blade
+	 * The value is a view of the internal array. Changes made to it change this
+	 * Scale.
+	 * <p>
+	 * @param pB Blade to use as key
+	 * @return A UnitAbstract child related to this blade or null if the blade
+	 *         isn't in the basis.
 	 */
 	public D get(Blade pB) {
-		return map.get(pB);
+		int tIndex = indexOf(pB);
+		return (tIndex < 0) ? null : viewAt(tIndex);
 	}
 
 	/**
@@ -237,36 +310,60 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 		return card;
 	}
 
+	/**
+	 * Simple gettor method for the bitmask of grades holding non-zero weights.
+	 * Bit k is set when grade k is present. A ZERO scale reports no grades at all.
+	 * <p>
+	 * @return int bitmask of grades present
+	 */
+	public int getGradeMask() {
+		if (stale)
+			recount();
+		return gradeMask;
+	}
+
+	/**
+	 * Simple gettor method for the number of non-zero weights in one grade.
+	 * <p>
+	 * @param pGrade byte grade to be checked
+	 * @return int count of non-zero weights in that grade. Zero if the grade is
+	 *         not in the basis.
+	 */
+	public int getNonZeroCount(byte pGrade) {
+		if (stale)
+			recount();
+		return gBasis.validateGradeIndex(pGrade) ? gradeCounts[pGrade] : 0;
+	}
+
 	/**
 	 * This method imitates one from V1.0 and should be rarely used. For old code
-	 * needing to handle coefficients directly, this is how to get at them. The
-	 * smarter approach, though, is to call the parent class method values() and
-	 * receive a Collection of coefficients instead of an array. Do it that way and
-	 * they are already of a known UnitAbstract child class.
+	 * needing to handle coefficients directly, this is how to get at them. They
+	 * are returned in basis order and every one of them is a view of the internal
+	 * array.
 	 * <p>
-	 * Since the internal map can accept any of the CladosF numbers as values, there
+	 * Since the internal array can hold any of the CladosF numbers as values, there
 	 * is a cast to a 'generic' type within this method. This would normally cause
 	 * warnings by the compiler since the generic named in the internal map IS a
 	 * UnitAbstract child AND casting an unchecked type could fail at runtime.
 	 * <p>
-	 * That won't happen here when CladosF builders are used. They can't build
-	 * anything that is NOT a UnitAbstract child. They can't even build a
-	 * UnitAbstract instance directly. Therefore, only children can arrive as the
-	 * value parameter of the 'put' function. Thus, there is no danger of a failed
-	 * cast operation... until someone creates a new UnitAbstract child class and
-	 * fails to update all builders.
+	 * That won't happen here because views are built by this class to match the
+	 * mode.
 	 * <p>
 	 * @return an array of UnitAbstract children.
 	 */
 	@SuppressWarnings("unchecked")
 	public D[] getWeights() {
+		D[] tR;
 		switch (mode) {
-			case REALF : return (D[]) map.values().toArray(RealF[]::new);
-			case REALD : return (D[]) map.values().toArray(RealD[]::new);
-			case COMPLEXF : return (D[]) map.values().toArray(ComplexF[]::new);
-			case COMPLEXD : return (D[]) map.values().toArray(ComplexD[]::new);
+			case REALF : tR = (D[]) new RealF[gBasis.getBladeCount()]; break;
+			case REALD : tR = (D[]) new RealD[gBasis.getBladeCount()]; break;
+			case COMPLEXF : tR = (D[]) new ComplexF[gBasis.getBladeCount()]; break;
+			case COMPLEXD : tR = (D[]) new ComplexD[gBasis.getBladeCount()]; break;
 			default : return null;
 		}
+		for (int k = 0; k < tR.length; k++)
+			tR[k] = viewAt(k);
+		return tR;
 	}
 
 	/**
@@ -284,69 +381,33 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * This method imitates the 'get()' method in a map, but specializes in the
 	 * pscalar blade key.
 	 * <p>
-	 * Since the internal map can accept any of the CladosF numbers as values, there
-	 * is a cast to a 'generic' type within this method. This would normally cause
-	 * warnings by the compiler since the generic named in the internal map IS a
-	 * UnitAbstract child AND casting an unchecked type could fail at runtime.
-	 * <p>
-	 * That won't happen here when CladosF builders are used. They can't build
-	 * anything that is NOT a UnitAbstract child. They can't even build a
-	 * UnitAbstract instance directly. Therefore, only children can arrive as the
-	 * value parameter of the 'put' function. Thus, there is no danger of a failed
-	 * cast operation... until someone creates a new UnitAbstract child class and
-	 * fails to update all builders.
-	 * <p>
 	 * @return A UnitAbstract child related to the pscalar blade
 	 */
 	public D getPScalar() {
-		return map.get(gBasis.getPScalarBlade());
+		return viewAt(gBasis.getBladeCount() - 1);
 	}
 
 	/**
 	 * This method imitates the 'get()' method in a map, but specializes in the
 	 * scalar blade key.
 	 * <p>
-	 * Since the internal map can accept any of the CladosF numbers as values, there
-	 * is a cast to a 'generic' type within this method. This would normally cause
-	 * warnings by the compiler since the generic named in the internal map IS a
-	 * UnitAbstract child AND casting an unchecked type could fail at runtime.
-	 * <p>
-	 * That won't happen here when CladosF builders are used. They can't build
-	 * anything that is NOT a UnitAbstract child. They can't even build a
-	 * UnitAbstract instance directly. Therefore, only children can arrive as the
-	 * value parameter of the 'put' function. Thus, there is no danger of a failed
-	 * cast operation... until someone creates a new UnitAbstract child class and
-	 * fails to update all builders.
-	 * <p>
 	 * @return A UnitAbstract child related to the scalar blade
 	 */
 	public D getScalar() {
-		return map.get(gBasis.getScalarBlade());
+		return viewAt(0);
 	}
 
 	/**
 	 * This method imitations the main involution. All generators in each blade flip sign, so the
-	 * implications for the values in the internal map are worked out. No typeMismatch can occur. 
+	 * implications for the weights are worked out. No typeMismatch can occur.
 	 * <p>
-	 * This is what we called a parity inversion where generator.# goes to -1.0 * generator.#, 
+	 * This is what we called a parity inversion where generator.# goes to -1.0 * generator.#,
 	 * but that's not a good name for it going forward.
 	 * <p>
 	 * @return Scale object. Just this object after modification.
 	 */
 	public Scale<D> mainInvolution() {
-		gBasis.gradeStream().filter(j -> (Integer.lowestOneBit(j) == 1)).parallel().forEach(grade -> {
-			gBasis.bladeOfGradeStream((byte) grade).forEach(blade -> {
-				switch (mode) {
-				case REALF:
-				case COMPLEXF:
-					(map.get(blade)).scale(CladosConstant.MINUS_ONE_F);
-					break;
-				case REALD:
-				case COMPLEXD:
-					(map.get(blade)).scale(CladosConstant.MINUS_ONE_D);
-				}
-			});
-		});
+		multiplySigns(gBasis.getInvolutionSigns(), false);
 		return this;
 	}
 
@@ -362,16 +423,11 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * <p>
 	 * @param pB Blade to use as key to discover if related value is non-zero.
 	 * @return boolean False if the related value evaluates as ZERO in whatever
-	 *         number style it is.
+	 *         number style it is or if the blade isn't in the basis.
 	 */
 	public boolean isNotZeroAt(Blade pB) {
-		switch (mode) {
-			case COMPLEXD :	return !ComplexD.isZero((ComplexD) map.get(pB));
-			case COMPLEXF : return !ComplexF.isZero((ComplexF) map.get(pB));
-			case REALD : return !RealD.isZero((RealD) map.get(pB));
-			case REALF : return !RealF.isZero((RealF) map.get(pB));
-			default : return true;
-		}
+		int tIndex = indexOf(pB);
+		return (tIndex < 0) ? false : !isZeroAt(tIndex);
 	}
 
 	/**
@@ -383,13 +439,7 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 *         number style it is.
 	 */
 	public boolean isPScalarZero() {
-		switch (mode) {
-			case COMPLEXD : return ComplexD.isZero((ComplexD) getPScalar());
-			case COMPLEXF :	return ComplexF.isZero((ComplexF) getPScalar());
-			case REALD : return RealD.isZero((RealD) getPScalar());
-			case REALF : return RealF.isZero((RealF) getPScalar());
-			default : return false;
-		}
+		return isZeroAt(gBasis.getBladeCount() - 1);
 	}
 
 	/**
@@ -401,89 +451,35 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 *         style it is.
 	 */
 	public boolean isScalarZero() {
-		switch (mode) {
-			case COMPLEXD : return ComplexD.isZero((ComplexD) getScalar());
-			case COMPLEXF : return ComplexF.isZero((ComplexF) getScalar());
-			case REALD : return RealD.isZero((RealD) getScalar());
-			case REALF : return RealF.isZero((RealF) getScalar());
-			default : return false;
-		}
+		return isZeroAt(0);
 	}
 
 	/**
-	 * This method takes all values in the map and returns one UnitAbstract child
-	 * that has a real value that is equal to the square root of the sum of the
-	 * SQModulus of each value.
+	 * This method takes all weights and returns one UnitAbstract child that has a
+	 * real value equal to the sum of the SQModulus of each weight. The sum is
+	 * accumulated at the precision of the mode.
 	 * <p>
 	 * NOTE about suppressed type cast warnings | This method switches through the
-	 * possible classes known as descendents of UnitAbstract. If the object to be
-	 * copied is one of them, the method uses a constructor appropriate to it, but
-	 * then casts the result back to the generic T before returning it.
-	 * <p>
-	 * There is no danger to this with respect to the implementation of this method.
-	 * The danger comes from mis-use of the method. If one passes a different kind
-	 * of object that passes as a descendent of UnitAbstract implementing Field and
-	 * Normalizable, this method might not detect it and return null. The type
-	 * casting operation itself cannot fail, but unrecognized child classes do NOT
-	 * get copied.
-	 * <p>
-	 * This can happen if one extends UnitAbstract creating a new CladosF number.
-	 * This method will not be aware of the new class until its implementation is
-	 * updated.
-	 * <p>
-	 * Because these are real numbers, though, we get away with simply summing the
-	 * moduli instead. It does not perform a cardinal safety check and will throw
-	 * the exception if that test fails.
+	 * possible classes known as descendents of UnitAbstract. The result is built
+	 * with a builder appropriate to the mode, but then cast back to the generic D
+	 * before returning it.
 	 * <p>
 	 * @return D UnitAbstract child that implements all the number interfaces too.
 	 */
 	@SuppressWarnings("unchecked")
 	public D modulusSQSum() {
-		D tR;
 		switch (mode) {
-			case REALF -> {
-				tR = FBuilder.REALF.createZERO(this.getCardinal());
-				weightsStream().forEach(div -> {
-					try {
-						tR.add(RealF.newONE(this.getCardinal()).scale(div.sqModulus()));
-					} catch (FieldBinaryException e) {
-						throw new IllegalArgumentException("Cardinal mismatch when forming modulus sum.");
-					}
-				});
-				return tR;
-			}
-			case REALD -> {
-				tR = FBuilder.REALD.createZERO(this.getCardinal());
-				weightsStream().forEach(div -> {
-					try {
-						tR.add(RealD.newONE(this.getCardinal()).scale(div.sqModulus()));
-					} catch (FieldBinaryException e) {
-						throw new IllegalArgumentException("Cardinal mismatch when forming modulus sum.");
-					}
-				});
-				return tR;
-			}
-			case COMPLEXF -> {
-				tR = FBuilder.COMPLEXF.createZERO(this.getCardinal());
-				weightsStream().forEach(div -> {
-					try {
-						tR.add(ComplexF.newONE(this.getCardinal()).scale(div.sqModulus()));
-					} catch (FieldBinaryException e) {
-						throw new IllegalArgumentException("Cardinal mismatch when forming modulus sum.");
-					}
-				});
-				return tR;
+			case REALF, COMPLEXF -> {
+				float tSum = 0.0f;
+				for (float w : fWeights)
+					tSum += w * w;
+				return (D) FBuilder.createONE(mode, card).scale(tSum);
 			}
-			case COMPLEXD -> {
-				tR = FBuilder.COMPLEXD.createZERO(this.getCardinal());
-				weightsStream().forEach(div -> {
-					try {
-						tR.add(ComplexD.newONE(this.getCardinal()).scale(div.sqModulus()));
-					} catch (FieldBinaryException e) {
-						throw new IllegalArgumentException("Cardinal mismatch when forming modulus sum.");
-					}
-				});
-				return tR;
+			case REALD, COMPLEXD -> {
+				double tSum = 0.0d;
+				for (double w : dWeights)
+					tSum += w * w;
+				return (D) FBuilder.createONE(mode, card).scale(tSum);
 			}
 			default -> {
 				return (D) new UnitAbstract(this.getCardinal());
@@ -492,79 +488,43 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	}
 
 	/**
-	 * This method takes all values in the map and returns one UnitAbstract child
-	 * that has a real value that is equal to the square root of the sum of the
-	 * SQModulus of each value.
-	 * <p>
-	 * Because these are real numbers, though, we get away with simply summing the
-	 * moduli instead. It does not perform a cardinal safety check and will throw
-	 * the exception if that test fails.
+	 * This method takes all weights and returns one UnitAbstract child that has a
+	 * real value equal to the sum of the modulus of each weight. The sum is
+	 * accumulated at the precision of the mode.
 	 * <p>
 	 * NOTE about suppressed type cast warnings | This method switches through the
-	 * possible classes known as descendents of UnitAbstract. If the object to be
-	 * copied is one of them, the method uses a constructor appropriate to it, but
-	 * then casts the result back to the generic T before returning it.
-	 * <p>
-	 * There is no danger to this with respect to the implementation of this method.
-	 * The danger comes from mis-use of the method. If one passes a different kind
-	 * of object that passes as a descendent of UnitAbstract implementing Field and
-	 * Normalizable, this method might not detect it and return null. The type
-	 * casting operation itself cannot fail, but unrecognized child classes do NOT
-	 * get copied.
-	 * <p>
-	 * This can happen if one extends UnitAbstract creating a new CladosF number.
-	 * This method will not be aware of the new class until its implementation is
-	 * updated.
+	 * possible classes known as descendents of UnitAbstract. The result is built
+	 * with a builder appropriate to the mode, but then cast back to the generic D
+	 * before returning it.
 	 * <p>
 	 * @return D UnitAbstract child that implements all the number interfaces too.
 	 */
 	@SuppressWarnings("unchecked")
 	public D modulusSum() {
-		D tR;
 		switch (mode) {
 		case REALF -> {
-			tR = FBuilder.REALF.createZERO(this.getCardinal());
-			weightsStream().forEach(div -> {  //Do not go parallel in this stream
-				try {
-					tR.add(RealF.newONE(this.getCardinal()).scale(div.modulus()));
-				} catch (FieldBinaryException e) {
-					throw new IllegalArgumentException("Cardinal mismatch in addition while forming modulus sum.");
-				}
-			});
-			return (D) tR;
-		}
-		case REALD -> {
-			tR = FBuilder.REALD.createZERO(this.getCardinal());
-			weightsStream().forEach(div -> {  //Do not go parallel in this stream
-				try {
-					tR.add(RealD.newONE(this.getCardinal()).scale(div.modulus()));
-				} catch (FieldBinaryException e) {
-					throw new IllegalArgumentException("Cardinal mismatch in addition while forming modulus sum.");
-				}
-			});
-			return (D) tR;
+			float tSum = 0.0f;
+			for (float w : fWeights)
+				tSum += (float) Math.sqrt(w * w);
+			return (D) FBuilder.createONE(mode, card).scale(tSum);
 		}
 		case COMPLEXF -> {
-			tR = FBuilder.COMPLEXF.createZERO(this.getCardinal());
-			weightsStream().forEach(div -> {  //Do not go parallel in this stream
-				try {
-					tR.add(ComplexF.newONE(this.getCardinal()).scale(div.modulus()));	 //Conjugate built in
-				} catch (FieldBinaryException e) {
-					throw new IllegalArgumentException("Cardinal mismatch in addition while forming modulus sum.");
-				}
-			});
-			return (D) tR;
+			float tSum = 0.0f;
+			for (int k = 0; k < fWeights.length; k += 2)
+				tSum += (float) Math.sqrt(fWeights[k] * fWeights[k] + fWeights[k + 1] * fWeights[k + 1]);
+			return (D) FBuilder.createONE(mode, card).scale(tSum);
+		}
+		case REALD -> {
+			double tSum = 0.0d;
+			for (double w : dWeights)
+				tSum += Math.sqrt(w * w);
+			return (D) FBuilder.createONE(mode, card).scale(tSum);
 		}
 		case COMPLEXD -> {
-			tR = FBuilder.COMPLEXD.createZERO(this.getCardinal());
-			weightsStream().forEach(div -> {  //Do not go parallel in this stream
-				try {
-					tR.add(ComplexD.newONE(this.getCardinal()).scale(div.modulus()));	 //Conjugate built in
-				} catch (FieldBinaryException e) {
-					throw new IllegalArgumentException("Cardinal mismatch in addition while forming modulus sum.");
-				}
-			});
-			return (D) tR;
+			double tSum = 0.0d;
+			for (int k = 0; k < dWeights.length; k += 2)
+				tSum += Math.sqrt(dWeights[k] * dWeights[k] + dWeights[k + 1] * dWeights[k + 1]);
+			return (D) FBuilder.createONE(mode, card).scale(tSum);
 		}
 		default -> {
 			return (D) new UnitAbstract(this.getCardinal());
@@ -579,18 +539,6 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * square root to determine the magnitude and then invert that to scale the
 	 * original numbers.
 	 * <p>
-	 * Since the internal map can accept any of the CladosF numbers as values, there
-	 * is a cast to a 'generic' type within this method. This would normally cause
-	 * warnings by the compiler since the generic named in the internal map IS a
-	 * UnitAbstract child AND casting an unchecked type could fail at runtime.
-	 * <p>
-	 * That won't happen here when CladosF builders are used. They can't build
-	 * anything that is NOT a UnitAbstract child. They can't even build a
-	 * UnitAbstract instance directly. Therefore, only children can arrive as the
-	 * value parameter of the 'put' function. Thus, there is no danger of a failed
-	 * cast operation... until someone creates a new UnitAbstract child class and
-	 * fails to update all builders.
-	 * <p>
 	 * @throws FieldException This happens when normalizing something that has a
 	 *                        zero magnitude. The exception is thrown by the
 	 *                        invert() method and passed along here.
@@ -601,71 +549,145 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	}
 
 	/**
-	 * Put a key/value pair into the internal map of coefficients. A Blade acts as
-	 * key. A UnitAbstract child acts as coefficient.
+	 * Put a key/value pair into the weights. A Blade acts as key. A UnitAbstract
+	 * child acts as coefficient.
+	 * <p>
+	 * The values of the offered number are copied. The number itself is NOT
+	 * connected to this Scale afterward. Blades that aren't in the basis are
+	 * silently ignored.
 	 * <p>
-	 * @param pB  Blade acting as key in the internal map
+	 * @param pB  Blade acting as key
 	 * @param pD  UnitAbstract child acting as the coefficient.
 	 * @return Scale<D> object. Just this object after modification if it occurs.
 	 */
 	public Scale<D> put(Blade pB, D pD) {
-		map.put(pB, pD);
+		int tIndex = indexOf(pB);
+		if (tIndex >= 0)
+			copyIn(tIndex, pD);
 		return this;
 	}
 
 	/**
 	 * This method reverses all the order of implied multiplication in blade
-	 * generators and works out the sign implications for the values in the internal
-	 * map. No typeMismatch can occur here.
+	 * generators and works out the sign implications for the weights. No
+	 * typeMismatch can occur here.
 	 * <p>
-	 * This method shows that blade reversion is handled HERE and not with the sign 
-	 * of the blades themselves. The sign in Blade is ONLY for the order of the 
+	 * This method shows that blade reversion is handled HERE and not with the sign
+	 * of the blades themselves. The sign in Blade is ONLY for the order of the
 	 * enumset of its generators. Grade convolutions are remembered in Scale by
-	 * flipping signs of the UnitAbstract child values in map.
+	 * flipping signs of the weights.
 	 * <p>
 	 * @return Scale object. Just this object after modification.
 	 */
 	public Scale<D> reverse() {
-		gBasis.gradeStream().filter(j -> (j % 4 > 1)).parallel().forEach(grade -> {
-			gBasis.bladeOfGradeStream((byte) grade).forEach(blade -> {
-				switch (mode) {
-				case REALF:	//Tricky here. This case falls through to the next and gets handled.
-				case COMPLEXF:
-					(map.get(blade)).scale(CladosConstant.MINUS_ONE_F);
-					break;	//Both cases handled in one then break.
-				case REALD:	//Tricky here. This case falls through to the next and gets handled.
-				case COMPLEXD:
-					(map.get(blade)).scale(CladosConstant.MINUS_ONE_D);
-				}			//Both cases handled in one then done.
-			});
-		});
+		multiplySigns(gBasis.getReverseSigns(), false);
+		return this;
+	}
+
+	/**
+	 * This method reverses the blades and conjugates the weights in one pass. It
+	 * is the same as reverse() followed by conjugate(), which is the adjoint a
+	 * norm needs for complex weights.
+	 * <p>
+	 * @return Scale object. Just this object after modification.
+	 */
+	public Scale<D> reverseConjugate() {
+		multiplySigns(gBasis.getReverseSigns(), true);
 		return this;
 	}
 
 	/**
-	 * This method scales all values in the internal map by the value offered
-	 * provided there is no typeMatch failure. When there IS a type mismatch the 
-	 * number simply does not get scaled.
+	 * This method scales all weights by the value offered provided there is no
+	 * typeMatch failure. When there IS a type mismatch the weights simply do not
+	 * get scaled.
 	 * <p>
-	 * The first stream filters for weights that pass the match test.
-	 * The second stream scales them.
-	 * That means the embedded IllegalARgumentException will never be thrown.
+	 * The type match test is done once against the cardinal of this Scale since
+	 * every weight shares it. When VectorKernel is enabled the weights are scaled
+	 * in lanes and the grade counts are marked stale.
 	 * <p>
-	 * @param pIn UnitAbstract child to use as a scaling element. 
-	 * 				Mode and cardinal MUST match values in map.
+	 * @param pIn UnitAbstract child to use as a scaling element.
+	 * 				Mode and cardinal MUST match values in this Scale.
 	 * @param <T> UnitAbstract child generic type support. Must also implement Field.
 	 * @return Scale object. Just this object after modification.
+	 * @throws IllegalArgumentException This happens if the offered number is NaN
+	 *                                  or infinite.
 	 */
 	public <T extends UnitAbstract & Field & Normalizable> Scale<D> scale(T pIn) {
-		if (this.weightsStream().allMatch(div -> UnitAbstract.isTypeMatch(div, pIn))) {
-			this.weightsParallelStream().forEach(div -> {
-				try {
-					div.multiply(pIn);
-				} catch (FieldBinaryException e) {
+		if (!UnitAbstract.isTypeMatch(new UnitAbstract(card), pIn))
+			return this;
+		if (VectorKernel.isEnabled())
+			return scaleLanes(pIn);
+		boolean tFinite = true;
+		switch (mode) {
+			case REALF -> {
+				if (RealF.isNaN((RealF) pIn) || RealF.isInfinite((RealF) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				float tS = ((RealF) pIn).getReal();
+				for (byte grade = 0; grade < gradeCounts.length; grade++) {
+					int tCount = 0;
+					for (int k = gBasis.getGradeStart(grade); k < gBasis.getGradeEnd(grade); k++)
+						if ((fWeights[k] *= tS) != 0.0f) {
+							tCount++;
+							tFinite &= Float.isFinite(fWeights[k]);
+						}
+					setCount(grade, tCount);
+				}
+			}
+			case REALD -> {
+				if (RealD.isNaN((RealD) pIn) || RealD.isInfinite((RealD) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				double tS = ((RealD) pIn).getReal();
+				for (byte grade = 0; grade < gradeCounts.length; grade++) {
+					int tCount = 0;
+					for (int k = gBasis.getGradeStart(grade); k < gBasis.getGradeEnd(grade); k++)
+						if ((dWeights[k] *= tS) != 0.0d) {
+							tCount++;
+							tFinite &= Double.isFinite(dWeights[k]);
+						}
+					setCount(grade, tCount);
+				}
+			}
+			case COMPLEXF -> {
+				if (ComplexF.isNaN((ComplexF) pIn) || ComplexF.isInfinite((ComplexF) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				float tR = ((ComplexF) pIn).getReal();
+				float tI = ((ComplexF) pIn).getImg();
+				for (byte grade = 0; grade < gradeCounts.length; grade++) {
+					int tCount = 0;
+					for (int k = 2 * gBasis.getGradeStart(grade); k < 2 * gBasis.getGradeEnd(grade); k += 2) {
+						float tWR = fWeights[k];
+						fWeights[k] = tWR * tR - fWeights[k + 1] * tI;
+						fWeights[k + 1] = tWR * tI + fWeights[k + 1] * tR;
+						if (fWeights[k] != 0.0f | fWeights[k + 1] != 0.0f) {
+							tCount++;
+							tFinite &= Float.isFinite(fWeights[k]) & Float.isFinite(fWeights[k + 1]);
+						}
+					}
+					setCount(grade, tCount);
+				}
+			}
+			case COMPLEXD -> {
+				if (ComplexD.isNaN((ComplexD) pIn) || ComplexD.isInfinite((ComplexD) pIn))
 					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				double tR = ((ComplexD) pIn).getReal();
+				double tI = ((ComplexD) pIn).getImg();
+				for (byte grade = 0; grade < gradeCounts.length; grade++) {
+					int tCount = 0;
+					for (int k = 2 * gBasis.getGradeStart(grade); k < 2 * gBasis.getGradeEnd(grade); k += 2) {
+						double tWR = dWeights[k];
+						dWeights[k] = tWR * tR - dWeights[k + 1] * tI;
+						dWeights[k + 1] = tWR * tI + dWeights[k + 1] * tR;
+						if (dWeights[k] != 0.0d | dWeights[k + 1] != 0.0d) {
+							tCount++;
+							tFinite &= Double.isFinite(dWeights[k]) & Double.isFinite(dWeights[k + 1]);
+						}
+					}
+					setCount(grade, tCount);
 				}
-			});
+			}
 		}
+		finite = tFinite;
+		stale = false; // Every grade was counted
 		return this;
 	}
 
@@ -679,12 +701,12 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 */
 	public String toXMLString(String indent) {
 
-		StringBuilder rB = new StringBuilder(indent).append("<Scales number=\"").append(map.size()).append("\">\n");
+		StringBuilder rB = new StringBuilder(indent).append("<Scales number=\"").append(gBasis.getBladeCount()).append("\">\n");
 
 		gBasis.bladeStream().forEach(blade -> {
 			rB.append(indent).append("\t<Pair>\n");
 			rB.append(indent + "\t\t").append(Blade.toXMLString(blade, "\t\t"));
-			rB.append(indent + "\t\t\t\t").append(map.get(blade).toXMLString()).append("\n");
+			rB.append(indent + "\t\t\t\t").append(get(blade).toXMLString()).append("\n");
 			rB.append(indent).append("\t</Pair>\n");
 		});
 
@@ -692,33 +714,923 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 		return rB.toString();
 	}
 
+	/**
+	 * Copy the values of a number into the internal array at a basis index.
+	 * <p>
+	 * @param pIndex int index of the blade in the basis
+	 * @param pD     UnitAbstract child of the same mode as this Scale
+	 */
+	private void copyIn(int pIndex, UnitAbstract pD) {
+		boolean tWasZero = isZeroAt(pIndex);
+		switch (mode) {
+			case REALF -> fWeights[pIndex] = ((RealF) pD).getReal();
+			case REALD -> dWeights[pIndex] = ((RealD) pD).getReal();
+			case COMPLEXF -> {
+				fWeights[2 * pIndex] = ((ComplexF) pD).getReal();
+				fWeights[2 * pIndex + 1] = ((ComplexF) pD).getImg();
+			}
+			case COMPLEXD -> {
+				dWeights[2 * pIndex] = ((ComplexD) pD).getReal();
+				dWeights[2 * pIndex + 1] = ((ComplexD) pD).getImg();
+			}
+		}
+		countAt(pIndex, tWasZero);
+		finite &= isFiniteAt(pIndex);
+	}
+
+	/**
+	 * Adjust the grade counts after one weight was written. Nothing changes
+	 * unless the weight moved to or from zero.
+	 * <p>
+	 * @param pIndex   int index of the blade in the basis
+	 * @param pWasZero boolean True if the weight was zero before it was written
+	 */
+	private void countAt(int pIndex, boolean pWasZero) {
+		boolean tIsZero = isZeroAt(pIndex);
+		if (pWasZero != tIsZero) {
+			byte tGrade = gBasis.getGradeOf(pIndex);
+			setCount(tGrade, Math.max(0, gradeCounts[tGrade] + (tIsZero ? -1 : 1)));
+		}
+	}
+
+	/**
+	 * Translate a blade to its 0-based position in the basis.
+	 * <p>
+	 * @param pB Blade to be found
+	 * @return int index of the blade or -1 if it isn't in the basis
+	 */
+	private int indexOf(Blade pB) {
+		if (pB == null)
+			return -1;
+		int tFound = gBasis.find(pB);
+		return (tFound < 0) ? -1 : tFound - 1;
+	}
+
+	/**
+	 * Test the weight at a basis index for NaN and infinite parts.
+	 * <p>
+	 * @param pIndex int index of the blade in the basis
+	 * @return boolean True if no part of the weight is NaN or infinite
+	 */
+	private boolean isFiniteAt(int pIndex) {
+		switch (mode) {
+			case REALF : return Float.isFinite(fWeights[pIndex]);
+			case REALD : return Double.isFinite(dWeights[pIndex]);
+			case COMPLEXF : return Float.isFinite(fWeights[2 * pIndex]) && Float.isFinite(fWeights[2 * pIndex + 1]);
+			case COMPLEXD : return Double.isFinite(dWeights[2 * pIndex]) && Double.isFinite(dWeights[2 * pIndex + 1]);
+			default : return false;
+		}
+	}
+
+	/**
+	 * Test the weight at a basis index for zero.
+	 * <p>
+	 * @param pIndex int index of the blade in the basis
+	 * @return boolean True if every part of the weight is zero
+	 */
+	protected boolean isZeroAt(int pIndex) {
+		switch (mode) {
+			case REALF : return fWeights[pIndex] == 0.0f;
+			case REALD : return dWeights[pIndex] == 0.0d;
+			case COMPLEXF : return fWeights[2 * pIndex] == 0.0f && fWeights[2 * pIndex + 1] == 0.0f;
+			case COMPLEXD : return dWeights[2 * pIndex] == 0.0d && dWeights[2 * pIndex + 1] == 0.0d;
+			default : return false;
+		}
+	}
+
+	/**
+	 * Multiply every weight by the sign of its blade. Imaginary parts of complex
+	 * weights take the opposite sign when they are also to be conjugated.
+	 * <p>
+	 * @param pSigns     byte[] +1 or -1 for each blade in basis order
+	 * @param pConjugate boolean True if complex weights are conjugated as well
+	 */
+	private void multiplySigns(byte[] pSigns, boolean pConjugate) {
+		int tImg = pConjugate ? -1 : 1;
+		switch (mode) {
+			case REALF -> {
+				for (int k = 0; k < pSigns.length; k++)
+					fWeights[k] *= pSigns[k];
+			}
+			case REALD -> {
+				for (int k = 0; k < pSigns.length; k++)
+					dWeights[k] *= pSigns[k];
+			}
+			case COMPLEXF -> {
+				for (int k = 0; k < pSigns.length; k++) {
+					fWeights[2 * k] *= pSigns[k];
+					fWeights[2 * k + 1] *= tImg * pSigns[k];
+				}
+			}
+			case COMPLEXD -> {
+				for (int k = 0; k < pSigns.length; k++) {
+					dWeights[2 * k] *= pSigns[k];
+					dWeights[2 * k + 1] *= tImg * pSigns[k];
+				}
+			}
+		}
+	}
+
+	/**
+	 * This method does the work of scale() with SIMD lanes and then marks the
+	 * grade counts stale. Callers are expected to have done the type match test
+	 * and checked that VectorKernel is enabled.
+	 * <p>
+	 * @param pIn UnitAbstract child to use as a scaling element.
+	 * @param <T> UnitAbstract child generic type support. Must also implement Field.
+	 * @return Scale object. Just this object after modification.
+	 * @throws IllegalArgumentException This happens if the offered number is NaN
+	 *                                  or infinite.
+	 */
+	private <T extends UnitAbstract & Field & Normalizable> Scale<D> scaleLanes(T pIn) {
+		switch (mode) {
+			case REALF -> {
+				if (RealF.isNaN((RealF) pIn) || RealF.isInfinite((RealF) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				VectorLanes.scaleReal(fWeights, ((RealF) pIn).getReal());
+			}
+			case REALD -> {
+				if (RealD.isNaN((RealD) pIn) || RealD.isInfinite((RealD) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				VectorLanes.scaleReal(dWeights, ((RealD) pIn).getReal());
+			}
+			case COMPLEXF -> {
+				if (ComplexF.isNaN((ComplexF) pIn) || ComplexF.isInfinite((ComplexF) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				VectorLanes.scaleComplex(fWeights, ((ComplexF) pIn).getReal(), ((ComplexF) pIn).getImg());
+			}
+			case COMPLEXD -> {
+				if (ComplexD.isNaN((ComplexD) pIn) || ComplexD.isInfinite((ComplexD) pIn))
+					throw new IllegalArgumentException("Can't scale with mismatched cardinal or mode.");
+				VectorLanes.scaleComplex(dWeights, ((ComplexD) pIn).getReal(), ((ComplexD) pIn).getImg());
+			}
+		}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * Record the number of non-zero weights in a grade and keep the grade mask in
+	 * step with it.
+	 * <p>
+	 * @param pGrade byte grade whose count is known
+	 * @param pCount int number of non-zero weights in that grade
+	 */
+	private void setCount(byte pGrade, int pCount) {
+		gradeCounts[pGrade] = pCount;
+		if (pCount == 0)
+			gradeMask &= ~(1 << pGrade);
+		else
+			gradeMask |= 1 << pGrade;
+	}
+
+	/**
+	 * Report how many primitives make up one weight. Complex numbers need two.
+	 * <p>
+	 * @return int 1 for real modes and 2 for complex modes
+	 */
+	private int stride() {
+		return (mode == CladosField.COMPLEXF | mode == CladosField.COMPLEXD) ? 2 : 1;
+	}
+
+	/*
+	 * Move the value at pFrom to pTo and the value at pTo to pFrom, each
+	 * multiplied by the sign of the index it left. Zero signs write zeros. When
+	 * both indices are the same only the sign is applied.
+	 */
+	private static void swapSigned(double[] pW, int pFrom, byte pFromSign, int pTo, byte pToSign) {
+		double tFrom = pW[pFrom];
+		pW[pFrom] = (pToSign == 0) ? 0.0d : pToSign * pW[pTo];
+		pW[pTo] = (pFromSign == 0) ? 0.0d : pFromSign * tFrom;
+	}
+
+	/*
+	 * Float twin of the method above.
+	 */
+	private static void swapSigned(float[] pW, int pFrom, byte pFromSign, int pTo, byte pToSign) {
+		float tFrom = pW[pFrom];
+		pW[pFrom] = (pToSign == 0) ? 0.0f : pToSign * pW[pTo];
+		pW[pTo] = (pFromSign == 0) ? 0.0f : pFromSign * tFrom;
+	}
+
+	/**
+	 * Build a view of the weight at a basis index. The view shares the internal
+	 * array, so writing to it writes to this Scale and marks it stale.
+	 * <p>
+	 * @param pIndex int index of the blade in the basis
+	 * @return D view of the weight
+	 */
+	@SuppressWarnings("unchecked")
+	private D viewAt(int pIndex) {
+		switch (mode) {
+			case REALF : return (D) new RealF(card, fWeights, pIndex, staleMarker);
+			case REALD : return (D) new RealD(card, dWeights, pIndex, staleMarker);
+			case COMPLEXF : return (D) new ComplexF(card, fWeights, 2 * pIndex, staleMarker);
+			case COMPLEXD : return (D) new ComplexD(card, dWeights, 2 * pIndex, staleMarker);
+			default : return null;
+		}
+	}
+
+	/**
+	 * Copy the weights out as doubles with real and imaginary parts in separate
+	 * arrays. Real modes leave the imaginary array alone.
+	 * <p>
+	 * @param pRe double[] to receive the real parts
+	 * @param pIm double[] to receive the imaginary parts
+	 */
+	private void widen(double[] pRe, double[] pIm) {
+		for (int k = 0; k < pRe.length; k++)
+			switch (mode) {
+				case REALF -> pRe[k] = fWeights[k];
+				case REALD -> pRe[k] = dWeights[k];
+				case COMPLEXF -> {
+					pRe[k] = fWeights[2 * k];
+					pIm[k] = fWeights[2 * k + 1];
+				}
+				case COMPLEXD -> {
+					pRe[k] = dWeights[2 * k];
+					pIm[k] = dWeights[2 * k + 1];
+				}
+			}
+	}
+
+	/**
+	 * Zero every weight in a range of basis indices.
+	 * <p>
+	 * @param pFrom int first index in the range
+	 * @param pTo   int index just past the end of the range
+	 */
+	private void zeroRange(int pFrom, int pTo) {
+		if (fWeights != null)
+			Arrays.fill(fWeights, pFrom * stride(), pTo * stride(), 0.0f);
+		else
+			Arrays.fill(dWeights, pFrom * stride(), pTo * stride(), 0.0d);
+	}
+
+	/**
+	 * This method adds the weights of another Scale to these weights one basis
+	 * index at a time. The other Scale must share this Scale's basis and mode.
+	 * No type match test is done here. Callers are expected to have done it
+	 * already.
+	 * <p>
+	 * @param pIn Scale whose weights are to be added to these
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> add(Scale<D> pIn) {
+		return addSigned(pIn, 1);
+	}
+
+	/**
+	 * This method adds or subtracts the weights of another Scale one grade at a
+	 * time and counts the non-zero results of each grade as it goes. When
+	 * VectorKernel is enabled the whole array is combined in lanes instead and
+	 * the grade counts are marked stale.
+	 * <p>
+	 * @param pIn   Scale whose weights are to be combined with these
+	 * @param pSign int +1 to add and -1 to subtract
+	 * @return Scale object. Just this object after modification.
+	 */
+	private Scale<D> addSigned(Scale<D> pIn, int pSign) {
+		if (VectorKernel.isEnabled()) {
+			if (fWeights != null)
+				VectorLanes.axpy(fWeights, pIn.fWeights, pSign, 0, fWeights.length);
+			else
+				VectorLanes.axpy(dWeights, pIn.dWeights, pSign, 0, dWeights.length);
+			stale = true;
+			return this;
+		}
+		boolean tFinite = true;
+		int tStride = stride();
+		for (byte grade = 0; grade < gradeCounts.length; grade++) {
+			int tCount = 0;
+			if (fWeights != null)
+				for (int k = tStride * gBasis.getGradeStart(grade); k < tStride * gBasis.getGradeEnd(grade); k += tStride) {
+					boolean tNotZero = false;
+					for (int j = k; j < k + tStride; j++) {
+						tNotZero |= (fWeights[j] += pSign * pIn.fWeights[j]) != 0.0f;
+						tFinite &= Float.isFinite(fWeights[j]);
+					}
+					if (tNotZero)
+						tCount++;
+				}
+			else
+				for (int k = tStride * gBasis.getGradeStart(grade); k < tStride * gBasis.getGradeEnd(grade); k += tStride) {
+					boolean tNotZero = false;
+					for (int j = k; j < k + tStride; j++) {
+						tNotZero |= (dWeights[j] += pSign * pIn.dWeights[j]) != 0.0d;
+						tFinite &= Double.isFinite(dWeights[j]);
+					}
+					if (tNotZero)
+						tCount++;
+				}
+			setCount(grade, tCount);
+		}
+		finite = tFinite;
+		stale = false; // Every grade was counted
+		return this;
+	}
+
+	/**
+	 * This method replaces these weights with their image under an
+	 * outermorphism. Each grade present is multiplied by the square block of that
+	 * grade and nothing else, so absent grades cost nothing.
+	 * <p>
+	 * Weights are widened to doubles for the block arithmetic and narrowed again
+	 * when written back. Callers are expected to have checked the mode already.
+	 * <p>
+	 * @param pMap Outermorphism to be applied
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> applyMap(Outermorphism pMap) {
+		int tMask = getGradeMask();
+		boolean tComplex = (stride() == 2);
+		while (tMask != 0) {
+			byte tGrade = (byte) Integer.numberOfTrailingZeros(tMask);
+			tMask &= tMask - 1;
+			int tStart = gBasis.getGradeStart(tGrade);
+			int tSize = gBasis.getGradeEnd(tGrade) - tStart;
+			double[] tRe = new double[tSize];
+			double[] tIm = new double[tSize];
+			for (int k = 0; k < tSize; k++)
+				switch (mode) {
+					case REALF -> tRe[k] = fWeights[tStart + k];
+					case REALD -> tRe[k] = dWeights[tStart + k];
+					case COMPLEXF -> {
+						tRe[k] = fWeights[2 * (tStart + k)];
+						tIm[k] = fWeights[2 * (tStart + k) + 1];
+					}
+					case COMPLEXD -> {
+						tRe[k] = dWeights[2 * (tStart + k)];
+						tIm[k] = dWeights[2 * (tStart + k) + 1];
+					}
+				}
+			double[] tBlock = pMap.getBlock(tGrade);
+			double[] tBlockImg = pMap.getBlockImg(tGrade);
+			for (int row = 0; row < tSize; row++) {
+				double tSumRe = 0.0d;
+				double tSumIm = 0.0d;
+				int tBase = row * tSize;
+				if (tComplex)
+					for (int col = 0; col < tSize; col++) {
+						tSumRe += tBlock[tBase + col] * tRe[col] - tBlockImg[tBase + col] * tIm[col];
+						tSumIm += tBlock[tBase + col] * tIm[col] + tBlockImg[tBase + col] * tRe[col];
+					}
+				else
+					for (int col = 0; col < tSize; col++)
+						tSumRe += tBlock[tBase + col] * tRe[col];
+				switch (mode) {
+					case REALF -> fWeights[tStart + row] = (float) tSumRe;
+					case REALD -> dWeights[tStart + row] = tSumRe;
+					case COMPLEXF -> {
+						fWeights[2 * (tStart + row)] = (float) tSumRe;
+						fWeights[2 * (tStart + row) + 1] = (float) tSumIm;
+					}
+					case COMPLEXD -> {
+						dWeights[2 * (tStart + row)] = tSumRe;
+						dWeights[2 * (tStart + row) + 1] = tSumIm;
+					}
+				}
+			}
+		}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * This method replaces these weights with their image under a fixed-operand
+	 * multiplier. Every non-zero weight is pushed through its run of entries, so
+	 * no table is read and no number objects are built. Sums gather in the
+	 * multiplier's scratch space for this thread, so nothing is allocated after
+	 * the first use. Results are copied back into the existing storage, so views
+	 * of the weights handed out earlier stay live.
+	 * <p>
+	 * Float weights are widened to doubles for the arithmetic and narrowed again
+	 * as they are written back. Callers are expected to have checked the mode
+	 * already.
+	 * <p>
+	 * @param pMap Multiplier to be applied
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> applyMultiplier(Multiplier pMap) {
+		int[] tStarts = pMap.getStarts();
+		int[] tOuts = pMap.getOuts();
+		double[] tValues = pMap.getValues();
+		double[] tValuesImg = pMap.getValuesImg();
+		double[] tNew = pMap.getScratch();
+		switch (mode) {
+			case REALF -> {
+				for (int col = 0; col < fWeights.length; col++)
+					if (fWeights[col] != 0.0f)
+						for (int e = tStarts[col]; e < tStarts[col + 1]; e++)
+							tNew[tOuts[e]] += tValues[e] * fWeights[col];
+				for (int k = 0; k < fWeights.length; k++)
+					fWeights[k] = (float) tNew[k];
+			}
+			case REALD -> {
+				for (int col = 0; col < dWeights.length; col++)
+					if (dWeights[col] != 0.0d)
+						for (int e = tStarts[col]; e < tStarts[col + 1]; e++)
+							tNew[tOuts[e]] += tValues[e] * dWeights[col];
+				System.arraycopy(tNew, 0, dWeights, 0, dWeights.length);
+			}
+			case COMPLEXF -> {
+				for (int col = 0; col < fWeights.length / 2; col++) {
+					double tAR = fWeights[2 * col];
+					double tAI = fWeights[2 * col + 1];
+					for (int e = tStarts[col]; e < tStarts[col + 1]; e++) {
+						tNew[2 * tOuts[e]] += tValues[e] * tAR - tValuesImg[e] * tAI;
+						tNew[2 * tOuts[e] + 1] += tValues[e] * tAI + tValuesImg[e] * tAR;
+					}
+				}
+				for (int k = 0; k < fWeights.length; k++)
+					fWeights[k] = (float) tNew[k];
+			}
+			case COMPLEXD -> {
+				for (int col = 0; col < dWeights.length / 2; col++) {
+					double tAR = dWeights[2 * col];
+					double tAI = dWeights[2 * col + 1];
+					for (int e = tStarts[col]; e < tStarts[col + 1]; e++) {
+						tNew[2 * tOuts[e]] += tValues[e] * tAR - tValuesImg[e] * tAI;
+						tNew[2 * tOuts[e] + 1] += tValues[e] * tAI + tValuesImg[e] * tAR;
+					}
+				}
+				System.arraycopy(tNew, 0, dWeights, 0, dWeights.length);
+			}
+		}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * This method replaces these weights with their product with the unit
+	 * pseudoscalar. Each weight moves to the complement of its blade and picks up
+	 * that blade's sign from the map. The complement is its own inverse, so pairs
+	 * of weights are swapped in place and nothing is allocated.
+	 * <p>
+	 * A zero sign marks a blade that vanishes against the pseudoscalar in a
+	 * degenerate signature. The weight landing on its complement is set to zero
+	 * outright rather than multiplied by zero.
+	 * <p>
+	 * @param pMap  PScalarMap of the product in use
+	 * @param pLeft boolean TRUE for I*this and FALSE for this*I
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> applyPScalar(PScalarMap pMap, boolean pLeft) {
+		int[] tTargets = pMap.getTargets();
+		byte[] tSigns = pMap.getSigns(pLeft);
+		int tStride = stride();
+		for (int j = 0; j < tTargets.length; j++) {
+			int t = tTargets[j];
+			if (t < j)
+				continue; // Pair already swapped
+			for (int k = 0; k < tStride; k++)
+				if (fWeights != null)
+					swapSigned(fWeights, tStride * j + k, tSigns[j], tStride * t + k, tSigns[t]);
+				else
+					swapSigned(dWeights, tStride * j + k, tSigns[j], tStride * t + k, tSigns[t]);
+		}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * This method adds a product of the weights of two other Scales to these
+	 * weights by multiplying their matrix representations. Weights are widened
+	 * to doubles on the way in and narrowed again as they are added here.
+	 * <p>
+	 * The Scales must share this Scale's basis and mode. Callers are expected to
+	 * have done type and finiteness tests already and to have checked that the
+	 * representation is worth its cost.
+	 * <p>
+	 * @param pRep   MatrixProduct of the algebra in use
+	 * @param pLeft  Scale of the factor on the left
+	 * @param pRight Scale of the factor on the right
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> addMatrixProduct(MatrixProduct pRep, Scale<D> pLeft, Scale<D> pRight) {
+		int tCount = gBasis.getBladeCount();
+		double[][] tScratch = pRep.getWeightScratch();
+		double[] tLRe = tScratch[0];
+		double[] tLIm = tScratch[1];
+		double[] tRRe = tScratch[2];
+		double[] tRIm = tScratch[3];
+		double[] tOutRe = tScratch[4];
+		double[] tOutIm = tScratch[5];
+		pLeft.widen(tLRe, tLIm);
+		pRight.widen(tRRe, tRIm);
+		pRep.multiply(tLRe, tLIm, tRRe, tRIm, tOutRe, tOutIm);
+		for (int k = 0; k < tCount; k++)
+			switch (mode) {
+				case REALF -> fWeights[k] += (float) tOutRe[k];
+				case REALD -> dWeights[k] += tOutRe[k];
+				case COMPLEXF -> {
+					fWeights[2 * k] += (float) tOutRe[k];
+					fWeights[2 * k + 1] += (float) tOutIm[k];
+				}
+				case COMPLEXD -> {
+					dWeights[2 * k] += tOutRe[k];
+					dWeights[2 * k + 1] += tOutIm[k];
+				}
+			}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * This method adds a product of the weights of two other Scales to these
+	 * weights by walking a product pattern. Every entry of the pattern names a
+	 * left weight, a right weight, the blade their product lands on and its
+	 * sign, so no table reads or zero tests are needed here.
+	 * <p>
+	 * The Scales must share this Scale's basis and mode, and their grades must be
+	 * covered by the masks used to build the pattern. Callers are expected to
+	 * have done type and finiteness tests already.
+	 * <p>
+	 * @param pPattern ProductPattern for the grades of the two operands
+	 * @param pLeft    Scale of the factor on the left
+	 * @param pRight   Scale of the factor on the right
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> addPattern(ProductPattern pPattern, Scale<D> pLeft, Scale<D> pRight) {
+		int[] tLefts = pPattern.getLefts();
+		int[] tRights = pPattern.getRights();
+		int[] tOuts = pPattern.getOuts();
+		byte[] tSigns = pPattern.getSigns();
+		switch (mode) {
+			case REALF -> {
+				for (int k = 0; k < tOuts.length; k++)
+					fWeights[tOuts[k]] += tSigns[k] * pLeft.fWeights[tLefts[k]] * pRight.fWeights[tRights[k]];
+			}
+			case REALD -> {
+				for (int k = 0; k < tOuts.length; k++)
+					dWeights[tOuts[k]] += tSigns[k] * pLeft.dWeights[tLefts[k]] * pRight.dWeights[tRights[k]];
+			}
+			case COMPLEXF -> {
+				for (int k = 0; k < tOuts.length; k++) {
+					float tAR = pLeft.fWeights[2 * tLefts[k]];
+					float tAI = pLeft.fWeights[2 * tLefts[k] + 1];
+					float tBR = pRight.fWeights[2 * tRights[k]];
+					float tBI = pRight.fWeights[2 * tRights[k] + 1];
+					fWeights[2 * tOuts[k]] += tSigns[k] * (tAR * tBR - tAI * tBI);
+					fWeights[2 * tOuts[k] + 1] += tSigns[k] * (tAR * tBI + tAI * tBR);
+				}
+			}
+			case COMPLEXD -> {
+				for (int k = 0; k < tOuts.length; k++) {
+					double tAR = pLeft.dWeights[2 * tLefts[k]];
+					double tAI = pLeft.dWeights[2 * tLefts[k] + 1];
+					double tBR = pRight.dWeights[2 * tRights[k]];
+					double tBI = pRight.dWeights[2 * tRights[k] + 1];
+					dWeights[2 * tOuts[k]] += tSigns[k] * (tAR * tBR - tAI * tBI);
+					dWeights[2 * tOuts[k] + 1] += tSigns[k] * (tAR * tBI + tAI * tBR);
+				}
+			}
+		}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * This method adds a product of the weights of two other Scales to these
+	 * weights by running a product kernel. Each output blade gets the sum of its
+	 * adding pairs less the sum of its subtracting pairs in one write, so no
+	 * signs are multiplied and each output is touched once.
+	 * <p>
+	 * The Scales must share this Scale's basis and mode, and their grades must be
+	 * covered by the masks used to build the kernel's pattern. Callers are
+	 * expected to have done type and finiteness tests already.
+	 * <p>
+	 * @param pKernel ProductKernel for the grades of the two operands
+	 * @param pLeft   Scale of the factor on the left
+	 * @param pRight  Scale of the factor on the right
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> addKernel(ProductKernel pKernel, Scale<D> pLeft, Scale<D> pRight) {
+		int[] tLefts = pKernel.getLefts();
+		int[] tRights = pKernel.getRights();
+		int[] tOuts = pKernel.getOuts();
+		int[] tStarts = pKernel.getStarts();
+		int[] tMinus = pKernel.getMinusStarts();
+		switch (mode) {
+			case REALF -> {
+				float[] tL = pLeft.fWeights;
+				float[] tR = pRight.fWeights;
+				for (int g = 0; g < tOuts.length; g++) {
+					float tSum = 0.0f;
+					for (int k = tStarts[g]; k < tMinus[g]; k++)
+						tSum += tL[tLefts[k]] * tR[tRights[k]];
+					for (int k = tMinus[g]; k < tStarts[g + 1]; k++)
+						tSum -= tL[tLefts[k]] * tR[tRights[k]];
+					fWeights[tOuts[g]] += tSum;
+				}
+			}
+			case REALD -> {
+				double[] tL = pLeft.dWeights;
+				double[] tR = pRight.dWeights;
+				for (int g = 0; g < tOuts.length; g++) {
+					double tSum = 0.0d;
+					for (int k = tStarts[g]; k < tMinus[g]; k++)
+						tSum += tL[tLefts[k]] * tR[tRights[k]];
+					for (int k = tMinus[g]; k < tStarts[g + 1]; k++)
+						tSum -= tL[tLefts[k]] * tR[tRights[k]];
+					dWeights[tOuts[g]] += tSum;
+				}
+			}
+			case COMPLEXF -> {
+				float[] tL = pLeft.fWeights;
+				float[] tR = pRight.fWeights;
+				for (int g = 0; g < tOuts.length; g++) {
+					float tRe = 0.0f;
+					float tIm = 0.0f;
+					for (int k = tStarts[g]; k < tStarts[g + 1]; k++) {
+						float tAR = tL[2 * tLefts[k]];
+						float tAI = tL[2 * tLefts[k] + 1];
+						float tBR = tR[2 * tRights[k]];
+						float tBI = tR[2 * tRights[k] + 1];
+						if (k < tMinus[g]) {
+							tRe += tAR * tBR - tAI * tBI;
+							tIm += tAR * tBI + tAI * tBR;
+						} else {
+							tRe -= tAR * tBR - tAI * tBI;
+							tIm -= tAR * tBI + tAI * tBR;
+						}
+					}
+					fWeights[2 * tOuts[g]] += tRe;
+					fWeights[2 * tOuts[g] + 1] += tIm;
+				}
+			}
+			case COMPLEXD -> {
+				double[] tL = pLeft.dWeights;
+				double[] tR = pRight.dWeights;
+				for (int g = 0; g < tOuts.length; g++) {
+					double tRe = 0.0d;
+					double tIm = 0.0d;
+					for (int k = tStarts[g]; k < tStarts[g + 1]; k++) {
+						double tAR = tL[2 * tLefts[k]];
+						double tAI = tL[2 * tLefts[k] + 1];
+						double tBR = tR[2 * tRights[k]];
+						double tBI = tR[2 * tRights[k] + 1];
+						if (k < tMinus[g]) {
+							tRe += tAR * tBR - tAI * tBI;
+							tIm += tAR * tBI + tAI * tBR;
+						} else {
+							tRe -= tAR * tBR - tAI * tBI;
+							tIm -= tAR * tBI + tAI * tBR;
+						}
+					}
+					dWeights[2 * tOuts[g]] += tRe;
+					dWeights[2 * tOuts[g] + 1] += tIm;
+				}
+			}
+		}
+		stale = true;
+		return this;
+	}
+
+	/**
+	 * This method adds a product of the weights of two other Scales to these
+	 * weights. Every weight of pCol named by pCols[pFrom] up to pCols[pTo - 1] is
+	 * multiplied by every weight of pRow named in pRows. The product table
+	 * decides which blade each pair lands on and with what sign. Degenerate pairs
+	 * are skipped and so are pairs the commutation filter rejects.
+	 * <p>
+	 * The work is done on primitives with one loop per CladosField, so nothing is
+	 * allocated or checked per pair. The Scales must share this Scale's basis and
+	 * mode. Callers are expected to have done type and finiteness tests already.
+	 * <p>
+	 * Products land on blades in no particular order, so the grade counts are
+	 * marked stale at the end and rebuilt only when someone asks for them.
+	 * <p>
+	 * @param pProd    CliffordProduct that goes with the basis of these Scales
+	 * @param pLeft    boolean True if pRow multiplies from the left as in pRow pCol
+	 * @param pCol     Scale holding the weights named by pCols
+	 * @param pCols    int[] of 0-based basis indices that are column factors
+	 * @param pFrom    int first position in pCols to use
+	 * @param pTo      int position in pCols just past the last one to use
+	 * @param pRow     Scale holding the weights named by pRows
+	 * @param pRows    int[] of 0-based basis indices that are row factors
+	 * @param pCommute int +1 to keep commuting pairs only, -1 to keep
+	 *                 anticommuting pairs only and 0 to keep all pairs
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> addProduct(CliffordProduct pProd, boolean pLeft, Scale<D> pCol, int[] pCols, int pFrom,
+			int pTo, Scale<D> pRow, int[] pRows, int pCommute) {
+		switch (mode) {
+			case REALF -> {
+				for (int j = pFrom; j < pTo; j++) {
+					int col = pCols[j];
+					float tA = pCol.fWeights[col];
+					for (int row : pRows) {
+						int tResult = pLeft ? pProd.getResult(row, col) : pProd.getResult(col, row);
+						if (pCommute != 0
+								&& BladeDuet.commutes(gBasis.getBitKey(row), gBasis.getBitKey(col)) != (pCommute > 0))
+							continue;
+						if (tResult > 0)
+							fWeights[tResult - 1] += tA * pRow.fWeights[row];
+						else if (tResult < 0)
+							fWeights[-tResult - 1] -= tA * pRow.fWeights[row];
+					}
+				}
+			}
+			case REALD -> {
+				for (int j = pFrom; j < pTo; j++) {
+					int col = pCols[j];
+					double tA = pCol.dWeights[col];
+					for (int row : pRows) {
+						int tResult = pLeft ? pProd.getResult(row, col) : pProd.getResult(col, row);
+						if (pCommute != 0
+								&& BladeDuet.commutes(gBasis.getBitKey(row), gBasis.getBitKey(col)) != (pCommute > 0))
+							continue;
+						if (tResult > 0)
+							dWeights[tResult - 1] += tA * pRow.dWeights[row];
+						else if (tResult < 0)
+							dWeights[-tResult - 1] -= tA * pRow.dWeights[row];
+					}
+				}
+			}
+			case COMPLEXF -> {
+				for (int j = pFrom; j < pTo; j++) {
+					int col = pCols[j];
+					float tAR = pCol.fWeights[2 * col];
+					float tAI = pCol.fWeights[2 * col + 1];
+					for (int row : pRows) {
+						int tResult = pLeft ? pProd.getResult(row, col) : pProd.getResult(col, row);
+						if (pCommute != 0
+								&& BladeDuet.commutes(gBasis.getBitKey(row), gBasis.getBitKey(col)) != (pCommute > 0))
+							continue;
+						if (tResult == 0)
+							continue;
+						float tBR = pRow.fWeights[2 * row];
+						float tBI = pRow.fWeights[2 * row + 1];
+						int tOut = 2 * (Math.abs(tResult) - 1);
+						if (tResult > 0) {
+							fWeights[tOut] += tAR * tBR - tAI * tBI;
+							fWeights[tOut + 1] += tAR * tBI + tAI * tBR;
+						} else {
+							fWeights[tOut] -= tAR * tBR - tAI * tBI;
+							fWeights[tOut + 1] -= tAR * tBI + tAI * tBR;
+						}
+					}
+				}
+			}
+			case COMPLEXD -> {
+				for (int j = pFrom; j < pTo; j++) {
+					int col = pCols[j];
+					double tAR = pCol.dWeights[2 * col];
+					double tAI = pCol.dWeights[2 * col + 1];
+					for (int row : pRows) {
+						int tResult = pLeft ? pProd.getResult(row, col) : pProd.getResult(col, row);
+						if (pCommute != 0
+								&& BladeDuet.commutes(gBasis.getBitKey(row), gBasis.getBitKey(col)) != (pCommute > 0))
+							continue;
+						if (tResult == 0)
+							continue;
+						double tBR = pRow.dWeights[2 * row];
+						double tBI = pRow.dWeights[2 * row + 1];
+						int tOut = 2 * (Math.abs(tResult) - 1);
+						if (tResult > 0) {
+							dWeights[tOut] += tAR * tBR - tAI * tBI;
+							dWeights[tOut + 1] += tAR * tBI + tAI * tBR;
+						} else {
+							dWeights[tOut] -= tAR * tBR - tAI * tBI;
+							dWeights[tOut + 1] -= tAR * tBI + tAI * tBR;
+						}
+					}
+				}
+			}
+		}
+		stale = true;
+		return this;
+	}
+
 	/**
 	 * This is a simple gettor method, but it is most likly to be used to establish
-	 * a stream of blades, values, or both from the internal map of this object. The
-	 * map's keys are all blades from the object's basis. The map won't contain just
-	 * a few blades as keys, though. It will contain every blade as a key paired to
-	 * some unique CladosF number.
-	 * <p>
-	 * Since the internal map can accept any of the CladosF numbers (and
-	 * UnitAbstract itself though that would be useless) there is a cast to a
-	 * 'generic' type before insertion into the map. This would normally cause
-	 * warnings by the compiler since the generic named in the internal map IS a
-	 * UnitAbstract child AND casting an unchecked type could fail at runtime.
+	 * a stream of blades, values, or both from this object. The map's keys are all
+	 * blades from the object's basis. The map won't contain just a few blades as
+	 * keys, though. It will contain every blade as a key paired to a view of its
+	 * weight.
 	 * <p>
-	 * That won't happen here when CladosF builders are used. They can't build
-	 * anything that is NOT a UnitAbstract child. They can't even build a
-	 * UnitAbstract instance directly. Therefore, only children can arrive as the
-	 * value parameter of the 'put' function. Thus, there is no danger of a failed
-	 * cast operation... until someone creates a new UnitAbstract child class and
-	 * fails to update all builders.
+	 * The map is built on each call. It is NOT the storage for the weights, but
+	 * the values in it write through to that storage.
 	 * <p>
 	 * @param <T> UnitAbstract child generic type support. Must also implement Field
 	 *            AND Normalizable.
-	 * @return deliver the internal coefficients as the internal map.
+	 * @return deliver the internal coefficients as a map of views.
 	 */
 	@SuppressWarnings("unchecked")
 	protected <T extends UnitAbstract & Field & Normalizable> Map<Blade, T> getMap() {
-		return (Map<Blade, T>) map;
+		IdentityHashMap<Blade, T> tMap = new IdentityHashMap<>(gBasis.getBladeCount());
+		for (int k = 0; k < gBasis.getBladeCount(); k++)
+			tMap.put(gBasis.getSingleBlade(k), (T) viewAt(k));
+		return tMap;
+	}
+
+	/**
+	 * This is a short hand method to check every weight at once for NaN and
+	 * infinite values. The answer kept with the grade counts is used when it is
+	 * known, so the weights are scanned only when they might not be finite.
+	 * <p>
+	 * @return boolean True if no part of any weight is NaN or infinite.
+	 */
+	protected boolean isFinite() {
+		if (stale)
+			recount();
+		if (finite)
+			return true;
+		finite = true;
+		if (fWeights != null) {
+			for (float w : fWeights)
+				finite &= Float.isFinite(w);
+		} else
+			for (double w : dWeights)
+				finite &= Double.isFinite(w);
+		return finite;
+	}
+
+	/**
+	 * This method rebuilds the grade counts, mask and finite flag from the
+	 * weights. It is needed only after weights were written through views or in
+	 * bulk. Only non-zero weights can be NaN or infinite, so only they are
+	 * tested.
+	 * <p>
+	 * @return Scale object. Just this object after counting.
+	 */
+	protected Scale<D> recount() {
+		stale = false;
+		boolean tFinite = true;
+		for (byte grade = 0; grade < gradeCounts.length; grade++) {
+			int tCount = 0;
+			for (int k = gBasis.getGradeStart(grade); k < gBasis.getGradeEnd(grade); k++)
+				if (!isZeroAt(k)) {
+					tCount++;
+					tFinite &= isFiniteAt(k);
+				}
+			setCount(grade, tCount);
+		}
+		finite = tFinite;
+		return this;
+	}
+
+	/**
+	 * This method returns the scalar part of the product of these weights with
+	 * another Scale's weights. Two distinct blades never multiply to a scalar, so
+	 * only the diagonal of the product table matters and the sum runs once over
+	 * the basis instead of over every pair. Grades missing from either Scale are
+	 * skipped.
+	 * <p>
+	 * An optional sign vector is applied to these weights first and they may be
+	 * conjugated too. That lets reverses and involutions of the left factor be
+	 * folded in without copying it. Sums are accumulated as doubles.
+	 * <p>
+	 * The Scales must share this Scale's basis and mode. Callers are expected to
+	 * have done type tests already.
+	 * <p>
+	 * @param pIn        Scale of the factor on the right
+	 * @param pProd      CliffordProduct supplying the square of each blade
+	 * @param pSigns     byte[] signs applied to the left factor or null for none
+	 * @param pConjugate boolean TRUE if the left factor is to be conjugated
+	 * @return D UnitAbstract child holding the scalar part of the product
+	 */
+	@SuppressWarnings("unchecked")
+	protected D scalarProduct(Scale<D> pIn, CliffordProduct pProd, byte[] pSigns, boolean pConjugate) {
+		double tRe = 0.0d;
+		double tIm = 0.0d;
+		double tImg = pConjugate ? -1.0d : 1.0d;
+		int tMask = getGradeMask() & pIn.getGradeMask();
+		while (tMask != 0) {
+			byte tGrade = (byte) Integer.numberOfTrailingZeros(tMask);
+			tMask &= tMask - 1;
+			for (int k = gBasis.getGradeStart(tGrade); k < gBasis.getGradeEnd(tGrade); k++) {
+				int tSign = pProd.getSign(k, k);
+				if (tSign == 0)
+					continue; // Blade holds a degenerate generator
+				if (pSigns != null)
+					tSign *= pSigns[k];
+				switch (mode) {
+					case REALF -> tRe += tSign * (double) fWeights[k] * pIn.fWeights[k];
+					case REALD -> tRe += tSign * dWeights[k] * pIn.dWeights[k];
+					case COMPLEXF -> {
+						double tAR = fWeights[2 * k];
+						double tAI = tImg * fWeights[2 * k + 1];
+						tRe += tSign * (tAR * pIn.fWeights[2 * k] - tAI * pIn.fWeights[2 * k + 1]);
+						tIm += tSign * (tAR * pIn.fWeights[2 * k + 1] + tAI * pIn.fWeights[2 * k]);
+					}
+					case COMPLEXD -> {
+						double tAR = dWeights[2 * k];
+						double tAI = tImg * dWeights[2 * k + 1];
+						tRe += tSign * (tAR * pIn.dWeights[2 * k] - tAI * pIn.dWeights[2 * k + 1]);
+						tIm += tSign * (tAR * pIn.dWeights[2 * k + 1] + tAI * pIn.dWeights[2 * k]);
+					}
+				}
+			}
+		}
+		switch (mode) {
+			case REALF : return (D) RealF.create(card, (float) tRe);
+			case REALD : return (D) RealD.create(card, tRe);
+			case COMPLEXF : return (D) ComplexF.create(card, (float) tRe, (float) tIm);
+			case COMPLEXD : return (D) ComplexD.create(card, tRe, tIm);
+			default : return null;
+		}
 	}
 
 	/**
@@ -734,7 +1646,6 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 */
 	protected Scale<D> setCardinal(Cardinal pCard) {
 		if (card != pCard & pCard != null) {
-			map.clear();
 			card = pCard;
 			zeroAll();
 		}
@@ -751,7 +1662,7 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 */
 	protected <T extends UnitAbstract & Field & Normalizable> Scale<D> setPScalarWeight(D pIn) {
 		if (UnitAbstract.isTypeMatch(this.getPScalar(), pIn))
-			map.put(gBasis.getPScalarBlade(), pIn);
+			copyIn(gBasis.getBladeCount() - 1, pIn);
 		return this;
 	}
 
@@ -765,18 +1676,16 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 */
 	protected <T extends UnitAbstract & Field & Normalizable> Scale<D> setScalarWeight(D pIn) {
 		if (UnitAbstract.isTypeMatch(this.getScalar(), pIn))
-			map.put(gBasis.getScalarBlade(), pIn);
+			copyIn(0, pIn);
 		return this;
 	}
 
 	/**
 	 * This coefficient settor accepts an array of UnitAbstract numbers, assumes
-	 * they are in basis index order, and then inserts them into the internal map by
-	 * blade at that index.
+	 * they are in basis index order, and then copies their values into the
+	 * internal array at that index.
 	 * <p>
-	 * NOTE | Do NOT use this method if you intend the offered coefficient array to
-	 * be disconnected from this object. It won't be. If you really must use this
-	 * method that way, copy your coefficients first.
+	 * NOTE | The offered array is NOT connected to this object afterward.
 	 * <p>
 	 * @param pIn Array of UnitAbstract children
 	 * @return Scale object. Just this object after modification.
@@ -784,12 +1693,10 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 *                                  have the same size as the basis. Good enough
 	 *                                  to ensure all blades are covered.
 	 */
-	@SuppressWarnings("unchecked")
 	protected <T extends UnitAbstract & Field & Normalizable> Scale<D> setWeightsArray(T[] pIn) {
 		if (pIn.length == gBasis.getBladeCount())
-			gBasis.bladeStream().forEach(blade -> {
-				map.put(blade, (D) pIn[gBasis.find(blade) - 1]);
-				});
+			for (int k = 0; k < pIn.length; k++)
+				copyIn(k, pIn[k]);
 		else	throw new IllegalArgumentException("Offered array of coefficients MUST cover every blade in the basis.");
 		return this;
 	}
@@ -799,9 +1706,9 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * relating blades in the basis to CladosF.DivField children. It checks to see
 	 * if the map is of the wrong size and throws an IllegalArgumentException if so.
 	 * <p>
-	 * NOTE this method DEEP COPIES the inbound map to disconnect the map's source
-	 * DivFields from the ones added to this object. This is the safest settor
-	 * method to use when handing in information from other clados sources.
+	 * NOTE this method copies the values from the inbound map to disconnect the
+	 * map's source numbers from this object. This is the safest settor method to
+	 * use when handing in information from other clados sources.
 	 * <p>
 	 * @param pInMap Inbound Map relating blades to UnitAbstract child numbers.
 	 * @return Scale object. Just this object after modification.
@@ -814,21 +1721,17 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 		if (pInMap.size() != gBasis.getBladeCount())
 			throw new IllegalArgumentException("Offered map of coefficients MUST cover every blade in the basis.");
 
-		Map<Blade, D> mapCopy = pInMap.entrySet().parallelStream()
-				.collect(Collectors.toMap(e -> e.getKey(), e -> FBuilder.copyOf((D) e.getValue())));
-		map.putAll(mapCopy);
+		pInMap.forEach((blade, weight) -> put(blade, weight));
 		return this;
 	}
 
 	/**
 	 * This coefficient settor accepts an array of UnitAbstract children, assumes
-	 * they are in basis index order, and then inserts them into the internal map by
-	 * blade at that index offset in the amount necessary to cover ONLY the grade
-	 * suggested by the byte parameter.
+	 * they are in basis index order, and then copies their values into the
+	 * internal array at that index offset in the amount necessary to cover ONLY
+	 * the grade suggested by the byte parameter.
 	 * <p>
-	 * NOTE | Do NOT use this method if you intend the offered coefficient array to
-	 * be disconnected from this object. It won't be. If you really must use this
-	 * method that way, copy your coefficients first.
+	 * NOTE | The offered array is NOT connected to this object afterward.
 	 * <p>
 	 * @param pGrade byte integer naming the grade to be overwritten
 	 * @param pIn    Array of UnitAbstract Children
@@ -840,63 +1743,64 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 		if (pIn == null)
 			return this;	//Do absolutely nothing... silently... if no weights are offered.
 
-		long grdRnge = gBasis.bladeOfGradeStream(pGrade).count();
-		if (grdRnge != (long) pIn.length)
-			throw new IllegalArgumentException("Offered array must cover the blades in the suggested grade.");
-		
 		int init = gBasis.getGradeStart(pGrade);
-		gBasis.bladeOfGradeStream(pGrade).forEach(blade -> {
-			map.put(blade, (D) pIn[gBasis.find(blade) - init - 1]);
-		});
+		if (gBasis.getGradeEnd(pGrade) - init != pIn.length)
+			throw new IllegalArgumentException("Offered array must cover the blades in the suggested grade.");
+
+		for (int k = 0; k < pIn.length; k++)
+			copyIn(init + k, pIn[k]);
 		return this;
 	}
 
+	/**
+	 * This method subtracts the weights of another Scale from these weights one
+	 * basis index at a time. The other Scale must share this Scale's basis and
+	 * mode. No type match test is done here. Callers are expected to have done it
+	 * already.
+	 * <p>
+	 * @param pIn Scale whose weights are to be subtracted from these
+	 * @return Scale object. Just this object after modification.
+	 */
+	protected Scale<D> subtract(Scale<D> pIn) {
+		return addSigned(pIn, -1);
+	}
+
     /**
 	 * This is the compliment of a blade stream involving the scaling factors
 	 * 'multiplied' by blades in the sense of a division field over a vector space.
 	 * When forming a linear combination of blades to make a 'vector', these are the
 	 * 'numbers' that scale each direction.
 	 * <p>
-	 * Since the internal map can accept any of the CladosF numbers as values, there
-	 * is a cast to a 'generic' type within this method. This would normally cause
-	 * warnings by the compiler since the generic named in the internal map IS a
-	 * UnitAbstract child AND casting an unchecked type could fail at runtime.
-	 * <p>
-	 * That won't happen here when CladosF builders are used. They can't build
-	 * anything that is NOT a UnitAbstract child. They can't even build a
-	 * UnitAbstract instance directly. Therefore, only children can arrive as the
-	 * value parameter of the 'put' function. Thus, there is no danger of a failed
-	 * cast operation... until someone creates a new UnitAbstract child class and
-	 * fails to update all builders.
+	 * The stream delivers views of the internal array in basis order.
 	 * <p>
-	 * @return Stream of UnitAbstract children that are the coefficients represented
-	 *         as values in the internal map.
+	 * @return Stream of UnitAbstract children that are the coefficients.
 	 */
 	protected Stream<D> weightsStream() {
-		return map.values().stream();
+		return IntStream.range(0, gBasis.getBladeCount()).mapToObj(k -> viewAt(k));
 	}
 
 	/**
-	 * This method returns a parallelizable stream of the weights in this scale. 
+	 * This method returns a parallelizable stream of the weights in this scale.
 	 * It is intended for wholesale operations on the weights that may be done
 	 * in any order. It is mostly for use by the owning object of this Scale.
 	 * <p>
 	 * @return A stream of weights as children of UnitAbstract.
 	 */
 	protected Stream<D> weightsParallelStream() {
-		return map.values().parallelStream();
+		return weightsStream().parallel();
 	}
 
 	/**
-	 * This method causes all coefficients to be set to zero using the offered
-	 * cardinal.
+	 * This method causes all coefficients to be set to zero.
 	 * <p>
 	 * @return This Scale instance after coefficients are zero'd out.
 	 */
 	protected Scale<D> zeroAll() {
-		gBasis.bladeStream().forEach(b -> {
-			map.put(b, FBuilder.createZERO(mode, card));
-		});
+		zeroRange(0, gBasis.getBladeCount());
+		Arrays.fill(gradeCounts, 0);
+		gradeMask = 0;
+		finite = true;
+		stale = false;
 		return this;
 	}
 
@@ -908,25 +1812,33 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * @return This Scale instance after coefficients are zero'd out.
 	 */
 	protected Scale<D> zeroAllButGrade(byte pGrade) {
-		if (gBasis.validateGradeIndex(pGrade))
-			gBasis.bladeStream().filter(blade -> blade.rank() != pGrade).forEach(blade -> {
-				map.put(blade, FBuilder.createZERO(mode, card));
-		});
+		if (gBasis.validateGradeIndex(pGrade)) {
+			zeroRange(0, gBasis.getGradeStart(pGrade));
+			zeroRange(gBasis.getGradeEnd(pGrade), gBasis.getBladeCount());
+			for (byte grade = 0; grade < gradeCounts.length; grade++)
+				if (grade != pGrade)
+					gradeCounts[grade] = 0;
+			gradeMask &= 1 << pGrade;
+		}
 		return this;
 	}
 
 	/**
 	 * Zero the value at the offered blade.
 	 * <p>
-	 * NOTE this doesn't remove the blade from the map because the basis should
-	 * never change. The mapped value at that blade is zero'd.
+	 * NOTE this doesn't remove the blade from the scale because the basis should
+	 * never change. The weight at that blade is zero'd.
 	 * <p>
 	 * @param pB Blade key to zero out the related coefficient
 	 * @return Scale object. Just this object after modification.
 	 */
 	public Scale<D> zeroAt(Blade pB) {
-		if (pB != null & map.containsKey(pB))
-			map.put(pB, FBuilder.createZERO(mode, map.get(pB).getCardinal()));
+		int tIndex = indexOf(pB);
+		if (tIndex >= 0) {
+			boolean tWasZero = isZeroAt(tIndex);
+			zeroRange(tIndex, tIndex + 1);
+			countAt(tIndex, tWasZero);
+		}
 		return this;
 	}
 
@@ -938,10 +1850,10 @@ public final class Scale<D extends UnitAbstract & Field & Normalizable> implemen
 	 * @return This Scale instance after coefficients are zero'd out.
 	 */
 	protected Scale<D> zeroAtGrade(byte pGrade) {
-		if (gBasis.validateGradeIndex(pGrade))
-			gBasis.bladeStream().filter(blade -> blade.rank() == pGrade).forEach(blade -> {
-				map.put(blade, FBuilder.createZERO(mode, card));
-		});
+		if (gBasis.validateGradeIndex(pGrade)) {
+			zeroRange(gBasis.getGradeStart(pGrade), gBasis.getGradeEnd(pGrade));
+			setCount(pGrade, 0);
+		}
 		return this;
 	}
 }
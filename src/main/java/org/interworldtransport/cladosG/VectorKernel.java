@@ -0,0 +1,110 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.VectorKernel<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.VectorKernel<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+/**
+ * This class is the switch for the SIMD loops Scale may use in place of its
+ * scalar ones. Only element-wise work uses them: sums, differences, scaling
+ * and conjugation run over whole lanes of weights at once. The loops
+ * themselves live in VectorLanes.
+ * <p>
+ * Products don't use lanes. The pairs of a ProductKernel name their left and
+ * right weights through index arrays, so each lane would need a gather from
+ * scattered positions, and the groups for the small algebras used most are
+ * only a few pairs long. Pattern, kernel, table and matrix products all run
+ * their scalar loops whether the switch is on or not.
+ * <p>
+ * The lanes come from the incubating jdk.incubator.vector module. The library
+ * only requires it statically, so a program that does not add the module at
+ * runtime still works. The first look at the switch finds the module missing
+ * and every Scale falls back to its scalar loops. This class names nothing from
+ * the module, so it always loads.
+ * <p>
+ * The switch is on by default when the module is present. Turning it off sends
+ * everything through the scalar loops, which helps when comparing results or
+ * timing the two. Complex scaling on lanes fuses its multiply and add, so those
+ * results may differ from the scalar loops by rounding.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+public final class VectorKernel {
+	/**
+	 * This is true when the vector module was found on first use.
+	 */
+	private final static boolean AVAILABLE = probe();
+
+	/**
+	 * SIMD loops are used when this is set.
+	 */
+	private static volatile boolean enabled = AVAILABLE;
+
+	/**
+	 * Report whether the vector module can be used at all.
+	 * <p>
+	 * @return boolean TRUE if the module was found and has more than one lane
+	 */
+	public final static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/**
+	 * Report whether Scales should use the SIMD loops right now.
+	 * <p>
+	 * @return boolean TRUE if the module is present and the switch is on
+	 */
+	public final static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Turn the SIMD loops on or off. Asking for them when the module is missing
+	 * leaves them off.
+	 * <p>
+	 * @param pOn boolean TRUE to use SIMD loops when the module is present
+	 * @return boolean TRUE if the SIMD loops are on after the call
+	 */
+	public final static boolean setEnabled(boolean pOn) {
+		enabled = pOn && AVAILABLE;
+		return enabled;
+	}
+
+	/*
+	 * Touch the lanes once. A missing module shows up here as a linkage error.
+	 */
+	private final static boolean probe() {
+		try {
+			return VectorLanes.doubleLanes() > 1 && VectorLanes.floatLanes() > 1;
+		} catch (NoClassDefFoundError | ExceptionInInitializerError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Nothing to build. Everything here is static.
+	 */
+	private VectorKernel() {
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * <h2>Copyright</h2> © 2024 Alfred Differ<br>
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.VectorLanes<br>
+ * -------------------------------------------------------------------- <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.<p>
+ *
+ * Use of this code or executable objects derived from it by the Licensee
+ * states their willingness to accept the terms of the license. <p>
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.<p>
+ *
+ * ------------------------------------------------------------------------ <br>
+ * ---org.interworldtransport.cladosG.VectorLanes<br>
+ * ------------------------------------------------------------------------ <br>
+ */
+package org.interworldtransport.cladosG;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class holds the SIMD loops behind VectorKernel. It is the only class in
+ * the library that names the vector module, so it is the only one that fails
+ * to link when the module is missing. Nothing should call it without asking
+ * VectorKernel.isEnabled() first.
+ * <p>
+ * Complex weights are interleaved, so a lane holds a real or an imaginary part.
+ * Complex scaling swaps neighbouring lanes to cross the two parts.
+ * <p>
+ * @version 2.0
+ * @author Dr Alfred W Differ
+ */
+final class VectorLanes {
+	/**
+	 * Preferred species for this platform. Weights of both widths go through the
+	 * widest lanes the hardware offers.
+	 */
+	private final static VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+	private final static VectorSpecies<Float> F = FloatVector.SPECIES_PREFERRED;
+
+	/**
+	 * Shuffles that swap each real lane with its imaginary neighbour.
+	 */
+	private final static VectorShuffle<Double> DSWAP = VectorShuffle.fromOp(D, k -> k ^ 1);
+	private final static VectorShuffle<Float> FSWAP = VectorShuffle.fromOp(F, k -> k ^ 1);
+
+	/**
+	 * Lanes of +1 and -1 that negate imaginary parts.
+	 */
+	private final static DoubleVector DCONJ = DoubleVector.fromArray(D, alternating(D.length()), 0);
+	private final static FloatVector FCONJ = FloatVector.fromArray(F, toFloats(alternating(F.length())), 0);
+
+	/*
+	 * Build +1 -1 +1 -1 ... so imaginary lanes can be negated.
+	 */
+	private final static double[] alternating(int pLength) {
+		double[] tSigns = new double[pLength];
+		for (int k = 0; k < pLength; k++)
+			tSigns[k] = (k % 2 == 0) ? 1.0d : -1.0d;
+		return tSigns;
+	}
+
+	/*
+	 * Narrow an array of doubles.
+	 */
+	private final static float[] toFloats(double[] pIn) {
+		float[] tOut = new float[pIn.length];
+		for (int k = 0; k < pIn.length; k++)
+			tOut[k] = (float) pIn[k];
+		return tOut;
+	}
+
+	/**
+	 * Add a multiple of one array to another over a range of positions.
+	 * <p>
+	 * @param pTo    double[] weights to be added to
+	 * @param pFrom  double[] weights to be added
+	 * @param pScale double multiplier of pFrom
+	 * @param pStart int first position
+	 * @param pEnd   int position just past the last
+	 */
+	protected final static void axpy(double[] pTo, double[] pFrom, double pScale, int pStart, int pEnd) {
+		int k = pStart;
+		for (int tBound = pStart + D.loopBound(pEnd - pStart); k < tBound; k += D.length())
+			DoubleVector.fromArray(D, pFrom, k).mul(pScale).add(DoubleVector.fromArray(D, pTo, k))
+					.intoArray(pTo, k);
+		for (; k < pEnd; k++)
+			pTo[k] += pScale * pFrom[k];
+	}
+
+	/**
+	 * Add a multiple of one array to another over a range of positions.
+	 * <p>
+	 * @param pTo    float[] weights to be added to
+	 * @param pFrom  float[] weights to be added
+	 * @param pScale float multiplier of pFrom
+	 * @param pStart int first position
+	 * @param pEnd   int position just past the last
+	 */
+	protected final static void axpy(float[] pTo, float[] pFrom, float pScale, int pStart, int pEnd) {
+		int k = pStart;
+		for (int tBound = pStart + F.loopBound(pEnd - pStart); k < tBound; k += F.length())
+			FloatVector.fromArray(F, pFrom, k).mul(pScale).add(FloatVector.fromArray(F, pTo, k))
+					.intoArray(pTo, k);
+		for (; k < pEnd; k++)
+			pTo[k] += pScale * pFrom[k];
+	}
+
+	/**
+	 * Multiply interleaved complex weights by a complex number.
+	 * <p>
+	 * @param pW  double[] interleaved weights to be scaled
+	 * @param pRe double real part of the multiplier
+	 * @param pIm double imaginary part of the multiplier
+	 */
+	protected final static void scaleComplex(double[] pW, double pRe, double pIm) {
+		DoubleVector tCross = DCONJ.mul(-pIm); // -im on real lanes and +im on imaginary lanes
+		int k = 0;
+		for (int tBound = D.loopBound(pW.length); k < tBound; k += D.length()) {
+			DoubleVector tW = DoubleVector.fromArray(D, pW, k);
+			tW.rearrange(DSWAP).fma(tCross, tW.mul(pRe)).intoArray(pW, k);
+		}
+		for (; k < pW.length; k += 2) {
+			double tWR = pW[k];
+			pW[k] = tWR * pRe - pW[k + 1] * pIm;
+			pW[k + 1] = tWR * pIm + pW[k + 1] * pRe;
+		}
+	}
+
+	/**
+	 * Multiply interleaved complex weights by a complex number.
+	 * <p>
+	 * @param pW  float[] interleaved weights to be scaled
+	 * @param pRe float real part of the multiplier
+	 * @param pIm float imaginary part of the multiplier
+	 */
+	protected final static void scaleComplex(float[] pW, float pRe, float pIm) {
+		FloatVector tCross = FCONJ.mul(-pIm);
+		int k = 0;
+		for (int tBound = F.loopBound(pW.length); k < tBound; k += F.length()) {
+			FloatVector tW = FloatVector.fromArray(F, pW, k);
+			tW.rearrange(FSWAP).fma(tCross, tW.mul(pRe)).intoArray(pW, k);
+		}
+		for (; k < pW.length; k += 2) {
+			float tWR = pW[k];
+			pW[k] = tWR * pRe - pW[k + 1] * pIm;
+			pW[k + 1] = tWR * pIm + pW[k + 1] * pRe;
+		}
+	}
+
+	/**
+	 * Multiply real weights by a real number.
+	 * <p>
+	 * @param pW     double[] weights to be scaled
+	 * @param pScale double multiplier
+	 */
+	protected final static void scaleReal(double[] pW, double pScale) {
+		int k = 0;
+		for (int tBound = D.loopBound(pW.length); k < tBound; k += D.length())
+			DoubleVector.fromArray(D, pW, k).mul(pScale).intoArray(pW, k);
+		for (; k < pW.length; k++)
+			pW[k] *= pScale;
+	}
+
+	/**
+	 * Multiply real weights by a real number.
+	 * <p>
+	 * @param pW     float[] weights to be scaled
+	 * @param pScale float multiplier
+	 */
+	protected final static void scaleReal(float[] pW, float pScale) {
+		int k = 0;
+		for (int tBound = F.loopBound(pW.length); k < tBound; k += F.length())
+			FloatVector.fromArray(F, pW, k).mul(pScale).intoArray(pW, k);
+		for (; k < pW.length; k++)
+			pW[k] *= pScale;
+	}
+
+	/**
+	 * Negate the imaginary parts of interleaved complex weights.
+	 * <p>
+	 * @param pW double[] interleaved weights to be conjugated
+	 */
+	protected final static void conjugate(double[] pW) {
+		int k = 0;
+		for (int tBound = D.loopBound(pW.length); k < tBound; k += D.length())
+			DoubleVector.fromArray(D, pW, k).mul(DCONJ).intoArray(pW, k);
+		for (k++; k < pW.length; k += 2)
+			pW[k] = -pW[k];
+	}
+
+	/**
+	 * Negate the imaginary parts of interleaved complex weights.
+	 * <p>
+	 * @param pW float[] interleaved weights to be conjugated
+	 */
+	protected final static void conjugate(float[] pW) {
+		int k = 0;
+		for (int tBound = F.loopBound(pW.length); k < tBound; k += F.length())
+			FloatVector.fromArray(F, pW, k).mul(FCONJ).intoArray(pW, k);
+		for (k++; k < pW.length; k += 2)
+			pW[k] = -pW[k];
+	}
+
+	/**
+	 * Report the number of double lanes.
+	 * <p>
+	 * @return int lanes in a preferred DoubleVector
+	 */
+	protected final static int doubleLanes() {
+		return D.length();
+	}
+
+	/**
+	 * Report the number of float lanes.
+	 * <p>
+	 * @return int lanes in a preferred FloatVector
+	 */
+	protected final static int floatLanes() {
+		return F.length();
+	}
+
+	/**
+	 * Nothing to build. Everything here is static.
+	 */
+	private VectorLanes() {
+	}
+}
@@ -12,4 +12,5 @@ module org.interworldtransport.clados {
 	exports org.interworldtransport.cladosGExceptions;
 
 	requires java.base;
+	requires static jdk.incubator.vector;
 }
\ No newline at end of file
@@ -274,6 +274,62 @@ class CoreBasisTest {
 	}
 
 
+	@Test
+	void testBitKeyIndex() {
+		for (int k = 0; k < tBasis8.getBladeCount(); k++) {
+			Blade tB = tBasis8.getSingleBlade(k);
+			assertTrue(tBasis8.getBitKey(k) == tB.bitKey());
+			assertTrue(tBasis8.findBitKey(tB.bitKey()) == k + 1); // 1-based like find()
+			assertTrue(tBasis8.find(tB) == k + 1);
+		}
+		assertTrue(tBasis0.findBitKey(0) == 1);
+		assertTrue(tBasis4.findBitKey(1 << 4) == -1);
+		assertTrue(tBasis4.findBitKey(-1) == -1);
+		assertTrue(tBasis4.getBitKey(16) == -1);
+		assertTrue(tBasis4.find(null) == -1);
+	}
+
+	@Test
+	void testCanonicalOrder() throws GeneratorRangeException {
+		for (byte n = 0; n <= 11; n++) {
+			CanonicalBasis tB = new Basis(n);
+			assertTrue(tB.getBladeCount() == 1 << n);
+			for (int k = 1; k < tB.getBladeCount(); k++) { // Keys strictly ascend
+				assertTrue(tB.getSingleBlade(k - 1).compareTo(tB.getSingleBlade(k)) < 0);
+				byte tRank = tB.getSingleBlade(k).rank();
+				if (tRank != tB.getSingleBlade(k - 1).rank())
+					assertTrue(tB.getGradeStart(tRank) == k);
+			}
+			if (n > 0) { // The 'from point' constructor lists the same blades
+				CanonicalBasis tG = new Basis(Generator.get(n));
+				for (int k = 0; k < tB.getBladeCount(); k++)
+					assertTrue(tG.getKey(k) == tB.getKey(k));
+			}
+		}
+	}
+
+	@Test
+	void testGradeRanges() {
+		int tNext = 0;
+		for (byte g = 0; g < tBasis8.getGradeCount(); g++) {
+			assertTrue(tBasis8.getGradeStart(g) == tNext);
+			int[] tIndices = tBasis8.indexOfGradeStream(g).toArray();
+			Blade[] tBlades = tBasis8.bladeOfGradeStream(g).toArray(Blade[]::new);
+			assertTrue(tIndices.length == tBlades.length);
+			for (int k = 0; k < tIndices.length; k++) {
+				assertTrue(tBasis8.getSingleBlade(tIndices[k]) == tBlades[k]);
+				assertTrue(tBlades[k].rank() == g);
+				assertTrue(tBasis8.getGradeOf(tIndices[k]) == g);
+			}
+			tNext = tBasis8.getGradeEnd(g);
+		}
+		assertTrue(tNext == tBasis8.getBladeCount());
+		assertTrue(tBasis8.getGradeEnd((byte) 9) == -1);
+		assertTrue(tBasis8.getGradeOf(256) == -1);
+		assertTrue(tBasis8.indexOfGradeStream((byte) 9).count() == 0);
+		assertTrue(tBasis0.getGradeEnd((byte) 0) == 1);
+	}
+
 	@Test
 	void testXMLOutput() {
 		String xml = tBasis4.toXMLString("");
@@ -54,6 +54,40 @@ class CoreBladeDuetTest {
 		assertTrue(together.key() == singlet.key());
 	}
 
+	@Test
+	public void testSignRule() throws GeneratorRangeException {
+		byte[] tSig = { -1, 1, 0, 1, -1 };
+		assertTrue(BladeDuet.negativeMask(tSig) == 0b10001);
+		assertTrue(BladeDuet.zeroMask(tSig) == 0b00100);
+		assertTrue(BladeDuet.reorderCount(0b010, 0b001) == 1); // e2 e1 = -e1 e2
+		assertTrue(BladeDuet.sign(0b010, 0b001, 0, 0) == -1);
+		assertTrue(BladeDuet.sign(0b001, 0b001, 0b001, 0) == -1); // e1 e1 = -1
+		assertTrue(BladeDuet.sign(0b100, 0b110, 0, 0b100) == 0); // e3 squares to zero
+		Blade[] tBlades = Blade.interned((byte) 5);
+		for (Blade tL : tBlades)
+			for (Blade tR : tBlades) {
+				Blade tOut = BladeDuet.simplify(tL, tR, tSig);
+				int tSign = BladeDuet.sign(tL.bitKey(), tR.bitKey(), 0b10001, 0b00100);
+				assertTrue(tOut.sign() == tSign);
+				if (tSign != 0)
+					assertTrue(tOut.bitKey() == (tL.bitKey() ^ tR.bitKey()));
+			}
+	}
+
+	@Test
+	public void testCommutes() {
+		assertTrue(BladeDuet.commutes(0b0, 0b1011));		// Scalars commute with everything
+		assertFalse(BladeDuet.commutes(0b01, 0b10));		// Distinct vectors anticommute
+		assertTrue(BladeDuet.commutes(0b11, 0b11));		// Every blade commutes with itself
+		assertFalse(BladeDuet.commutes(0b011, 0b110));		// e12 e23 = -e23 e12
+		assertTrue(BladeDuet.commutes(0b0011, 0b1100));	// Disjoint bivectors commute
+		for (int j = 0; j < 32; j++)
+			for (int k = 0; k < 32; k++) {
+				int tParity = BladeDuet.reorderCount(j, k) + BladeDuet.reorderCount(k, j);
+				assertTrue(BladeDuet.commutes(j, k) == ((tParity & 1) == 0));
+			}
+	}
+
 	@Test
 	public void testXMLOutput() {
 		Blade maxSize1 = Blade.createPScalarBlade(CladosConstant.GENERATOR_MAX);
@@ -182,6 +182,29 @@ class CoreBladeTest {
 		assertFalse(tB4N.hashCode() == tB5.hashCode());
 	}
 
+	@Test
+	public void testInterned() throws GeneratorRangeException {
+		Blade[] tShared = Blade.interned((byte) 6);
+		assertTrue(Blade.interned((byte) 6) == tShared);
+		for (int k = 0; k < tShared.length; k++) {
+			Blade tB = new Blade((byte) 6, tShared[k].getGenerators()); // Built the long way
+			assertTrue(tShared[k].bitKey() == k);
+			assertTrue(tShared[k].equals(tB));
+			assertTrue(tShared[k].key() == tB.key());
+			assertTrue(tShared[k].rank() == Integer.bitCount(k));
+		}
+		Blade tE2 = tShared[0b10];
+		Blade tE12 = tE2.add(Generator.E1); // Shared blades hand back changed copies
+		assertFalse(tE12 == tE2);
+		assertTrue(tE2.bitKey() == 0b10);
+		assertTrue(tE12.bitKey() == 0b11);
+		assertTrue(tE12.key() == 1 * 7 + 2);
+		assertTrue(tShared[0b11].reverse().sign() == -1);
+		assertTrue(tShared[0b11].sign() == 1);
+		assertTrue(new Basis((byte) 6).getSingleBlade(9) == new Basis(Generator.E6).getSingleBlade(9));
+		assertThrows(GeneratorRangeException.class, () -> Blade.interned((byte) 16));
+	}
+
 	@Test
 	public void testLimitsIgnored() throws GeneratorRangeException {
 		Blade newtB0 = new Blade(tB0);
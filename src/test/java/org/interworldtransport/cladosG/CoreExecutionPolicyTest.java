@@ -0,0 +1,64 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.interworldtransport.cladosG.ExecutionPolicy.Work;
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoreExecutionPolicyTest {
+	ExecutionPolicy tPolicy = ExecutionPolicy.INSTANCE;
+
+	@AfterEach
+	public void restore() {
+		tPolicy.resetThresholds();
+		tPolicy.setPool(null);
+	}
+
+	@Test
+	public void testThresholds() {
+		assertTrue(tPolicy.getThreshold(Work.PRODUCT) == CladosConstant.PRODUCT_PARALLEL_MIN);
+		assertTrue(tPolicy.getThreshold(Work.BASIS) == CladosConstant.BASIS_PARALLEL_MIN);
+		assertFalse(tPolicy.isParallel(Work.TABLE, 16)); // Four generators never leave the calling thread
+		tPolicy.setThreshold(Work.TABLE, 0);
+		assertTrue(tPolicy.isParallel(Work.TABLE, 16));
+		tPolicy.resetThresholds();
+		assertTrue(tPolicy.getThreshold(Work.TABLE) == CladosConstant.TABLE_PARALLEL_MIN);
+		assertThrows(IllegalArgumentException.class, () -> tPolicy.setThreshold(Work.BATCH, -1));
+	}
+
+	@Test
+	public void testOwnPool() {
+		ForkJoinPool tPool = new ForkJoinPool(2);
+		try {
+			tPolicy.setPool(tPool);
+			assertTrue(tPolicy.getPool() == tPool);
+			tPolicy.setThreshold(Work.BATCH, 0);
+			List<Integer> tOut = tPolicy.map(Work.BATCH, 100, 100, k -> (ForkJoinTask.getPool() == tPool) ? k : -1);
+			for (int k = 0; k < 100; k++)
+				assertTrue(tOut.get(k) == k); // In task order and all on the offered pool
+
+			tPolicy.setThreshold(Work.BATCH, 1000);
+			tOut = tPolicy.map(Work.BATCH, 100, 4, k -> (ForkJoinTask.getPool() == null) ? k : -1);
+			assertTrue(tOut.equals(List.of(0, 1, 2, 3))); // Small work stays on the calling thread
+		} finally {
+			tPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testSameTable() throws BadSignatureException, GeneratorRangeException {
+		GProduct tSerial = new GProduct("-+++");
+		tPolicy.setThreshold(Work.TABLE, 0);
+		GProduct tParallel = new GProduct("-+++");
+		for (int j = 0; j < 16; j++)
+			for (int k = 0; k < 16; k++)
+				assertTrue(tSerial.getResult(j, k) == tParallel.getResult(j, k));
+	}
+}
@@ -0,0 +1,69 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.Test;
+
+class CoreGBitProductTest {
+	String pSig0 = "";
+	String pSig4 = "-+++";
+	String pSig8 = "-+++-+++";
+	String pSig13 = "-+++-+++-+++-";
+	String pSig30 = "+++0";
+	String pSig50 = "0-+0-";
+	String pSigERR = "+++O";
+
+	@Test
+	public void testMatchesTable() throws BadSignatureException, GeneratorRangeException {
+		for (String tSig : new String[] { pSig0, pSig4, pSig8, pSig30, pSig50 }) {
+			GProduct tGP = new GProduct(tSig);
+			GBitProduct tBP = new GBitProduct(tGP.getBasis(), tSig);
+			for (int j = 0; j < tGP.getBladeCount(); j++)
+				for (int k = 0; k < tGP.getBladeCount(); k++)
+					assertTrue(tGP.getResult(j, k) == tBP.getResult(j, k)); // Same cell in both
+		}
+	}
+
+	@Test
+	public void testSigns() throws BadSignatureException, GeneratorRangeException {
+		GBitProduct tBP = new GBitProduct(pSig4);
+		assertTrue(tBP.getACommuteSign(1, 2) == 1); //They anticommute
+		assertFalse(tBP.getACommuteSign(1, 12) == 1); //They commute
+		assertTrue(tBP.getCommuteSign(1, 11) == 1); //They commute
+		assertTrue(tBP.getSign(1, 2) == 1); //Should be positive on row 1
+		assertTrue(tBP.getSign(2, 1) == -1); //Should be neg to get anticommute
+		assertTrue(tBP.getResult(15, 15) == -1); //PScalar squares to -1.
+		assertTrue(tBP.getResult(1, 1) == -1); //e1 squares to -1.
+
+		GBitProduct tDP = new GBitProduct(pSig30);
+		assertTrue(tDP.getResult(4, 4) == 0); //e4 is degenerate
+		assertTrue(tDP.getSign(15, 15) == 0); //So is the pscalar
+	}
+
+	@Test
+	public void testRanges() throws BadSignatureException, GeneratorRangeException {
+		GBitProduct tBP = new GBitProduct(pSig8);
+		int[] pRange = tBP.getPScalarRange();
+		assertTrue(pRange[0] == 255);
+		pRange = tBP.getGradeRange((byte) 2);
+		assertTrue(pRange[0] == 9);
+		assertTrue(pRange[1] == 36);
+	}
+
+	@Test
+	public void testBuilderChoice() throws BadSignatureException, GeneratorRangeException {
+		assertTrue(GBuilder.createGProduct(pSig8) instanceof GProduct);
+		CliffordProduct tBig = GBuilder.createGProduct(pSig13);
+		assertTrue(tBig instanceof GBitProduct); //Big enough to skip the table
+		assertTrue(tBig.getResult(8191, 8191) == 1); //PScalar squares to +1 here.
+		assertTrue(GCache.INSTANCE.findGProductMap(pSig13).isPresent());
+		GCache.INSTANCE.removeGProduct(pSig13);
+	}
+
+	@Test
+	public void testValidations() {
+		assertThrows(BadSignatureException.class, () -> new GBitProduct(pSigERR));
+	}
+}
@@ -0,0 +1,87 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.Test;
+
+class CoreGCacheTest {
+	String pSig5 = "+-+-0";
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		GCache.INSTANCE.removeGProduct(pSig5);
+		AtomicInteger tBuilds = new AtomicInteger();
+		Callable<CliffordProduct> tBuilder = () -> {
+			tBuilds.incrementAndGet();
+			Thread.sleep(50); // Long enough for everyone to pile up
+			return new GProduct(pSig5);
+		};
+		ExecutorService tPool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<CliffordProduct>> tAsks = tPool.invokeAll(IntStream.range(0, 8)
+					.mapToObj(k -> (Callable<CliffordProduct>) () -> GCache.INSTANCE.findOrBuildGProduct(pSig5, tBuilder))
+					.toList());
+			for (Future<CliffordProduct> tAsk : tAsks)
+				assertTrue(tAsk.get() == tAsks.get(0).get()); // Everyone got the same one
+		} finally {
+			tPool.shutdown();
+		}
+		assertTrue(tBuilds.get() == 1);
+		assertTrue(GCache.INSTANCE.findOrBuildGProduct(pSig5, tBuilder) == GCache.INSTANCE.findGProductMap(pSig5).get());
+		assertTrue(tBuilds.get() == 1);
+		GCache.INSTANCE.removeGProduct(pSig5);
+	}
+
+	@Test
+	public void testFailuresNotCached() throws BadSignatureException, GeneratorRangeException {
+		assertThrows(BadSignatureException.class, () -> GBuilder.createGProduct("+++O"));
+		assertFalse(GCache.INSTANCE.findGProductMap("+++O").isPresent());
+		assertThrows(BadSignatureException.class, () -> GBuilder.createGProduct("+++O")); // Tried again
+	}
+
+	@Test
+	public void testClear() throws BadSignatureException, GeneratorRangeException {
+		GBuilder.createGProduct(pSig5);
+		assertTrue(GCache.INSTANCE.findGProductMap(pSig5).isPresent());
+		GCache.INSTANCE.clearGProducts();
+		assertTrue(GCache.INSTANCE.getGProductListSize() == 0);
+		assertTrue(GCache.INSTANCE.getProductPatternListSize() == 0);
+		assertTrue(GBuilder.createBasis((byte) 5) == GCache.INSTANCE.findBasisList((byte) 5).get());
+	}
+
+	@Test
+	public void testMemoryBudget() throws BadSignatureException, GeneratorRangeException {
+		String tSigA = "++0-";
+		String tSigB = "+0+-";
+		long tBudget = GCache.INSTANCE.getMemoryBudget();
+		GCache.INSTANCE.removeGProduct(tSigA);
+		GCache.INSTANCE.removeGProduct(tSigB);
+		CliffordProduct tA = GBuilder.createGProduct(tSigA);
+		long tEvictions = GCache.INSTANCE.getGProductEvictions();
+		try {
+			GCache.INSTANCE.setMemoryBudget(GCache.INSTANCE.getCachedBytes()); // Room for nothing more
+			CliffordProduct tB = GBuilder.createGProduct(tSigB);
+			assertTrue(GCache.INSTANCE.getGProductEvictions() > tEvictions);
+			assertTrue(GCache.INSTANCE.findGProductMap(tSigB).get() == tB);
+
+			CliffordProduct tAgain = GBuilder.createGProduct(tSigA); // Still held here, so not rebuilt
+			assertTrue(tAgain == tA);
+			assertTrue(GCache.INSTANCE.getCachedBytes() >= GCache.estimateBytes(tA));
+			GCache.INSTANCE.removeGProduct(tSigB);
+			GCache.INSTANCE.removeGProduct(tSigA);
+			assertThrows(IllegalArgumentException.class, () -> GCache.INSTANCE.setMemoryBudget(-1L));
+		} finally {
+			GCache.INSTANCE.setMemoryBudget(tBudget);
+		}
+	}
+}
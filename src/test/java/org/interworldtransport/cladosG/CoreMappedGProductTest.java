@@ -0,0 +1,74 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.Test;
+
+class CoreMappedGProductTest {
+	String pSig5 = "-+++0";
+	String pSig6 = "-+-+-+";
+
+	@Test
+	public void testMatchesTable() throws BadSignatureException, GeneratorRangeException, IOException {
+		Path tDir = Files.createTempDirectory("clados");
+		GProduct tGP = new GProduct(pSig5);
+		Path tFile = tDir.resolve(MappedGProduct.fileName(pSig5));
+		MappedGProduct.save(tGP, tFile);
+		MappedGProduct.verify(tFile);
+		MappedGProduct tMP = MappedGProduct.open(tGP.getBasis(), pSig5, tFile);
+		assertTrue(tMP.signature().equals(pSig5));
+		for (int j = 0; j < tGP.getBladeCount(); j++)
+			for (int k = 0; k < tGP.getBladeCount(); k++)
+				assertTrue(tGP.getResult(j, k) == tMP.getResult(j, k)); // Same cell in both
+		assertTrue(tMP.getSign(5, 5) == 0); // e5 is degenerate
+		tDir.toFile().deleteOnExit(); // Mapped files can't be deleted everywhere
+		tFile.toFile().deleteOnExit();
+	}
+
+	@Test
+	public void testRefusals() throws BadSignatureException, GeneratorRangeException, IOException {
+		Path tDir = Files.createTempDirectory("clados");
+		GProduct tGP = new GProduct(pSig5);
+		Path tFile = tDir.resolve(MappedGProduct.fileName(pSig5));
+		MappedGProduct.save(tGP, tFile);
+		assertThrows(IOException.class, () -> MappedGProduct.open(tGP.getBasis(), "-+++-", tFile)); // Other signature
+		try (RandomAccessFile tRAF = new RandomAccessFile(tFile.toFile(), "rw")) {
+			tRAF.seek(tRAF.length() - 1);
+			tRAF.write(7); // Damage the last cell
+		}
+		assertThrows(IOException.class, () -> MappedGProduct.verify(tFile));
+		assertTrue(MappedGProduct.open(tGP.getBasis(), pSig5, tFile) != null); // Opening doesn't read the table
+		assertThrows(IOException.class, () -> MappedGProduct.open(tGP.getBasis(), pSig5, tDir.resolve("none.cpt")));
+		tDir.toFile().deleteOnExit(); // Mapped files can't be deleted everywhere
+		tFile.toFile().deleteOnExit();
+	}
+
+	@Test
+	public void testBuilderStore() throws BadSignatureException, GeneratorRangeException, IOException {
+		Path tDir = Files.createTempDirectory("clados");
+		GCache.INSTANCE.setProductStore(tDir);
+		GCache.INSTANCE.removeGProduct(pSig6);
+		CliffordProduct tBuilt = GBuilder.createGProduct(pSig6);
+		assertTrue(tBuilt instanceof GProduct); // Nothing saved yet
+		Path tFile = tDir.resolve(MappedGProduct.fileName(pSig6));
+		assertTrue(Files.exists(tFile));
+
+		GCache.INSTANCE.removeGProduct(pSig6);
+		CliffordProduct tMapped = GBuilder.createGProduct(pSig6);
+		assertTrue(tMapped instanceof MappedGProduct); // Found on disk this time
+		assertTrue(tMapped.getResult(63, 63) == tBuilt.getResult(63, 63));
+
+		GCache.INSTANCE.setProductStore(null);
+		GCache.INSTANCE.removeGProduct(pSig6);
+		assertTrue(GCache.INSTANCE.getProductStore().isEmpty());
+		tDir.toFile().deleteOnExit(); // Mapped files can't be deleted everywhere
+		tFile.toFile().deleteOnExit();
+	}
+}
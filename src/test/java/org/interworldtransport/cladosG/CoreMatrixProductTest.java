@@ -0,0 +1,123 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.interworldtransport.cladosF.Cardinal;
+import org.interworldtransport.cladosF.ComplexD;
+import org.interworldtransport.cladosF.FBuilder;
+import org.interworldtransport.cladosF.RealD;
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.CladosMonadException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.Test;
+
+class CoreMatrixProductTest {
+	Cardinal tCard = Cardinal.generate("TestMatrices");
+
+	@Test
+	public void testBladesMatchTable() throws BadSignatureException, GeneratorRangeException {
+		for (String tSig : new String[] { "+", "-+", "-+++", "+--+-" }) {
+			GProduct tGP = new GProduct(tSig);
+			MatrixProduct tRep = new MatrixProduct(tGP);
+			assertTrue(tRep.getSize() == 1 << ((tSig.length() + 1) / 2));
+			int tCount = tGP.getBladeCount();
+			double[] tZero = new double[tCount];
+			for (int j = 0; j < tCount; j++)
+				for (int k = 0; k < tCount; k++) {
+					double[] tA = new double[tCount];
+					double[] tB = new double[tCount];
+					double[] tRe = new double[tCount];
+					double[] tIm = new double[tCount];
+					tA[j] = 1.0d;
+					tB[k] = 1.0d;
+					tRep.multiply(tA, tZero, tB, tZero, tRe, tIm);
+					int tRes = tGP.getResult(j, k);
+					for (int m = 0; m < tCount; m++) {
+						assertTrue(tIm[m] == 0.0d);
+						assertTrue(tRe[m] == ((m == Math.abs(tRes) - 1) ? Integer.signum(tRes) : 0));
+					}
+				}
+		}
+	}
+
+	@Test
+	public void testDenseMonads() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+		assertFalse(GCache.INSTANCE.isMatrixProducts()); // Callers must opt in
+		for (String tSig : new String[] { "+-+-+-+-+", "-+++-+++" }) {
+			Monad tA = new Monad("A", "Motion Algebra", "Foot Default Frame", "Test Foot", tSig,
+					FBuilder.REALD.createZERO(tCard));
+			Monad tB = new Monad("B", tA);
+			int tCount = tA.getAlgebra().getBladeCount();
+			RealD[] tVals = new RealD[tCount];
+			for (int k = 0; k < tCount; k++)
+				tVals[k] = RealD.create(tCard, Math.sin(k + 1.0d));
+			tA.setCoeff(tVals);
+			for (int k = 0; k < tCount; k++)
+				tVals[k] = RealD.create(tCard, Math.cos(3.0d * k));
+			tB.setCoeff(tVals);
+			assertTrue((long) tCount * tCount > MatrixProduct.cost((byte) tSig.length())); // Dense enough to qualify
+
+			long tHits = GCache.INSTANCE.getProductPatternHits();
+			long tMisses = GCache.INSTANCE.getProductPatternMisses();
+			GCache.INSTANCE.setMatrixProducts(true);
+			Monad tFast = (new Monad(tA)).multiplyRight(tB);
+			assertTrue(GCache.INSTANCE.getProductPatternHits() == tHits); // No pattern was asked for
+			assertTrue(GCache.INSTANCE.getProductPatternMisses() == tMisses);
+			assertTrue(GCache.INSTANCE.getMatrixProductListSize() > 0);
+			assertTrue((new Monad(tA)).multiplyRight(tB).isGEqual(tFast)); // Reused scratch starts clean
+			GCache.INSTANCE.setMatrixProducts(false);
+			Monad tSlow = (new Monad(tA)).multiplyRight(tB);
+			for (int k = 0; k < tCount; k++)
+				assertEquals(((RealD) tSlow.getCoeff(k)).getReal(), ((RealD) tFast.getCoeff(k)).getReal(), 1.0E-10d);
+		}
+		assertFalse(GCache.INSTANCE.isMatrixProducts());
+	}
+
+	@Test
+	public void testComplexAndRefusal() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+		GProduct tGP = new GProduct("-++");
+		GCache.INSTANCE.removeGProduct("-++");
+		GCache.INSTANCE.appendGProduct(tGP);
+		long tBytes = GCache.INSTANCE.getCachedBytes();
+		MatrixProduct tRep = GCache.INSTANCE.findMatrixProduct(tGP);
+		assertTrue(GCache.INSTANCE.findMatrixProduct(tGP) == tRep);
+		assertTrue(GCache.INSTANCE.getCachedBytes() == tBytes + GCache.estimateBytes(tRep));
+		GCache.INSTANCE.removeGProduct(tGP);
+		tBytes = GCache.INSTANCE.getCachedBytes();
+		assertFalse(GCache.INSTANCE.findMatrixProduct(tGP) == tRep);
+		assertFalse(GCache.INSTANCE.findMatrixProduct(tGP) == GCache.INSTANCE.findMatrixProduct(tGP)); // Not pinned
+		assertTrue(GCache.INSTANCE.getCachedBytes() == tBytes);
+
+		Monad tA = new Monad("A", "Motion Algebra", "Foot Default Frame", "Test Foot", "-++",
+				FBuilder.COMPLEXD.createZERO(tCard));
+		Monad tB = new Monad("B", tA);
+		ComplexD[] tVals = new ComplexD[8];
+		for (int k = 0; k < 8; k++)
+			tVals[k] = ComplexD.create(tCard, k - 3.0d, 1.0d - k);
+		tA.setCoeff(tVals);
+		for (int k = 0; k < 8; k++)
+			tVals[k] = ComplexD.create(tCard, 0.5d * k, k % 3);
+		tB.setCoeff(tVals);
+		Monad tTable = (new Monad(tA)).multiplyRight(tB);
+		double[][] tW = new double[4][8];
+		for (int k = 0; k < 8; k++) {
+			tW[0][k] = ((ComplexD) tA.getCoeff(k)).getReal();
+			tW[1][k] = ((ComplexD) tA.getCoeff(k)).getImg();
+			tW[2][k] = ((ComplexD) tB.getCoeff(k)).getReal();
+			tW[3][k] = ((ComplexD) tB.getCoeff(k)).getImg();
+		}
+		double[] tRe = new double[8];
+		double[] tIm = new double[8];
+		MatrixProduct tOwn = new MatrixProduct(tA.getAlgebra().getGProduct());
+		tOwn.multiply(tW[0], tW[1], tW[2], tW[3], tRe, tIm);
+		double[][] tScratch = tOwn.getWeightScratch();
+		tScratch[5][7] = 1.0d;
+		assertTrue(tOwn.getWeightScratch() == tScratch && tScratch[5][7] == 0.0d); // Reused and cleared
+		for (int k = 0; k < 8; k++) {
+			assertEquals(((ComplexD) tTable.getCoeff(k)).getReal(), tRe[k], 1.0E-12d);
+			assertEquals(((ComplexD) tTable.getCoeff(k)).getImg(), tIm[k], 1.0E-12d);
+		}
+		assertFalse(MatrixProduct.isSupported(new GProduct("+++0")));
+		assertThrows(IllegalArgumentException.class, () -> new MatrixProduct(new GProduct("+++0")));
+	}
+}
@@ -237,6 +237,21 @@ public class CoreMonadComplexDTest {
         assertTrue(tM6.isGEqual(testThis));
     }
 
+    @Test
+    public void testSignVectors() throws CladosMonadException {
+        ComplexD[] tVals = new ComplexD[16];
+        for (int k = 0; k < 16; k++)
+            tVals[k] = ComplexD.create(tCard, k + 1.0d, 0.5d - k);
+        tM6.setCoeff(tVals);
+        Monad tCC = (new Monad(tM6)).cliffordConjugate();
+        assertTrue(tCC.isGEqual((new Monad(tM6)).reverse().mainInvolution()));
+        Monad tRC = (new Monad(tM6)).reverseConjugate();
+        assertTrue(tRC.isGEqual((new Monad(tM6)).reverse().conjugate()));
+        assertFalse(tRC.isGEqual((new Monad(tM6)).reverse()));
+        assertTrue(tCC.cliffordConjugate().isGEqual(tM6));
+        assertTrue(tRC.getGradeMask() == tM6.getGradeMask());
+    }
+
     @Test
     public void testReverse() {
         Cardinal testCard = tM6.getWeights().getCardinal();
@@ -318,6 +333,25 @@ public class CoreMonadComplexDTest {
         assertTrue(((ComplexD) tryThis.getWeights().getScalar()).getReal() == 0.0d);
     }
 
+    @Test
+    public void testScalarProduct() throws CladosMonadException {
+        ComplexD[] tVals = new ComplexD[16];
+        for (int k = 0; k < 16; k++)
+            tVals[k] = ComplexD.create(tCard, k - 6.0d, 0.5d * k - 2.0d);
+        tM6.setCoeff(tVals);
+        tM7.setCoeff(tVals).reverse();
+        Monad tFull = (new Monad(tM6)).multiplyRight(tM7).gradePart((byte) 0);
+        ComplexD tFast = tM6.scalarProduct(tM7);
+        assertTrue(tFast.getReal() == ((ComplexD) tFull.getWeights().getScalar()).getReal());
+        assertTrue(tFast.getImg() == ((ComplexD) tFull.getWeights().getScalar()).getImg());
+
+        tFull = (new Monad(tM6)).reverseConjugate().multiplyRight(tM6).gradePart((byte) 0);
+        tFast = tM6.sqNorm();
+        assertTrue(tFast.getReal() == ((ComplexD) tFull.getWeights().getScalar()).getReal());
+        assertTrue(tFast.getImg() == 0.0d);
+        assertThrows(IllegalArgumentException.class, () -> tM6.scalarProduct(tM0));
+    }
+
     @Test
 	public void testMultiplication() {
         assertTrue(tM0.getSparseFlag());    //ZERO
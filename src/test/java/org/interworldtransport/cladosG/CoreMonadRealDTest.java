@@ -2,6 +2,10 @@ package org.interworldtransport.cladosG;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.interworldtransport.cladosF.Cardinal;
 import org.interworldtransport.cladosF.CladosField;
 import org.interworldtransport.cladosF.FBuilder;
@@ -387,6 +391,85 @@ public class CoreMonadRealDTest {
         assertTrue(((RealD) tM8.scales.getPScalar()).getReal() == 0.0d);
 	}
 
+    @Test
+	public void testParallelMultiplication() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+        Monad tBig = new Monad(mName + "RDBig", aName, "Foot Default Frame", "Test Foot Big", "-+++-+++",
+                        cRD[0]);                //Big enough to go parallel
+        tBig.setCoeff((RealD[]) FListBuilder.REALD.createONE(tCard, 256));
+        Monad tFirst = GBuilder.copyOfMonad(tBig).multiplyLeft(tBig);
+        Monad tSecond = GBuilder.copyOfMonad(tBig).multiplyLeft(tBig);
+        assertTrue(tFirst.isGEqual(tSecond));           //Reproducible when threads race
+
+        double tScalar = 0.0d;                          //Only e_i e_i lands on the scalar
+        for (int j = 0; j < 256; j++)
+            tScalar += tBig.getAlgebra().getGProduct().getSign(j, j);
+        assertTrue(((RealD) tFirst.scales.getScalar()).getReal() == tScalar);
+        assertTrue(((RealD) GBuilder.copyOfMonad(tBig).multiplyRight(tBig).scales.getScalar()).getReal() == tScalar);
+    }
+
+    @Test
+	public void testSandwich() throws CladosMonadException {
+        Monad tR = new Monad(mName + "RDR", tM6);
+        RealD[] tRot = (RealD[]) FListBuilder.REALD.create(tCard, 16);
+        tRot[0] = new RealD(tCard, Math.cos(0.3d));
+        tRot[5] = new RealD(tCard, Math.sin(0.3d));    //A single bivector blade
+        tR.setCoeff(tRot);
+
+        Monad tLong = GBuilder.copyOfMonad(tM6).multiplyLeft(tR).multiplyRight(GBuilder.copyOfMonad(tR).reverse());
+        Outermorphism tMap = new Outermorphism(tR);
+        tM7.sandwich(tMap);
+        for (int j = 0; j < 16; j++)
+            assertEquals(((RealD) tLong.getCoeff(j)).getReal(), ((RealD) tM7.getCoeff(j)).getReal(), 1.0E-12d);
+        assertTrue(tM7.getGradeMask() == tM6.getGradeMask());
+
+        Monad tViewed = new Monad(mName + "RDV", tM6);
+        tViewed.setCoeff((RealD[]) FListBuilder.REALD.create(tCard, 16));
+        assertTrue(tViewed.getGradeMask() == 1);                   //Zero reports the scalar grade
+        ((RealD) tViewed.getCoeff(5)).setReal(Math.sin(0.3d));     //Written through a view
+        ((RealD) tViewed.getCoeff(0)).setReal(Math.cos(0.3d));
+        Monad tSet = new Monad(mName + "RDS", tM6);
+        tSet.setCoeff(tRot);
+        Monad tViewedProd = GBuilder.copyOfMonad(tM6).multiplyRight(tViewed);
+        Monad tSetProd = GBuilder.copyOfMonad(tM6).multiplyRight(tSet);
+        for (int j = 0; j < 16; j++)
+            assertTrue(((RealD) tViewedProd.getCoeff(j)).getReal() == ((RealD) tSetProd.getCoeff(j)).getReal());
+
+        tM8.setCoeff(tRot);                             //Only grades 0 and 2 go in
+        tM8.sandwich(tR);
+        assertTrue(tM8.getGradeMask() == 0b101);        //So only grades 0 and 2 come out
+
+        assertThrows(IllegalArgumentException.class, () -> new Outermorphism(tM6));   //Not a versor
+        assertThrows(IllegalArgumentException.class, () -> tM0.sandwich(tMap));      //Other algebra
+    }
+
+    @Test
+	public void testBatchSandwich() throws CladosMonadException {
+        Monad tR = new Monad(mName + "RDR", tM6);
+        RealD[] tRot = (RealD[]) FListBuilder.REALD.create(tCard, 16);
+        tRot[0] = new RealD(tCard, Math.cosh(0.2d));
+        tRot[5] = new RealD(tCard, Math.sinh(0.2d));
+        tR.setCoeff(tRot);
+        Outermorphism tMap = new Outermorphism(tR);
+        Monad tOne = GBuilder.copyOfMonad(tM6).sandwich(tMap);
+
+        List<Monad> tTargets = new ArrayList<>();
+        for (int k = 0; k < 3 * CladosConstant.BATCH_CHUNK + 1; k++)   //Several chunks
+            tTargets.add(GBuilder.copyOfMonad(tM6));
+        Monad.sandwich(tMap, tTargets);
+        tTargets.forEach(target -> assertTrue(target.isGEqual(tOne)));  //Same arithmetic every time
+
+        double[] tBatch = new double[16 * tTargets.size()];
+        Arrays.fill(tBatch, 1.0d);                           //All copies of tM6
+        tMap.apply(tBatch);
+        for (int k = 0; k < tBatch.length; k++)
+            assertTrue(tBatch[k] == ((RealD) tOne.getCoeff(k % 16)).getReal());
+        assertThrows(IllegalArgumentException.class, () -> tMap.apply(new double[17]));
+
+        tTargets.add(tM0);                                              //Wrong algebra at the end
+        assertThrows(IllegalArgumentException.class, () -> Monad.sandwich(tMap, tTargets));
+        assertTrue(tTargets.get(0).isGEqual(tOne));                     //Nothing changed
+    }
+
     @Test
 	public void testPSMultiplication() {
         tM8 = new Monad(tM6);
@@ -407,6 +490,56 @@ public class CoreMonadRealDTest {
         assertTrue(((RealD) tM8.scales.getScalar()).getReal() == -1.0d);
         assertTrue(((RealD) tM8.scales.getPScalar()).getReal() == -1.0d);
     }
+
+    @Test
+    public void testFusedSymm() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+        for (String tSig : new String[] { "-+++", "+-+0", "+-+-+-+-+" }) { //The last one is too big for a pattern
+            Monad tA = new Monad(mName + "SA", aName, "Foot Default Frame", "Test Foot S", tSig,
+                            FBuilder.REALD.createZERO(tCard));
+            Monad tB = new Monad(mName + "SB", tA);
+            int tCount = tA.getAlgebra().getBladeCount();
+            RealD[] tVals = (RealD[]) FListBuilder.REALD.create(tCard, tCount);
+            for (int k = 0; k < tCount; k++)
+                tVals[k] = RealD.create(tCard, k % 7 - 3.0d);
+            tA.setCoeff(tVals);
+            for (int k = 0; k < tCount; k++)
+                tVals[k] = RealD.create(tCard, k % 5 - 1.5d);
+            tB.setCoeff(tVals);
+            Monad tRight = (new Monad(tA)).multiplyRight(tB);
+            Monad tSum = (new Monad(tA)).multiplyLeft(tB).add(tRight).scale(RealD.create(tCard, 0.5d));
+            assertTrue((new Monad(tA)).multiplySymm(tB).isGEqual(tSum));
+            Monad tDiff = (new Monad(tA)).multiplyLeft(tB).subtract(tRight).scale(RealD.create(tCard, 0.5d));
+            assertTrue((new Monad(tA)).multiplyAntisymm(tB).isGEqual(tDiff));
+        }
+    }
+
+    @Test
+    public void testPSMatchesProduct() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+        for (String tSig : new String[] { "-+++", "+++0", "+-+-+" }) {
+            Monad tM = new Monad(mName + "PS", aName, "Foot Default Frame", "Test Foot PS", tSig,
+                            FBuilder.REALD.createZERO(tCard));
+            int tCount = tM.getAlgebra().getBladeCount();
+            RealD[] tVals = (RealD[]) FListBuilder.REALD.create(tCard, tCount);
+            for (int k = 0; k < tCount; k++)
+                tVals[k] = RealD.create(tCard, (k % 3 == 1) ? 0.0d : k - 2.5d);
+            tM.setCoeff(tVals);
+            Monad tOld = (new Monad(tM)).multiplyLeft(GBuilder.pscalarOfMonad(tM));
+            assertTrue((new Monad(tM)).multiplyByPSLeft().isGEqual(tOld));
+            tOld = (new Monad(tM)).multiplyRight(GBuilder.pscalarOfMonad(tM));
+            assertTrue((new Monad(tM)).multiplyByPSRight().isGEqual(tOld));
+        }
+        PScalarMap tMap = GCache.INSTANCE.findPScalarMap(tM6.getAlgebra().getGProduct());
+        assertTrue(GCache.INSTANCE.findPScalarMap(tM6.getAlgebra().getGProduct()) == tMap);
+        assertFalse(tMap.isDegenerate());
+        Monad tD = new Monad(mName + "PS0", aName, "Foot Default Frame", "Test Foot PS0", "+++0", cRD[0]);
+        tD.setCoeff(cRD);
+        assertTrue(GCache.INSTANCE.findPScalarMap(tD.getAlgebra().getGProduct()).isDegenerate());
+        tD.multiplyByPSLeft();
+        assertTrue(tD.getGradeMask() == 0b11110);               //Nothing lands on the scalar
+        assertTrue(((RealD) tD.scales.getPScalar()).getReal() == 1.0d);
+        tD.multiplyByPSLeft();
+        assertTrue(Monad.isGZero(tD));                          //Everything left holds e4
+    }
     
 	@Test
 	public void testXMLOutputs() {
@@ -389,6 +389,18 @@ public class CoreMonadRealFTest {
         assertTrue(((RealF) tM8.scales.getPScalar()).getReal() == 0.0f);
 	}
 
+    @Test
+	public void testMultiplicationValidation() {
+        tM8 = new Monad(tM6);
+        ((RealF) tM7.getWeights().getPScalar()).setReal(Float.NaN);
+        assertThrows(IllegalArgumentException.class, () -> tM8.multiplyLeft(tM7));     //Checked once, not per pair
+        assertThrows(IllegalArgumentException.class, () -> tM8.multiplyRight(tM7));
+        ((RealF) tM7.getWeights().getPScalar()).setReal(Float.POSITIVE_INFINITY);
+        assertThrows(IllegalArgumentException.class, () -> tM8.multiplyLeft(tM7));
+        ((RealF) tM7.getWeights().getPScalar()).setReal(1.0f);
+        assertDoesNotThrow(() -> tM8.multiplyLeft(tM7));
+    }
+
     @Test
 	public void testPSMultiplication() {
         tM8 = new Monad(tM6);
@@ -0,0 +1,91 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.interworldtransport.cladosF.Cardinal;
+import org.interworldtransport.cladosF.ComplexD;
+import org.interworldtransport.cladosF.FBuilder;
+import org.interworldtransport.cladosF.RealD;
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.CladosMonadException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.Test;
+
+class CoreMultiplierTest {
+	Cardinal tCard = Cardinal.generate("TestMultipliers");
+
+	private Monad realMonad(String pSig, double pOffset) throws BadSignatureException, CladosMonadException,
+			GeneratorRangeException {
+		Monad tM = new Monad("Fixed", "Motion Algebra", "Foot Default Frame", "Test Foot", pSig,
+				FBuilder.REALD.createZERO(tCard));
+		RealD[] tVals = new RealD[tM.getAlgebra().getBladeCount()];
+		for (int k = 0; k < tVals.length; k++)
+			tVals[k] = RealD.create(tCard, (k % 3 == 2) ? 0.0d : k - pOffset);
+		return tM.setCoeff(tVals);
+	}
+
+	@Test
+	public void testMatchesProducts() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+		for (String tSig : new String[] { "-+++", "+++0" }) {
+			Monad tA = realMonad(tSig, 4.5d);
+			Monad tX = new Monad("X", tA);
+			RealD[] tVals = new RealD[tA.getAlgebra().getBladeCount()];
+			for (int k = 0; k < tVals.length; k++)
+				tVals[k] = RealD.create(tCard, 1.0d - k % 4);
+			tX.setCoeff(tVals);
+			Multiplier tLeft = new Multiplier(tA, true);
+			Multiplier tRight = new Multiplier(tA, false);
+			assertTrue((new Monad(tX)).multiply(tLeft).isGEqual((new Monad(tX)).multiplyLeft(tA)));
+			assertTrue((new Monad(tX)).multiply(tRight).isGEqual((new Monad(tX)).multiplyRight(tA)));
+		}
+		Multiplier tDegen = new Multiplier(realMonad("+++0", 4.5d), true);
+		assertTrue(tDegen.size() < new Multiplier(realMonad("-+++", 4.5d), true).size()); // Degenerate pairs dropped
+	}
+
+	@Test
+	public void testCompose() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+		Monad tA = realMonad("-+++", 4.5d);
+		Monad tB = new Monad("B", tA);
+		RealD[] tVals = new RealD[16];
+		for (int k = 0; k < 16; k++)
+			tVals[k] = RealD.create(tCard, (k < 5) ? k - 2.0d : 0.0d);
+		tB.setCoeff(tVals);
+		Monad tX = new Monad("X", tA).multiplyRight(tB);
+		Multiplier tBoth = new Multiplier(tA, true).then(new Multiplier(tB, false));
+		Monad tLong = (new Monad(tX)).multiplyLeft(tA).multiplyRight(tB);
+		assertTrue((new Monad(tX)).multiply(tBoth).isGEqual(tLong)); // A X B in one step
+
+		double[] tIn = new double[16];
+		double[] tOut = new double[16];
+		for (int k = 0; k < 16; k++)
+			tIn[k] = ((RealD) tX.getCoeff(k)).getReal();
+		tBoth.apply(tIn, tOut);
+		for (int k = 0; k < 16; k++)
+			assertTrue(tOut[k] == ((RealD) tLong.getCoeff(k)).getReal());
+		assertThrows(IllegalArgumentException.class, () -> tBoth.apply(tIn, tIn));
+		assertThrows(IllegalArgumentException.class, () -> tBoth.apply(tIn, new double[8]));
+	}
+
+	@Test
+	public void testComplex() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+		Monad tA = new Monad("Fixed", "Motion Algebra", "Foot Default Frame", "Test Foot", "+-+",
+				FBuilder.COMPLEXD.createZERO(tCard));
+		Monad tX = new Monad("X", tA);
+		ComplexD[] tVals = new ComplexD[8];
+		for (int k = 0; k < 8; k++)
+			tVals[k] = ComplexD.create(tCard, k - 3.0d, 0.5d * k);
+		tA.setCoeff(tVals);
+		for (int k = 0; k < 8; k++)
+			tVals[k] = ComplexD.create(tCard, 2.0d - k, 1.0d);
+		tX.setCoeff(tVals);
+		Multiplier tRight = new Multiplier(tA, false);
+		assertTrue((new Monad(tX)).multiply(tRight).isGEqual((new Monad(tX)).multiplyRight(tA)));
+		double[] tScratch = tRight.getScratch();
+		assertTrue(tScratch.length == 16); // Room for the real and imaginary part of each blade
+		tScratch[3] = 1.0d;
+		assertTrue(tRight.getScratch() == tScratch && tScratch[3] == 0.0d); // Reused and cleared
+		assertTrue((new Monad(tX)).multiply(tRight).isGEqual((new Monad(tX)).multiplyRight(tA)));
+		Monad tR = realMonad("+-+", 1.0d);
+		assertThrows(IllegalArgumentException.class, () -> tR.multiply(new Multiplier(tA, true)));
+	}
+}
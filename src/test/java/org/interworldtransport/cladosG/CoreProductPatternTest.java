@@ -0,0 +1,139 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.interworldtransport.cladosF.Cardinal;
+import org.interworldtransport.cladosF.CladosField;
+import org.interworldtransport.cladosF.ComplexD;
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.Test;
+
+class CoreProductPatternTest {
+	String pSig4 = "-+++";
+	String pSig30 = "+++0";
+
+	@Test
+	public void testMatchesTable() throws BadSignatureException, GeneratorRangeException {
+		GProduct tGP = new GProduct(pSig4);
+		ProductPattern tPat = new ProductPattern(tGP, 0b00110, 0b00010); // {1,2} by {1}
+		assertTrue(tPat.size() == 4 * 10); // No zero cells in a non-degenerate table
+		assertTrue(ProductPattern.pairCount(tGP.getBasis(), 0b00110, 0b00010) == 40);
+		for (int k = 0; k < tPat.size(); k++) {
+			int tRes = tGP.getResult(tPat.getLefts()[k], tPat.getRights()[k]);
+			assertTrue(Math.abs(tRes) - 1 == tPat.getOuts()[k]);
+			assertTrue(Integer.signum(tRes) == tPat.getSigns()[k]);
+		}
+	}
+
+	@Test
+	public void testDegenerateDropped() throws BadSignatureException, GeneratorRangeException {
+		GProduct tGP = new GProduct(pSig30);
+		ProductPattern tPat = new ProductPattern(tGP, 0b00010, 0b00010); // vector by vector
+		assertTrue(tPat.size() == 16 - 1); // e4 e4 is zero and skipped
+	}
+
+	@Test
+	public void testKernel() throws BadSignatureException, GeneratorRangeException {
+		Cardinal tCard = Cardinal.generate("TestKernels");
+		for (String tSig : new String[] { "+++", "0+++" }) {
+			GProduct tGP = new GProduct(tSig);
+			int tLeftMask = tSig.length() == 3 ? 0b0010 : 0b00101; // vector by vector or rotor by vector
+			ProductPattern tPat = new ProductPattern(tGP, tLeftMask, 0b0010);
+			ProductKernel tKer = tPat.getKernel();
+			assertTrue(tPat.getKernel() == tKer);
+			assertTrue(tKer.size() == tPat.size());
+			int[] tStarts = tKer.getStarts();
+			for (int g = 0; g < tKer.outputCount(); g++)
+				for (int k = tStarts[g]; k < tStarts[g + 1]; k++) {
+					int tRes = tGP.getResult(tKer.getLefts()[k], tKer.getRights()[k]);
+					assertTrue(Math.abs(tRes) - 1 == tKer.getOuts()[g]);
+					assertTrue(Integer.signum(tRes) == ((k < tKer.getMinusStarts()[g]) ? 1 : -1));
+				}
+
+			int tCount = tGP.getBladeCount();
+			Scale<ComplexD> tA = new Scale<>(CladosField.COMPLEXD, tGP.getBasis(), tCard);
+			Scale<ComplexD> tB = new Scale<>(CladosField.COMPLEXD, tGP.getBasis(), tCard);
+			for (int k = 0; k < tCount; k++) {
+				tA.put(tGP.getBasis().getSingleBlade(k), ComplexD.create(tCard, k + 0.5d, 1.0d - k));
+				tB.put(tGP.getBasis().getSingleBlade(k), ComplexD.create(tCard, 2.0d - k, 0.25d * k));
+			}
+			Scale<ComplexD> tWalk = new Scale<ComplexD>(CladosField.COMPLEXD, tGP.getBasis(), tCard).addPattern(tPat,
+					tA, tB);
+			Scale<ComplexD> tRun = new Scale<ComplexD>(CladosField.COMPLEXD, tGP.getBasis(), tCard).addKernel(tKer, tA,
+					tB);
+			for (int k = 0; k < tCount; k++) {
+				ComplexD tW = tWalk.get(tGP.getBasis().getSingleBlade(k));
+				ComplexD tR = tRun.get(tGP.getBasis().getSingleBlade(k));
+				assertEquals(tW.getReal(), tR.getReal(), 1.0E-12d);
+				assertEquals(tW.getImg(), tR.getImg(), 1.0E-12d);
+			}
+		}
+	}
+
+	@Test
+	public void testCache() throws BadSignatureException, GeneratorRangeException {
+		CliffordProduct tGP = new GProduct(pSig4);
+		GCache.INSTANCE.removeGProduct(pSig4);
+		GCache.INSTANCE.appendGProduct(tGP);
+		assertTrue(GCache.INSTANCE.isCached(tGP));
+		long tMisses = GCache.INSTANCE.getProductPatternMisses();
+		long tHits = GCache.INSTANCE.getProductPatternHits();
+		long tBytes = GCache.INSTANCE.getCachedBytes();
+		ProductPattern tPat = GCache.INSTANCE.findProductPattern(tGP, 0b00010, 0b00100);
+		assertTrue(GCache.INSTANCE.getProductPatternMisses() == tMisses + 1);
+		assertTrue(GCache.INSTANCE.getCachedBytes() == tBytes + GCache.estimateBytes(tPat)); // Patterns count
+		assertTrue(GCache.INSTANCE.findProductPattern(tGP, 0b00010, 0b00100) == tPat);
+		assertTrue(GCache.INSTANCE.getProductPatternHits() == tHits + 1);
+		assertTrue(GCache.INSTANCE.getProductPatternListSize() <= CladosConstant.PATTERN_CACHE_MAX);
+		GCache.INSTANCE.clearProductPatterns();
+		assertTrue(GCache.INSTANCE.getCachedBytes() <= tBytes); // Cleared patterns don't count
+		tPat = GCache.INSTANCE.findProductPattern(tGP, 0b00010, 0b00100);
+		GCache.INSTANCE.removeGProduct(tGP);
+		int tHeld = GCache.INSTANCE.getProductPatternListSize();
+		assertFalse(GCache.INSTANCE.findProductPattern(tGP, 0b00010, 0b00100) == tPat);
+		assertTrue(GCache.INSTANCE.getProductPatternListSize() == tHeld); // Uncached products pin nothing
+	}
+
+	@Test
+	public void testConcurrentFind() throws Exception {
+		CliffordProduct tGP = new GProduct(pSig4);
+		GCache.INSTANCE.removeGProduct(pSig4);
+		GCache.INSTANCE.appendGProduct(tGP);
+		ExecutorService tPool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<ProductPattern>> tAsks = tPool.invokeAll(IntStream.range(0, 8)
+					.mapToObj(k -> (Callable<ProductPattern>) () -> GCache.INSTANCE.findProductPattern(tGP, 0b11111, 0b11111))
+					.toList());
+			for (Future<ProductPattern> tAsk : tAsks)
+				assertTrue(tAsk.get() == tAsks.get(0).get()); // Everyone got the same one
+		} finally {
+			tPool.shutdown();
+		}
+		assertTrue(GCache.INSTANCE.findPScalarMap(tGP) == GCache.INSTANCE.findPScalarMap(tGP));
+		GCache.INSTANCE.removeGProduct(tGP);
+	}
+
+	@Test
+	public void testBound() throws BadSignatureException, GeneratorRangeException {
+		CliffordProduct tGP = new GProduct(pSig4);
+		GCache.INSTANCE.removeGProduct(pSig4);
+		GCache.INSTANCE.appendGProduct(tGP);
+		long tEvictions = GCache.INSTANCE.getProductPatternEvictions();
+		ProductPattern tKept = GCache.INSTANCE.findProductPattern(tGP, 0b00001, 0b00001);
+		for (int k = 1; k <= CladosConstant.PATTERN_CACHE_MAX + 8; k++) {
+			GCache.INSTANCE.findProductPattern(tGP, k >> 5, k & 0b11111);
+			assertTrue(GCache.INSTANCE.findProductPattern(tGP, 0b00001, 0b00001) == tKept); // Used, so kept
+		}
+		assertTrue(GCache.INSTANCE.getProductPatternListSize() <= CladosConstant.PATTERN_CACHE_MAX);
+		assertTrue(GCache.INSTANCE.getProductPatternEvictions() > tEvictions);
+		GCache.INSTANCE.removeGProduct(tGP);
+	}
+}
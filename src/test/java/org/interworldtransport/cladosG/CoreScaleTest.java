@@ -395,10 +395,10 @@ public class CoreScaleTest {
         workScaleCF.setWeightsArray(tCF);
         workScaleCD.setWeightsArray(tCD);
 
-        assertTrue(workScaleRF.getScalar() == tRF[0]);
-        assertTrue(workScaleRF.getScalar() == tRF[0]);
-        assertTrue(workScaleRF.getScalar() == tRF[0]);
-        assertTrue(workScaleRF.getScalar() == tRF[0]);
+        assertTrue(workScaleRF.getScalar().getReal() == tRF[0].getReal()); //Values copied. Not references.
+        assertTrue(workScaleRD.getScalar().getReal() == tRD[0].getReal());
+        assertTrue(workScaleCF.getScalar().getReal() == tCF[0].getReal());
+        assertTrue(workScaleCD.getScalar().getReal() == tCD[0].getReal());
 
         tRF = (RealF[]) FListBuilder.REALF.create(workCard, 3);            //new RealF[3];
         tRD = (RealD[]) FListBuilder.REALD.create(workCard, 3);            //new RealD[3];
@@ -455,6 +455,53 @@ public class CoreScaleTest {
         assertFalse(ComplexD.isZero(workScaleCD.getScalar()));
     }
 
+    @Test
+    public void testGradeCounts() {
+        assertTrue(workScaleRF.getGradeMask() == 0);                        //ZERO has no grades
+        workScaleRF.put(workBasis.getSingleBlade(1), FBuilder.REALF.createONE(workCard));
+        workScaleRF.put(workBasis.getSingleBlade(2), FBuilder.REALF.createONE(workCard));
+        workScaleRF.put(workBasis.getPScalarBlade(), FBuilder.REALF.createONE(workCard));
+        assertTrue(workScaleRF.getGradeMask() == 0b1010);                   //Vector and pscalar
+        assertTrue(workScaleRF.getNonZeroCount((byte) 1) == 2);
+        assertTrue(workScaleRF.getNonZeroCount((byte) 9) == 0);             //Not a grade here
+
+        workScaleRF.zeroAt(workBasis.getSingleBlade(1));
+        assertTrue(workScaleRF.getNonZeroCount((byte) 1) == 1);
+        workScaleRF.zeroAtGrade((byte) 3);
+        assertTrue(workScaleRF.getGradeMask() == 0b0010);
+
+        Scale<RealF> tCopy = new Scale<>(workScaleRF);
+        workScaleRF.subtract(tCopy);                                        //Counted while subtracting
+        assertTrue(workScaleRF.getGradeMask() == 0);
+        tCopy.scale(FBuilder.REALF.createZERO(workCard));                   //Counted while scaling
+        assertTrue(tCopy.getGradeMask() == 0);
+
+        workScaleCD.getScalar().setImg(1.0d);                               //Views mark the scale stale
+        assertTrue(workScaleCD.getGradeMask() == 0b0001);
+        workScaleCD.getPScalar().setReal(2.0d);
+        assertTrue(workScaleCD.getNonZeroCount((byte) 3) == 1);
+        assertTrue(new Scale<>(workScaleCD).getGradeMask() == 0b1001);
+    }
+
+    @Test
+    public void testFiniteTracking() {
+        assertTrue(workScaleRD.isFinite());                                 //ZERO is finite
+        workScaleRD.put(workBasis.getSingleBlade(1), FBuilder.REALD.createONE(workCard));
+        assertTrue(workScaleRD.isFinite());
+        workScaleRD.getScalar().setReal(Double.NaN);                        //Views mark the scale stale
+        assertFalse(workScaleRD.isFinite());
+        workScaleRD.getScalar().setReal(0.0d);
+        assertTrue(workScaleRD.isFinite());
+
+        workScaleRF.put(workBasis.getScalarBlade(), FBuilder.REALF.createONE(workCard));
+        workScaleRF.scale(new RealF(workCard, Float.MAX_VALUE));
+        assertTrue(workScaleRF.isFinite());
+        workScaleRF.scale(new RealF(workCard, 2.0f));                       //Overflows while scaling
+        assertFalse(workScaleRF.isFinite());
+        workScaleRF.zeroAll();
+        assertTrue(workScaleRF.isFinite());
+    }
+
     @Test
     public void testSetWeightsMap() {
         RealF[] tRF = (RealF[]) FListBuilder.REALF.createONE(workCard, 8);            //new RealF[8];
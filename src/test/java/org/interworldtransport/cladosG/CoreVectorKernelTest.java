@@ -0,0 +1,110 @@
+package org.interworldtransport.cladosG;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.interworldtransport.cladosF.Cardinal;
+import org.interworldtransport.cladosF.CladosField;
+import org.interworldtransport.cladosF.ComplexD;
+import org.interworldtransport.cladosF.ComplexF;
+import org.interworldtransport.cladosF.FBuilder;
+import org.interworldtransport.cladosF.RealD;
+import org.interworldtransport.cladosF.RealF;
+import org.interworldtransport.cladosGExceptions.BadSignatureException;
+import org.interworldtransport.cladosGExceptions.CladosMonadException;
+import org.interworldtransport.cladosGExceptions.GeneratorRangeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoreVectorKernelTest {
+	Cardinal tCard = Cardinal.generate("TestLanes");
+	String pSig = "-+++";
+
+	private Monad filled(Monad pM, double pOffset) throws CladosMonadException {
+		int tCount = pM.getAlgebra().getBladeCount();
+		switch (pM.getMode()) {
+			case REALF -> {
+				RealF[] tVals = new RealF[tCount];
+				for (int k = 0; k < tCount; k++)
+					tVals[k] = RealF.create(tCard, (float) Math.sin(k + pOffset));
+				pM.setCoeff(tVals);
+			}
+			case REALD -> {
+				RealD[] tVals = new RealD[tCount];
+				for (int k = 0; k < tCount; k++)
+					tVals[k] = RealD.create(tCard, Math.sin(k + pOffset));
+				pM.setCoeff(tVals);
+			}
+			case COMPLEXF -> {
+				ComplexF[] tVals = new ComplexF[tCount];
+				for (int k = 0; k < tCount; k++)
+					tVals[k] = ComplexF.create(tCard, (float) Math.sin(k + pOffset), (float) Math.cos(k - pOffset));
+				pM.setCoeff(tVals);
+			}
+			case COMPLEXD -> {
+				ComplexD[] tVals = new ComplexD[tCount];
+				for (int k = 0; k < tCount; k++)
+					tVals[k] = ComplexD.create(tCard, Math.sin(k + pOffset), Math.cos(k - pOffset));
+				pM.setCoeff(tVals);
+			}
+		}
+		return pM;
+	}
+
+	private void assertClose(Monad pA, Monad pB, double pTol) {
+		for (int k = 0; k < pA.getAlgebra().getBladeCount(); k++)
+			switch (pA.getMode()) {
+				case REALF -> assertEquals(((RealF) pA.getCoeff(k)).getReal(), ((RealF) pB.getCoeff(k)).getReal(), pTol);
+				case REALD -> assertEquals(((RealD) pA.getCoeff(k)).getReal(), ((RealD) pB.getCoeff(k)).getReal(), pTol);
+				case COMPLEXF -> {
+					assertEquals(((ComplexF) pA.getCoeff(k)).getReal(), ((ComplexF) pB.getCoeff(k)).getReal(), pTol);
+					assertEquals(((ComplexF) pA.getCoeff(k)).getImg(), ((ComplexF) pB.getCoeff(k)).getImg(), pTol);
+				}
+				case COMPLEXD -> {
+					assertEquals(((ComplexD) pA.getCoeff(k)).getReal(), ((ComplexD) pB.getCoeff(k)).getReal(), pTol);
+					assertEquals(((ComplexD) pA.getCoeff(k)).getImg(), ((ComplexD) pB.getCoeff(k)).getImg(), pTol);
+				}
+			}
+	}
+
+	@AfterEach
+	public void restore() {
+		VectorKernel.setEnabled(true);
+	}
+
+	@Test
+	public void testSwitch() {
+		assertTrue(VectorKernel.setEnabled(true) == VectorKernel.isAvailable());
+		assertFalse(VectorKernel.setEnabled(false));
+		assertFalse(VectorKernel.isEnabled());
+	}
+
+	@Test
+	public void testMatchesScalar() throws BadSignatureException, CladosMonadException, GeneratorRangeException {
+		Monad[] tA = new Monad[] {
+				new Monad("A", "Motion Algebra", "Foot Default Frame", "Test Foot", pSig, FBuilder.REALF.createZERO(tCard)),
+				new Monad("A", "Motion Algebra", "Foot Default Frame", "Test Foot", pSig, FBuilder.REALD.createZERO(tCard)),
+				new Monad("A", "Motion Algebra", "Foot Default Frame", "Test Foot", pSig,
+						FBuilder.COMPLEXF.createZERO(tCard)),
+				new Monad("A", "Motion Algebra", "Foot Default Frame", "Test Foot", pSig,
+						FBuilder.COMPLEXD.createZERO(tCard)) };
+		for (Monad tM : tA) {
+			double tTol = (tM.getMode() == CladosField.REALF || tM.getMode() == CladosField.COMPLEXF) ? 1.0E-4d
+					: 1.0E-12d;
+			filled(tM, 0.5d);
+			Monad tB = filled(new Monad("B", tM), 2.0d);
+			Monad[] tRuns = new Monad[10];
+			for (int run = 0; run < 2; run++) {
+				VectorKernel.setEnabled(run == 0);
+				tRuns[5 * run] = (new Monad(tM)).add(tB);
+				tRuns[5 * run + 1] = (new Monad(tM)).subtract(tB);
+				tRuns[5 * run + 2] = (new Monad(tM)).scale(tB.getCoeff(3));
+				tRuns[5 * run + 3] = (new Monad(tM)).conjugate();
+				tRuns[5 * run + 4] = (new Monad(tM)).multiplyRight(tB); // Products must not notice the switch
+			}
+			for (int k = 0; k < 5; k++)
+				assertClose(tRuns[k], tRuns[k + 5], tTol);
+			assertTrue(tRuns[1].getGradeMask() == tRuns[6].getGradeMask());
+			assertTrue(Monad.isGZero((new Monad(tM)).subtract(tM))); // Counts rebuilt after lanes
+		}
+	}
+}